@@ -7,6 +7,7 @@ CREATE DATABASE IF NOT EXISTS seminar_db;
 USE seminar_db;
 
 -- Drop existing tables (for clean setup)
+DROP TABLE IF EXISTS schema_version;
 DROP TABLE IF EXISTS votes;
 DROP TABLE IF EXISTS evaluations;
 DROP TABLE IF EXISTS poster_boards;
@@ -149,6 +150,19 @@ CREATE INDEX idx_users_role ON users(role);
 CREATE INDEX idx_sessions_date ON sessions(session_date);
 CREATE INDEX idx_evaluations_presenter ON evaluations(presenter_id);
 CREATE INDEX idx_evaluations_evaluator ON evaluations(evaluator_id);
+-- Same indexes as the application's schema migrations (see SchemaMigrator);
+-- the migrator records them in schema_version on first start
+CREATE INDEX idx_session_presenters_presenter ON session_presenters(presenter_id);
+CREATE INDEX idx_session_evaluators_evaluator ON session_evaluators(evaluator_id);
+CREATE INDEX idx_users_presenter_id ON users(presenter_id);
+CREATE INDEX idx_users_evaluator_id ON users(evaluator_id);
+CREATE INDEX idx_poster_boards_session ON poster_boards(session_id);
+CREATE INDEX idx_evaluations_session ON evaluations(session_id);
+CREATE UNIQUE INDEX uq_evaluations_evaluator_presenter ON evaluations(evaluator_id, presenter_id);
+CREATE INDEX idx_users_updated_at ON users(updated_at);
+CREATE INDEX idx_sessions_updated_at ON sessions(updated_at);
+CREATE INDEX idx_evaluations_submitted_at ON evaluations(submitted_at);
+CREATE INDEX idx_poster_boards_assigned_at ON poster_boards(assigned_at);
 
 -- Show tables created
 SHOW TABLES;
@@ -0,0 +1,73 @@
+package com.fci.seminar.model;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Records which persistent properties of an entity have been set since it was last
+ * loaded from or written to the database, so a save can update just those columns.
+ * Until an entity has been loaded or written once, and after it is restored from a
+ * snapshot, it is untracked and is saved whole.
+ * <p>
+ * Safe for concurrent use: a save takes the dirty set in one step, and properties
+ * set while it is being written stay dirty for the next save.
+ */
+public final class DirtyFields {
+
+    // Guarded by this
+    private final Set<String> dirty = new HashSet<>();
+    private boolean tracked;
+
+    synchronized void mark(String property) {
+        dirty.add(property);
+    }
+
+    /**
+     * Starts tracking from a clean state; called once an entity has been read from the database.
+     */
+    public synchronized void markClean() {
+        dirty.clear();
+        tracked = true;
+    }
+
+    /**
+     * Takes the properties to write and clears them.
+     * @return the dirty properties, or null if the entity is untracked and must be written whole
+     */
+    public synchronized Set<String> take() {
+        Set<String> taken = tracked ? new HashSet<>(dirty) : null;
+        dirty.clear();
+        return taken;
+    }
+
+    /**
+     * Records that the properties returned by {@link #take()} have been written.
+     * Properties set since then remain dirty.
+     */
+    public synchronized void written() {
+        tracked = true;
+    }
+
+    /**
+     * Undoes a {@link #take()} whose write failed or was rolled back.
+     * @param properties what take() returned; null makes the entity untracked again
+     */
+    public synchronized void restore(Set<String> properties) {
+        if (properties == null) {
+            tracked = false;
+        } else {
+            dirty.addAll(properties);
+        }
+    }
+
+    public synchronized boolean isTracked() {
+        return tracked;
+    }
+
+    /**
+     * Checks if a property has been set since the entity was last loaded or written.
+     */
+    public synchronized boolean isDirty(String property) {
+        return dirty.contains(property);
+    }
+}
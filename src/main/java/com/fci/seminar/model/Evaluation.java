@@ -1,8 +1,11 @@
 package com.fci.seminar.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Represents an evaluation of a presenter by an evaluator.
@@ -16,7 +19,12 @@ public class Evaluation implements Serializable {
     private String sessionId;
     private RubricScores scores;
     private String comments;
+    // Evaluations loaded as a projection fetch their comments on demand instead of holding them
+    private boolean commentsLoaded = true;
+    private transient Supplier<String> commentsLoader;
     private LocalDateTime timestamp;
+    // Not serialized, so an entity restored from a snapshot is saved whole
+    private transient DirtyFields dirtyFields = new DirtyFields();
 
     public Evaluation() {
         this.timestamp = LocalDateTime.now();
@@ -28,7 +36,7 @@ public class Evaluation implements Serializable {
         this.presenterId = presenterId;
         this.evaluatorId = evaluatorId;
         this.sessionId = sessionId;
-        this.scores = scores;
+        this.scores = copyOf(scores);
         this.comments = comments;
         this.timestamp = LocalDateTime.now();
     }
@@ -47,6 +55,7 @@ public class Evaluation implements Serializable {
 
     public void setPresenterId(String presenterId) {
         this.presenterId = presenterId;
+        markDirty("presenterId");
     }
 
     public String getEvaluatorId() {
@@ -55,6 +64,7 @@ public class Evaluation implements Serializable {
 
     public void setEvaluatorId(String evaluatorId) {
         this.evaluatorId = evaluatorId;
+        markDirty("evaluatorId");
     }
 
     public String getSessionId() {
@@ -63,22 +73,60 @@ public class Evaluation implements Serializable {
 
     public void setSessionId(String sessionId) {
         this.sessionId = sessionId;
+        markDirty("sessionId");
     }
 
+    /**
+     * Gets a copy of the scores; change them with {@link #setScores(RubricScores)} so the
+     * change is tracked and saved.
+     */
     public RubricScores getScores() {
-        return scores;
+        return copyOf(scores);
     }
 
     public void setScores(RubricScores scores) {
-        this.scores = scores;
+        this.scores = copyOf(scores);
+        markDirty("scores");
     }
 
+    private static RubricScores copyOf(RubricScores scores) {
+        return scores != null ? new RubricScores(scores) : null;
+    }
+
+    /**
+     * Gets the comments, fetching them through the loader if they were not loaded with the evaluation.
+     */
     public String getComments() {
+        if (!commentsLoaded) {
+            Supplier<String> loader = commentsLoader;
+            return loader != null ? loader.get() : null;
+        }
         return comments;
     }
 
     public void setComments(String comments) {
         this.comments = comments;
+        this.commentsLoaded = true;
+        this.commentsLoader = null;
+        markDirty("comments");
+    }
+
+    /**
+     * Leaves the comments unloaded and fetches them through the loader on each access
+     * until a value is set. The loader is expected to cache; the evaluation keeps no copy.
+     * @param loader fetches the stored comments
+     */
+    public void setCommentsLoader(Supplier<String> loader) {
+        this.comments = null;
+        this.commentsLoaded = false;
+        this.commentsLoader = loader;
+    }
+
+    /**
+     * Whether the comments are held by this evaluation rather than fetched on access.
+     */
+    public boolean isCommentsLoaded() {
+        return commentsLoaded;
     }
 
     public LocalDateTime getTimestamp() {
@@ -89,6 +137,22 @@ public class Evaluation implements Serializable {
         this.timestamp = timestamp;
     }
 
+    /**
+     * Gets the properties set since this evaluation was last loaded or saved.
+     */
+    public DirtyFields getDirtyFields() {
+        return dirtyFields;
+    }
+
+    private void markDirty(String property) {
+        dirtyFields.mark(property);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        dirtyFields = new DirtyFields();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
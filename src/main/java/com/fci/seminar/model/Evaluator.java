@@ -47,5 +47,6 @@ public class Evaluator extends User {
     
     public void setEvaluatorId(String evaluatorId) {
         this.evaluatorId = evaluatorId;
+        markDirty("evaluatorId");
     }
 }
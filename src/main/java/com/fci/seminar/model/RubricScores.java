@@ -31,6 +31,13 @@ public class RubricScores implements Serializable {
         this.presentation = presentation;
     }
 
+    /**
+     * Creates a copy of another set of scores.
+     */
+    public RubricScores(RubricScores other) {
+        this(other.problemClarity, other.methodology, other.results, other.presentation);
+    }
+
     public int getProblemClarity() {
         return problemClarity;
     }
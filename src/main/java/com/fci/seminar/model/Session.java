@@ -1,8 +1,11 @@
 package com.fci.seminar.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -19,6 +22,8 @@ public class Session implements Serializable {
     private PresentationType sessionType;
     private List<String> presenterIds;
     private List<String> evaluatorIds;
+    // Not serialized, so an entity restored from a snapshot is saved whole
+    private transient DirtyFields dirtyFields = new DirtyFields();
 
     public Session() {
         this.presenterIds = new ArrayList<>();
@@ -48,6 +53,7 @@ public class Session implements Serializable {
 
     public void setDate(LocalDate date) {
         this.date = date;
+        markDirty("date");
     }
 
     public String getVenue() {
@@ -56,6 +62,7 @@ public class Session implements Serializable {
 
     public void setVenue(String venue) {
         this.venue = venue;
+        markDirty("venue");
     }
 
     public String getMeetingLink() {
@@ -64,6 +71,7 @@ public class Session implements Serializable {
 
     public void setMeetingLink(String meetingLink) {
         this.meetingLink = meetingLink;
+        markDirty("meetingLink");
     }
 
     public PresentationType getSessionType() {
@@ -72,42 +80,75 @@ public class Session implements Serializable {
 
     public void setSessionType(PresentationType sessionType) {
         this.sessionType = sessionType;
+        markDirty("sessionType");
     }
 
+    /**
+     * Gets a read-only view of the presenter IDs; change them through the session so
+     * the change is tracked and saved.
+     */
     public List<String> getPresenterIds() {
-        return presenterIds;
+        return Collections.unmodifiableList(presenterIds);
     }
 
     public void setPresenterIds(List<String> presenterIds) {
-        this.presenterIds = presenterIds != null ? presenterIds : new ArrayList<>();
+        this.presenterIds = presenterIds != null ? new ArrayList<>(presenterIds) : new ArrayList<>();
+        markDirty("presenterIds");
     }
 
+    /**
+     * Gets a read-only view of the evaluator IDs; change them through the session so
+     * the change is tracked and saved.
+     */
     public List<String> getEvaluatorIds() {
-        return evaluatorIds;
+        return Collections.unmodifiableList(evaluatorIds);
     }
 
     public void setEvaluatorIds(List<String> evaluatorIds) {
-        this.evaluatorIds = evaluatorIds != null ? evaluatorIds : new ArrayList<>();
+        this.evaluatorIds = evaluatorIds != null ? new ArrayList<>(evaluatorIds) : new ArrayList<>();
+        markDirty("evaluatorIds");
     }
 
     public void addPresenter(String presenterId) {
         if (!presenterIds.contains(presenterId)) {
             presenterIds.add(presenterId);
+            markDirty("presenterIds");
         }
     }
 
     public void removePresenter(String presenterId) {
-        presenterIds.remove(presenterId);
+        if (presenterIds.remove(presenterId)) {
+            markDirty("presenterIds");
+        }
     }
 
     public void addEvaluator(String evaluatorId) {
         if (!evaluatorIds.contains(evaluatorId)) {
             evaluatorIds.add(evaluatorId);
+            markDirty("evaluatorIds");
         }
     }
 
     public void removeEvaluator(String evaluatorId) {
-        evaluatorIds.remove(evaluatorId);
+        if (evaluatorIds.remove(evaluatorId)) {
+            markDirty("evaluatorIds");
+        }
+    }
+
+    /**
+     * Gets the properties set since this session was last loaded or saved.
+     */
+    public DirtyFields getDirtyFields() {
+        return dirtyFields;
+    }
+
+    private void markDirty(String property) {
+        dirtyFields.mark(property);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        dirtyFields = new DirtyFields();
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.fci.seminar.model;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Represents a student who presents research at the seminar.
@@ -11,6 +12,9 @@ public class Student extends User {
     private String studentId;
     private String researchTitle;
     private String abstractText;
+    // Students loaded as a projection fetch their abstract on demand instead of holding it
+    private boolean abstractTextLoaded = true;
+    private transient Supplier<String> abstractTextLoader;
     private String supervisorName;
     private PresentationType presentationType;
     private String filePath;
@@ -37,6 +41,7 @@ public class Student extends User {
 
     public void setStudentId(String studentId) {
         this.studentId = studentId;
+        markDirty("studentId");
     }
 
     public String getResearchTitle() {
@@ -45,14 +50,43 @@ public class Student extends User {
 
     public void setResearchTitle(String researchTitle) {
         this.researchTitle = researchTitle;
+        markDirty("researchTitle");
     }
 
+    /**
+     * Gets the abstract, fetching it through the loader if it was not loaded with the student.
+     */
     public String getAbstractText() {
+        if (!abstractTextLoaded) {
+            Supplier<String> loader = abstractTextLoader;
+            return loader != null ? loader.get() : null;
+        }
         return abstractText;
     }
 
     public void setAbstractText(String abstractText) {
         this.abstractText = abstractText;
+        this.abstractTextLoaded = true;
+        this.abstractTextLoader = null;
+        markDirty("abstractText");
+    }
+
+    /**
+     * Leaves the abstract unloaded and fetches it through the loader on each access
+     * until a value is set. The loader is expected to cache; the student keeps no copy.
+     * @param loader fetches the stored abstract
+     */
+    public void setAbstractTextLoader(Supplier<String> loader) {
+        this.abstractText = null;
+        this.abstractTextLoaded = false;
+        this.abstractTextLoader = loader;
+    }
+
+    /**
+     * Whether the abstract is held by this student rather than fetched on access.
+     */
+    public boolean isAbstractTextLoaded() {
+        return abstractTextLoaded;
     }
 
     public String getSupervisorName() {
@@ -61,6 +95,7 @@ public class Student extends User {
 
     public void setSupervisorName(String supervisorName) {
         this.supervisorName = supervisorName;
+        markDirty("supervisorName");
     }
 
     public PresentationType getPresentationType() {
@@ -69,6 +104,7 @@ public class Student extends User {
 
     public void setPresentationType(PresentationType presentationType) {
         this.presentationType = presentationType;
+        markDirty("presentationType");
     }
 
     public String getFilePath() {
@@ -77,6 +113,7 @@ public class Student extends User {
 
     public void setFilePath(String filePath) {
         this.filePath = filePath;
+        markDirty("filePath");
     }
 
     public String getPresenterId() {
@@ -85,6 +122,7 @@ public class Student extends User {
 
     public void setPresenterId(String presenterId) {
         this.presenterId = presenterId;
+        markDirty("presenterId");
     }
 
     public int getVoteCount() {
@@ -93,6 +131,7 @@ public class Student extends User {
 
     public void setVoteCount(int voteCount) {
         this.voteCount = voteCount;
+        markDirty("voteCount");
     }
 
     public boolean hasVoted() {
@@ -101,6 +140,7 @@ public class Student extends User {
 
     public void setHasVoted(boolean hasVoted) {
         this.hasVoted = hasVoted;
+        markDirty("hasVoted");
     }
 
     @Override
@@ -1,5 +1,7 @@
 package com.fci.seminar.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Objects;
 
@@ -13,6 +15,8 @@ public abstract class User implements Serializable {
     private String username;
     private String password;
     private UserRole role;
+    // Not serialized, so an entity restored from a snapshot is saved whole
+    private transient DirtyFields dirtyFields = new DirtyFields();
 
     protected User() {
     }
@@ -38,6 +42,7 @@ public abstract class User implements Serializable {
 
     public void setUsername(String username) {
         this.username = username;
+        markDirty("username");
     }
 
     public String getPassword() {
@@ -46,6 +51,7 @@ public abstract class User implements Serializable {
 
     public void setPassword(String password) {
         this.password = password;
+        markDirty("password");
     }
 
     public UserRole getRole() {
@@ -54,6 +60,23 @@ public abstract class User implements Serializable {
 
     public void setRole(UserRole role) {
         this.role = role;
+        markDirty("role");
+    }
+
+    /**
+     * Gets the properties set since this user was last loaded or saved.
+     */
+    public DirtyFields getDirtyFields() {
+        return dirtyFields;
+    }
+
+    protected void markDirty(String property) {
+        dirtyFields.mark(property);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        dirtyFields = new DirtyFields();
     }
 
     @Override
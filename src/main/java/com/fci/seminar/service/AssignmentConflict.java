@@ -0,0 +1,48 @@
+package com.fci.seminar.service;
+
+import java.time.LocalDate;
+
+/**
+ * A requested session assignment that clashes with another session the same
+ * presenter or evaluator has on that date. Produced by
+ * {@link SessionService#findConflicts(java.util.Map)}.
+ */
+public final class AssignmentConflict {
+
+    private final String participantId;
+    private final String sessionId;
+    private final String conflictingSessionId;
+    private final LocalDate date;
+
+    public AssignmentConflict(String participantId, String sessionId, String conflictingSessionId,
+                              LocalDate date) {
+        this.participantId = participantId;
+        this.sessionId = sessionId;
+        this.conflictingSessionId = conflictingSessionId;
+        this.date = date;
+    }
+
+    /** Presenter or evaluator ID of the requested assignment. */
+    public String getParticipantId() {
+        return participantId;
+    }
+
+    /** Session the participant was to be assigned to. */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /** Session already holding the participant on that date, possibly earlier in the same request. */
+    public String getConflictingSessionId() {
+        return conflictingSessionId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    @Override
+    public String toString() {
+        return participantId + " in " + sessionId + " clashes with " + conflictingSessionId + " on " + date;
+    }
+}
@@ -0,0 +1,267 @@
+package com.fci.seminar.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Size-bounded, frequency-aware cache in the style of W-TinyLFU. New entries land
+ * in a small LRU window; entries leaving the window compete for a place in the
+ * main segmented LRU (probation and protected), and are admitted only if they have
+ * been requested more often than the probation entry they would evict. Access
+ * frequencies come from a count-min sketch of 4-bit counters that is halved
+ * periodically, so a burst of one-off reads (a report scanning every row) cannot
+ * flush the entries that are used all the time.
+ * <p>
+ * Thread-safe. Loads run outside the lock, so two threads missing on the same key
+ * may both load it; the last one to finish wins.
+ */
+final class BoundedCache<K, V> {
+
+    private final int maximumSize;
+    private final int windowSize;
+    private final int protectedSize;
+    // Each map is kept in LRU order: the first entry is the least recently used
+    private final LinkedHashMap<K, V> window = new LinkedHashMap<>();
+    private final LinkedHashMap<K, V> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<K, V> protectedSegment = new LinkedHashMap<>();
+    private final FrequencySketch sketch;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maximumSize most entries held at once; must be positive
+     */
+    BoundedCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.windowSize = Math.max(1, maximumSize / 100);
+        this.protectedSize = (maximumSize - windowSize) * 4 / 5;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Gets a cached value, counting a hit or a miss.
+     * @return the value, or null if the key is not cached
+     */
+    synchronized V getIfPresent(K key) {
+        sketch.increment(key);
+        V value = touch(key);
+        if (value != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return value;
+    }
+
+    /**
+     * Gets a cached value without counting an access or changing its position.
+     */
+    synchronized V peek(K key) {
+        V value = window.get(key);
+        if (value == null) {
+            value = probation.get(key);
+        }
+        return value != null ? value : protectedSegment.get(key);
+    }
+
+    /**
+     * Gets a value, loading and caching it on a miss.
+     * @param loader loads the value; may return null, which is not cached
+     * @return the value, or null if the loader found none
+     */
+    V get(K key, Function<K, V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Caches a value, replacing the value of a cached key in place.
+     */
+    synchronized void put(K key, V value) {
+        if (replace(key, value)) {
+            return;
+        }
+        window.put(key, value);
+        if (window.size() > windowSize) {
+            Iterator<Map.Entry<K, V>> eldest = window.entrySet().iterator();
+            Map.Entry<K, V> candidate = eldest.next();
+            eldest.remove();
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    /**
+     * Replaces the value of a cached key, leaving uncached keys alone.
+     * @return true if the key was cached
+     */
+    synchronized boolean replace(K key, V value) {
+        for (LinkedHashMap<K, V> segment : List.of(window, probation, protectedSegment)) {
+            if (segment.containsKey(key)) {
+                segment.put(key, value);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized void invalidate(K key) {
+        if (window.remove(key) == null && probation.remove(key) == null) {
+            protectedSegment.remove(key);
+        }
+    }
+
+    synchronized void invalidateAll() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    /**
+     * Gets every cached value, in no particular order.
+     */
+    synchronized List<V> values() {
+        List<V> values = new ArrayList<>(size());
+        values.addAll(window.values());
+        values.addAll(probation.values());
+        values.addAll(protectedSegment.values());
+        return values;
+    }
+
+    synchronized int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    /**
+     * Gets a point-in-time view of the cache counters.
+     */
+    synchronized CacheMetrics getMetrics() {
+        return new CacheMetrics(size(), maximumSize, hits, misses, evictions);
+    }
+
+    /**
+     * Moves a cached key to the most recently used end of its segment, promoting
+     * probation entries to the protected segment.
+     */
+    private V touch(K key) {
+        V value = window.remove(key);
+        if (value != null) {
+            window.put(key, value);
+            return value;
+        }
+        value = protectedSegment.remove(key);
+        if (value != null) {
+            protectedSegment.put(key, value);
+            return value;
+        }
+        value = probation.remove(key);
+        if (value != null) {
+            protectedSegment.put(key, value);
+            if (protectedSegment.size() > protectedSize) {
+                // Demote the least recently used protected entry to make room
+                Iterator<Map.Entry<K, V>> eldest = protectedSegment.entrySet().iterator();
+                Map.Entry<K, V> demoted = eldest.next();
+                eldest.remove();
+                probation.put(demoted.getKey(), demoted.getValue());
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Lets an entry leaving the window into the main segments if there is room or it
+     * is used more often than the probation entry it would replace.
+     */
+    private void admit(K key, V value) {
+        if (probation.size() + protectedSegment.size() < maximumSize - windowSize) {
+            probation.put(key, value);
+            return;
+        }
+        LinkedHashMap<K, V> victims = probation.isEmpty() ? protectedSegment : probation;
+        if (victims.isEmpty()) {
+            evictions++;
+            return;
+        }
+        Iterator<Map.Entry<K, V>> eldest = victims.entrySet().iterator();
+        K victim = eldest.next().getKey();
+        evictions++;
+        if (sketch.frequency(key) > sketch.frequency(victim)) {
+            eldest.remove();
+            probation.put(key, value);
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit access counters, four rows deep. Once the number of
+     * increments reaches ten times the cache size every counter is halved, so old
+     * popularity fades.
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int resetThreshold;
+        private int additions;
+
+        private FrequencySketch(int maximumSize) {
+            // Four counters per cached entry in each row keeps collisions between keys rare
+            int width = Integer.highestOneBit(Math.max(16, maximumSize - 1) * 2) * 4;
+            this.counters = new byte[SEEDS.length][width];
+            this.mask = width - 1;
+            this.resetThreshold = 10 * maximumSize;
+        }
+
+        private void increment(Object key) {
+            int hash = key.hashCode();
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = index(hash, row);
+                if (counters[row][index] < MAX_COUNT) {
+                    counters[row][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= resetThreshold) {
+                for (byte[] row : counters) {
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] >>= 1;
+                    }
+                }
+                additions /= 2;
+            }
+        }
+
+        private int frequency(Object key) {
+            int hash = key.hashCode();
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < SEEDS.length; row++) {
+                frequency = Math.min(frequency, counters[row][index(hash, row)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int row) {
+            // Mix so the low bits used as the index depend on every bit of the hash
+            int h = (hash ^ (hash >>> 16)) * SEEDS[row];
+            h ^= h >>> 15;
+            h *= 0x2C1B3C6D;
+            return (h ^ (h >>> 12)) & mask;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.fci.seminar.service;
+
+/**
+ * Point-in-time view of a bounded entity cache.
+ */
+public final class CacheMetrics {
+
+    private final int size;
+    private final int maximumSize;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    public CacheMetrics(int size, int maximumSize, long hits, long misses, long evictions) {
+        this.size = size;
+        this.maximumSize = maximumSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /** Entries currently cached. */
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /** Entries dropped to stay within the maximum size, including ones refused admission. */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /** Fraction of lookups served from the cache, 0 before the first lookup. */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Adds another cache's counters to these, for a combined view.
+     */
+    public CacheMetrics plus(CacheMetrics other) {
+        return new CacheMetrics(size + other.size, maximumSize + other.maximumSize,
+            hits + other.hits, misses + other.misses, evictions + other.evictions);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("size=%d/%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d",
+            size, maximumSize, hits, misses, getHitRate() * 100, evictions);
+    }
+}
@@ -0,0 +1,54 @@
+package com.fci.seminar.service;
+
+/**
+ * An entity added to, updated in or removed from the DataStore. Published through
+ * the store's {@link ChangeEventBus}; listeners look the entity up again by ID,
+ * so the event carries no entity state.
+ */
+public final class ChangeEvent {
+
+    /** The kinds of entity the store holds. */
+    public enum EntityType {
+        USER, SESSION, EVALUATION, POSTER_BOARD, AWARD
+    }
+
+    /** What happened to the entity. */
+    public enum Kind {
+        ADDED, UPDATED, REMOVED
+    }
+
+    private final EntityType entityType;
+    private final String id;
+    private final Kind kind;
+    private final boolean external;
+
+    public ChangeEvent(EntityType entityType, String id, Kind kind, boolean external) {
+        this.entityType = entityType;
+        this.id = id;
+        this.kind = kind;
+        this.external = external;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    /** Entity ID, or null for awards, which change as one list. */
+    public String getId() {
+        return id;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /** True if the change was made by another client and picked up by change polling. */
+    public boolean isExternal() {
+        return external;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + entityType + (id != null ? " " + id : "") + (external ? " (external)" : "");
+    }
+}
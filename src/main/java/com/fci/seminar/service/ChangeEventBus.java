@@ -0,0 +1,166 @@
+package com.fci.seminar.service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import com.fci.seminar.service.ChangeEvent.EntityType;
+import com.fci.seminar.service.ChangeEvent.Kind;
+
+/**
+ * Delivers the DataStore's entity change events to listeners in coalesced batches.
+ * Events may be published from any thread. The first event after a dispatch schedules
+ * the next one on the dispatch executor (the Swing event thread in the desktop app),
+ * and everything published until it runs is delivered as one batch, so a burst of
+ * writes, or a whole polled delta, costs listeners a single callback per tick.
+ * Repeated events for the same entity collapse into one: added then updated is
+ * still added, added then removed cancels out, and removed then added is updated.
+ */
+public class ChangeEventBus {
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    // Guarded by this; insertion order is the order entities first changed in the batch
+    private Map<String, ChangeEvent> pending = new LinkedHashMap<>();
+    private boolean dispatchScheduled;
+    private volatile Executor dispatchExecutor = Runnable::run;
+    private volatile long published;
+    private volatile long dispatches;
+
+    /**
+     * Sets where batches are delivered. Defaults to the publishing thread, which
+     * delivers each publish as its own batch.
+     * @param dispatchExecutor runs dispatches, e.g. SwingUtilities::invokeLater
+     */
+    public void setDispatchExecutor(Executor dispatchExecutor) {
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    /**
+     * Registers a listener for changes to the given entity types.
+     * @param entityTypes the types the listener cares about
+     * @param listener receives each batch's events for those types, never an empty list
+     * @return the subscription; close it to stop receiving events
+     */
+    public Subscription subscribe(Set<EntityType> entityTypes, Consumer<List<ChangeEvent>> listener) {
+        Set<EntityType> types = EnumSet.noneOf(EntityType.class);
+        types.addAll(entityTypes);
+        Subscription subscription = new Subscription(this, types, listener);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Queues an event for the next dispatch, merging it with a pending event for the same entity.
+     */
+    void publish(ChangeEvent event) {
+        publishAll(List.of(event));
+    }
+
+    /**
+     * Queues several events, scheduling at most one dispatch for them.
+     */
+    void publishAll(List<ChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        boolean schedule;
+        synchronized (this) {
+            for (ChangeEvent event : events) {
+                String key = event.getEntityType() + ":" + event.getId();
+                ChangeEvent merged = coalesce(pending.get(key), event);
+                if (merged != null) {
+                    pending.put(key, merged);
+                } else {
+                    pending.remove(key);
+                }
+            }
+            published += events.size();
+            schedule = !dispatchScheduled;
+            dispatchScheduled = true;
+        }
+        if (schedule) {
+            dispatchExecutor.execute(this::dispatch);
+        }
+    }
+
+    private static ChangeEvent coalesce(ChangeEvent previous, ChangeEvent next) {
+        if (previous == null) {
+            return next;
+        }
+        Kind kind = next.getKind();
+        if (previous.getKind() == Kind.ADDED) {
+            if (kind == Kind.REMOVED) {
+                return null;
+            }
+            kind = Kind.ADDED;
+        } else if (previous.getKind() == Kind.REMOVED && kind == Kind.ADDED) {
+            kind = Kind.UPDATED;
+        }
+        return new ChangeEvent(next.getEntityType(), next.getId(), kind,
+            previous.isExternal() || next.isExternal());
+    }
+
+    private void dispatch() {
+        List<ChangeEvent> batch;
+        synchronized (this) {
+            batch = new ArrayList<>(pending.values());
+            pending = new LinkedHashMap<>();
+            dispatchScheduled = false;
+            if (batch.isEmpty()) {
+                return;
+            }
+            dispatches++;
+        }
+        for (Subscription subscription : subscriptions) {
+            List<ChangeEvent> events = batch.stream()
+                .filter(event -> subscription.entityTypes.contains(event.getEntityType()))
+                .toList();
+            if (events.isEmpty()) {
+                continue;
+            }
+            try {
+                subscription.listener.accept(events);
+            } catch (RuntimeException e) {
+                // One failing listener must not starve the others
+                System.err.println("Change listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /** Number of events published, before coalescing. */
+    public long getPublishedCount() {
+        return published;
+    }
+
+    /** Number of non-empty batches delivered. */
+    public long getDispatchCount() {
+        return dispatches;
+    }
+
+    /**
+     * A registered listener. Closing it removes the listener; a batch already being
+     * delivered may still reach it.
+     */
+    public static final class Subscription implements AutoCloseable {
+        private final ChangeEventBus bus;
+        private final Set<EntityType> entityTypes;
+        private final Consumer<List<ChangeEvent>> listener;
+
+        private Subscription(ChangeEventBus bus, Set<EntityType> entityTypes, Consumer<List<ChangeEvent>> listener) {
+            this.bus = bus;
+            this.entityTypes = entityTypes;
+            this.listener = listener;
+        }
+
+        @Override
+        public void close() {
+            bus.subscriptions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.fci.seminar.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a DataStore coherent with writes made by other clients.
+ * A background thread periodically fetches rows changed since the store's
+ * last sync, with any live IDs needed to drop deleted rows, and hands them to
+ * an executor that owns the store (the Swing event thread in the desktop app),
+ * where they are merged in memory and published on the store's change events.
+ * Each poll costs time proportional to the rows that changed.
+ */
+public class ChangePoller {
+
+    private final DataStore dataStore;
+    private final long intervalMillis;
+    private final Executor applyExecutor;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a poller; call {@link #start()} to begin polling.
+     * @param dataStore the store to keep up to date
+     * @param intervalMillis delay between the end of one poll and the start of the next
+     * @param applyExecutor runs the merge, e.g. SwingUtilities::invokeLater
+     */
+    public ChangePoller(DataStore dataStore, long intervalMillis, Executor applyExecutor) {
+        if (intervalMillis < 1) {
+            throw new IllegalArgumentException("Poll interval must be positive");
+        }
+        this.dataStore = dataStore;
+        this.intervalMillis = intervalMillis;
+        this.applyExecutor = applyExecutor;
+    }
+
+    /**
+     * Starts polling on a daemon thread. Does nothing if already started.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "change-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops polling. Does not wait for a poll in progress, so it is safe to call from the apply executor.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Fetches and applies changes once, waiting for the apply step to finish.
+     * Must not be called from the apply executor's own thread.
+     * @return true if the store changed
+     * @throws InterruptedException if interrupted while waiting for the apply step
+     */
+    public boolean pollNow() throws InterruptedException {
+        ChangeSet changes = dataStore.fetchChanges();
+        if (changes == null) {
+            return false;
+        }
+        CompletableFuture<Boolean> applied = CompletableFuture.supplyAsync(() -> dataStore.applyChanges(changes),
+            applyExecutor);
+        try {
+            return applied.get();
+        } catch (ExecutionException e) {
+            System.err.println("Error applying changes: " + e.getCause().getMessage());
+            return false;
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            pollNow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the next poll retries from the same watermark
+            System.err.println("Change poll failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.fci.seminar.service;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fci.seminar.model.Award;
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.PosterBoard;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.User;
+
+/**
+ * Rows that changed in the database since a watermark, plus the current row
+ * counts used to detect deletions. Produced by
+ * {@link StorageBackend#getChangesSince(Timestamp)}; DataStore.fetchChanges()
+ * then attaches the live IDs of tables with deletions, so the whole delta is
+ * read before it is handed to the thread that applies it.
+ */
+public final class ChangeSet {
+
+    private final Timestamp watermark;
+    private final Map<String, User> users;
+    private final Map<String, Session> sessions;
+    private final Map<String, Evaluation> evaluations;
+    private final Map<String, PosterBoard> posterBoards;
+    private List<Award> awards;
+    private final Map<String, Integer> rowCounts;
+    private final Map<String, Set<String>> liveIds = new HashMap<>();
+
+    public ChangeSet(Timestamp watermark, Map<String, User> users, Map<String, Session> sessions,
+                     Map<String, Evaluation> evaluations, Map<String, PosterBoard> posterBoards,
+                     List<Award> awards, Map<String, Integer> rowCounts) {
+        this.watermark = watermark;
+        this.users = users;
+        this.sessions = sessions;
+        this.evaluations = evaluations;
+        this.posterBoards = posterBoards;
+        this.awards = awards;
+        this.rowCounts = rowCounts;
+    }
+
+    /** Database server time taken before the changes were read; the next sync starts here. */
+    public Timestamp getWatermark() {
+        return watermark;
+    }
+
+    public Map<String, User> getUsers() {
+        return users;
+    }
+
+    public Map<String, Session> getSessions() {
+        return sessions;
+    }
+
+    public Map<String, Evaluation> getEvaluations() {
+        return evaluations;
+    }
+
+    public Map<String, PosterBoard> getPosterBoards() {
+        return posterBoards;
+    }
+
+    /**
+     * All awards if any was written since the watermark, or null. The table is small and
+     * rewritten wholesale, so it is either unchanged or reloaded in full.
+     */
+    public List<Award> getAwards() {
+        return awards;
+    }
+
+    void setAwards(List<Award> awards) {
+        this.awards = awards;
+    }
+
+    /** Current row count per table (users, sessions, evaluations, poster_boards, awards). */
+    public Map<String, Integer> getRowCounts() {
+        return rowCounts;
+    }
+
+    /**
+     * Gets every ID stored in a table whose row count shows that rows were deleted.
+     * @return the live IDs, or null if the table needs no reconcile
+     */
+    public Set<String> getLiveIds(String table) {
+        return liveIds.get(table);
+    }
+
+    void setLiveIds(String table, Set<String> ids) {
+        if (ids != null) {
+            liveIds.put(table, ids);
+        }
+    }
+
+    /**
+     * Number of changed rows across all entity tables.
+     */
+    public int size() {
+        return users.size() + sessions.size() + evaluations.size() + posterBoards.size();
+    }
+}
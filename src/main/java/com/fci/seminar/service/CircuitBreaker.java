@@ -0,0 +1,141 @@
+package com.fci.seminar.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker for the database link. After a run of consecutive connection
+ * failures it opens, and callers are turned away at once instead of each waiting
+ * out the connect timeout. Once the retry delay has passed, a single probe is let
+ * through (half-open): if it succeeds the breaker closes, otherwise it opens again
+ * with the delay doubled, up to a maximum.
+ */
+public class CircuitBreaker {
+
+    /** Breaker states. */
+    public enum State {
+        /** Requests flow normally. */
+        CLOSED,
+        /** Requests are rejected until the retry delay has passed. */
+        OPEN,
+        /** One probe is in progress; other requests are still rejected. */
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final LongSupplier nanoClock;
+
+    // Guarded by this
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long delayNanos;
+    private long retryAt;
+    private long openCount;
+
+    /**
+     * @param failureThreshold consecutive failures that open the breaker
+     * @param initialDelayMillis wait before the first probe after opening
+     * @param maxDelayMillis longest wait between probes
+     */
+    public CircuitBreaker(int failureThreshold, long initialDelayMillis, long maxDelayMillis) {
+        this(failureThreshold, initialDelayMillis, maxDelayMillis, System::nanoTime);
+    }
+
+    /**
+     * Creates a breaker driven by the given clock (used by tests).
+     */
+    CircuitBreaker(int failureThreshold, long initialDelayMillis, long maxDelayMillis, LongSupplier nanoClock) {
+        if (failureThreshold < 1 || initialDelayMillis < 1 || maxDelayMillis < initialDelayMillis) {
+            throw new IllegalArgumentException("Invalid circuit breaker settings");
+        }
+        this.failureThreshold = failureThreshold;
+        this.initialDelayNanos = TimeUnit.MILLISECONDS.toNanos(initialDelayMillis);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.nanoClock = nanoClock;
+        this.delayNanos = initialDelayNanos;
+    }
+
+    /**
+     * Checks if a request may go ahead.
+     */
+    public synchronized boolean allowRequest() {
+        return state == State.CLOSED;
+    }
+
+    /**
+     * Claims the probe slot if the breaker is open and its retry delay has passed.
+     * The caller must report the probe's outcome with {@link #recordSuccess()} or
+     * {@link #recordFailure()}.
+     * @return true if the caller should probe now
+     */
+    public synchronized boolean tryProbe() {
+        if (state == State.OPEN && nanoClock.getAsLong() - retryAt >= 0) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records a successful request or probe.
+     * @return true if this closed the breaker
+     */
+    public synchronized boolean recordSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.CLOSED) {
+            return false;
+        }
+        state = State.CLOSED;
+        delayNanos = initialDelayNanos;
+        return true;
+    }
+
+    /**
+     * Records a failed request or probe.
+     * @return true if this opened the breaker
+     */
+    public synchronized boolean recordFailure() {
+        if (state == State.HALF_OPEN) {
+            delayNanos = Math.min(delayNanos * 2, maxDelayNanos);
+            open();
+            return false;
+        }
+        if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            open();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Opens the breaker at once, e.g. when the pool could not be created at all.
+     * @return true if this opened the breaker
+     */
+    public synchronized boolean trip() {
+        if (state != State.CLOSED) {
+            return false;
+        }
+        open();
+        return true;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        consecutiveFailures = 0;
+        retryAt = nanoClock.getAsLong() + delayNanos;
+        openCount++;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Gets how many times the breaker has opened, counting failed probes.
+     */
+    public synchronized long getOpenCount() {
+        return openCount;
+    }
+}
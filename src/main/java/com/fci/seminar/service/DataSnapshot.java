@@ -0,0 +1,144 @@
+package com.fci.seminar.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fci.seminar.model.Award;
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.PosterBoard;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.User;
+
+/**
+ * Binary snapshot of the DataStore's in-memory maps, used for warm starts.
+ * The file starts with a magic number and format version so stale or foreign
+ * files are rejected before deserialization; the body is a gzipped object stream.
+ */
+public final class DataSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAGIC = 0x53454D53; // "SEMS"
+    // 2: abstracts and comments loaded lazily are not stored
+    private static final int FORMAT_VERSION = 2;
+
+    private final String databaseUrl;
+    private final Timestamp watermark;
+    private final Map<String, User> users;
+    private final Map<String, Session> sessions;
+    private final Map<String, Evaluation> evaluations;
+    private final Map<String, PosterBoard> posterBoards;
+    private final List<Award> awards;
+
+    public DataSnapshot(String databaseUrl, Timestamp watermark, Map<String, User> users,
+                        Map<String, Session> sessions, Map<String, Evaluation> evaluations,
+                        Map<String, PosterBoard> posterBoards, List<Award> awards) {
+        this.databaseUrl = databaseUrl;
+        this.watermark = watermark;
+        this.users = users;
+        this.sessions = sessions;
+        this.evaluations = evaluations;
+        this.posterBoards = posterBoards;
+        this.awards = awards;
+    }
+
+    /**
+     * Writes the snapshot atomically: a temporary file is written and then moved over the target.
+     * @param path the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path path) throws IOException {
+        Path absolute = path.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                DataOutputStream header = new DataOutputStream(out);
+                header.writeInt(MAGIC);
+                header.writeInt(FORMAT_VERSION);
+                header.flush();
+                GZIPOutputStream gzip = new GZIPOutputStream(out);
+                ObjectOutputStream body = new ObjectOutputStream(gzip);
+                body.writeObject(this);
+                body.flush();
+                gzip.finish();
+            }
+            try {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(Path)}.
+     * @param path the snapshot file
+     * @return the snapshot, or null if the file is missing, corrupt or from another format version
+     */
+    public static DataSnapshot read(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            DataInputStream header = new DataInputStream(in);
+            if (header.readInt() != MAGIC || header.readInt() != FORMAT_VERSION) {
+                System.err.println("Ignoring snapshot with unknown format: " + path);
+                return null;
+            }
+            try (ObjectInputStream body = new ObjectInputStream(new GZIPInputStream(in))) {
+                return (DataSnapshot) body.readObject();
+            }
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            System.err.println("Ignoring unreadable snapshot " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** JDBC URL of the database the snapshot was taken from. */
+    public String getDatabaseUrl() {
+        return databaseUrl;
+    }
+
+    /** Server time before the snapshot's data was last synced; delta reloads start here. */
+    public Timestamp getWatermark() {
+        return watermark;
+    }
+
+    public Map<String, User> getUsers() {
+        return users;
+    }
+
+    public Map<String, Session> getSessions() {
+        return sessions;
+    }
+
+    public Map<String, Evaluation> getEvaluations() {
+        return evaluations;
+    }
+
+    public Map<String, PosterBoard> getPosterBoards() {
+        return posterBoards;
+    }
+
+    public List<Award> getAwards() {
+        return awards;
+    }
+}
@@ -1,53 +1,190 @@
 package com.fci.seminar.service;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.fci.seminar.model.Award;
 import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.Evaluator;
 import com.fci.seminar.model.PosterBoard;
+import com.fci.seminar.model.RubricScores;
 import com.fci.seminar.model.Session;
+import com.fci.seminar.model.Student;
 import com.fci.seminar.model.User;
+import com.fci.seminar.service.ChangeEvent.EntityType;
+import com.fci.seminar.service.ChangeEvent.Kind;
 
 /**
  * Central data store for the Seminar Management System.
- * Uses MySQL database exclusively for persistence via DatabaseManager.
- * Requires MySQL to be running - no file-based fallback.
+ * Persists through a {@link StorageBackend}: MySQL via DatabaseManager by default, or
+ * with -Dseminar.store.backend=log a {@link LogStorageBackend} in the directory named
+ * by -Dseminar.store.logDir, for single-machine installs without a MySQL server.
+ * <p>
+ * Writes are synchronous by default. With -Dseminar.store.writeBehind=true,
+ * mutations are applied to memory immediately and persisted by a background
+ * {@link WriteBehindJournal}; use {@link #flushWrites(long)} when a caller
+ * needs the database to be up to date.
+ * <p>
+ * Offline writes: if the database becomes unreachable after the store has loaded,
+ * mutations keep being applied to memory and their writes are held in a paused
+ * journal (the write-behind journal itself in write-behind mode) instead of being
+ * dropped. When the backend reports that it is reachable again, the queue is
+ * replayed in order, after which synchronous writes resume. Bounded mode does not
+ * queue, for the same reason it does not use write-behind.
+ * <p>
+ * Concurrency: the store may be used from any thread. Each entity type (users,
+ * sessions, evaluations, poster boards, awards) has its own {@link StampedLock}
+ * guarding its map together with its lookup index, so writers of one type never
+ * block readers of another. Point lookups such as {@link #getUser(String)} read a
+ * ConcurrentHashMap without locking; the collection getters return a cached
+ * immutable snapshot validated by an optimistic read, taking the read lock only to
+ * rebuild it after a write; index lookups hold the read lock briefly. Operations
+ * spanning several types (loading, applying a change delta) take every write lock
+ * in the fixed order users, sessions, evaluations, boards, awards. Database I/O is
+ * never done while a lock is held. The lock covers the store's collections, not the
+ * fields of the entities in them: an entity edited in place must be handed back
+ * through the matching update method to become visible to the indexes.
+ * <p>
+ * Every add, update and removal, whether local or merged from a polled delta, is
+ * published on the store's {@link ChangeEventBus} once the lock is released, so views
+ * can update what changed instead of re-reading whole maps.
+ * <p>
+ * Bounded mode: with -Dseminar.store.cacheSize=N, users, sessions and evaluations are
+ * no longer all held in memory. Each type keeps at most N entities in an
+ * {@link OnDemandTable}, loaded by ID on first use, and lookups by other keys query
+ * the database; the collection getters read the whole table and are correspondingly
+ * expensive. Poster boards and awards, which are small, stay resident. Writes are
+ * always synchronous and no snapshot is written in this mode, and the public API is
+ * unchanged, so services work the same in either mode.
  */
 public class DataStore {
     
-    private DatabaseManager dbManager;
-    private boolean databaseConnected = false;
+    private static final long SHUTDOWN_DRAIN_SECONDS = 30;
+    
+    private static final String USER_KEY = "user:";
+    private static final String SESSION_KEY = "session:";
+    private static final String EVALUATION_KEY = "evaluation:";
+    private static final String BOARD_KEY = "board:";
+    private static final String AWARDS_KEY = "awards";
+    
+    private StorageBackend backend;
+    private volatile boolean databaseConnected = false;
+    private volatile WriteBehindJournal journal;
+    // Synchronous mode: created on the first write made while the database is unreachable
+    private volatile WriteBehindJournal offlineQueue;
+    private final Path snapshotPath;
+    private volatile Timestamp syncWatermark;
+    // Keys of entities changed in memory since the last fetchChanges(); a delta must not overwrite them
+    private final Set<String> locallyModified = ConcurrentHashMap.newKeySet();
+    // Keys touched by the unit of work running on the current thread, reloaded if it rolls back
+    private final ThreadLocal<Set<String>> transactionKeys = new ThreadLocal<>();
 
-    private Map<String, User> users;
-    private Map<String, Session> sessions;
-    private Map<String, Evaluation> evaluations;
-    private Map<String, PosterBoard> posterBoards;
-    private List<Award> awards;
+    // Getters return the maps' shared immutable snapshots; awards are replaced, never mutated
+    private final VersionedMap<String, User> users = new VersionedMap<>();
+    private final UserIndex userIndex = new UserIndex();
+    private final VersionedMap<String, Session> sessions = new VersionedMap<>();
+    private final ScheduleIndex scheduleIndex = new ScheduleIndex();
+    private final VersionedMap<String, Evaluation> evaluations = new VersionedMap<>();
+    private final EvaluationIndex evaluationIndex = new EvaluationIndex();
+    private final VersionedMap<String, PosterBoard> posterBoards = new VersionedMap<>();
+    private volatile List<Award> awards = List.of();
+    private final ChangeEventBus changeEvents = new ChangeEventBus();
+    // Set in bounded mode, in place of the maps and indexes of the same types above
+    private OnDemandTable<User> cachedUsers;
+    private OnDemandTable<Session> cachedSessions;
+    private OnDemandTable<Evaluation> cachedEvaluations;
+    
+    // One lock per entity type, guarding its map and index; see the class comment
+    private final StampedLock usersLock = new StampedLock();
+    private final StampedLock sessionsLock = new StampedLock();
+    private final StampedLock evaluationsLock = new StampedLock();
+    private final StampedLock boardsLock = new StampedLock();
+    private final StampedLock awardsLock = new StampedLock();
+    // Acquisition order for operations that span every type
+    private final StampedLock[] allLocks = {usersLock, sessionsLock, evaluationsLock, boardsLock, awardsLock};
 
     public DataStore() {
-        this.users = new HashMap<>();
-        this.sessions = new HashMap<>();
-        this.evaluations = new HashMap<>();
-        this.posterBoards = new HashMap<>();
-        this.awards = new ArrayList<>();
-        
-        initDatabase();
+        this((Path) null);
+    }
+    
+    /**
+     * Creates a store over the given backend instead of the configured one (used by tests).
+     * @param backend the storage backend, or null for a store that only lives in memory
+     */
+    DataStore(StorageBackend backend) {
+        this(backend, 0);
+    }
+    
+    /**
+     * Creates a store over the given backend, in bounded mode if cacheSize is positive (used by tests).
+     * @param backend the storage backend, or null for a store that only lives in memory
+     * @param cacheSize entities of each type to cache in bounded mode, or 0 to hold every row
+     */
+    DataStore(StorageBackend backend, int cacheSize) {
+        this.snapshotPath = null;
+        this.backend = backend;
+        if (backend != null && backend.isConnected()) {
+            databaseConnected = true;
+            if (cacheSize <= 0 || !initOnDemand(cacheSize)) {
+                loadFromDatabase();
+            }
+            backend.addReconnectListener(this::replayQueuedWrites);
+        }
+    }
+    
+    /**
+     * Creates a store that warm-starts from a snapshot file when one is usable.
+     * @param snapshotPath snapshot file written by {@link #save(String)}, or null to always load fully
+     */
+    private DataStore(Path snapshotPath) {
+        this.snapshotPath = snapshotPath;
+        initDatabase(Integer.getInteger("seminar.store.cacheSize", 0));
+        if (databaseConnected && !isBounded() && Boolean.getBoolean("seminar.store.writeBehind")) {
+            enableWriteBehind(Integer.getInteger("seminar.store.writeBehind.capacity", 10_000),
+                Integer.getInteger("seminar.store.writeBehind.batchSize", 100));
+        }
+        if (databaseConnected) {
+            backend.addReconnectListener(this::replayQueuedWrites);
+        }
     }
     
     /**
      * Initializes database connection and loads data.
+     * @param cacheSize entities of each type to cache in bounded mode, or 0 to hold every row
      * @throws RuntimeException if database connection fails
      */
-    private void initDatabase() {
+    private void initDatabase(int cacheSize) {
+        if ("log".equalsIgnoreCase(System.getProperty("seminar.store.backend", "mysql"))) {
+            initLog(cacheSize);
+            return;
+        }
         try {
-            dbManager = DatabaseManager.getInstance();
-            if (dbManager.isConnected()) {
+            backend = DatabaseManager.getInstance();
+            if (backend.isConnected()) {
                 databaseConnected = true;
-                loadFromDatabase();
+                if (cacheSize > 0 && initOnDemand(cacheSize)) {
+                    System.out.println("Caching up to " + cacheSize + " entities of each type on demand.");
+                } else if (!restoreFromSnapshot()) {
+                    loadFromDatabase();
+                }
                 System.out.println("Connected to MySQL database successfully.");
             } else {
                 databaseConnected = false;
@@ -63,53 +200,825 @@ public class DataStore {
         }
     }
     
+    /**
+     * Opens the local log backend and loads its data.
+     */
+    private void initLog(int cacheSize) {
+        Path directory = Paths.get(System.getProperty("seminar.store.logDir", "seminar_log"));
+        try {
+            backend = LogStorageBackend.open(directory);
+            databaseConnected = true;
+            if (cacheSize <= 0 || !initOnDemand(cacheSize)) {
+                loadFromDatabase();
+            }
+            System.out.println("Opened local data log in " + directory.toAbsolutePath() + ".");
+        } catch (IOException e) {
+            databaseConnected = false;
+            System.err.println("Could not open data log " + directory + ": " + e.getMessage());
+        }
+    }
+    
     /**
      * Loads all data from database into memory.
      */
     private void loadFromDatabase() {
-        if (dbManager != null && dbManager.isConnected()) {
-            this.users = dbManager.getAllUsers();
-            this.sessions = dbManager.getAllSessions();
-            this.evaluations = dbManager.getAllEvaluations();
-            this.posterBoards = dbManager.getAllPosterBoards();
-            this.awards = dbManager.getAllAwards();
+        if (backend != null && backend.isConnected()) {
+            // Taken before the reads so rows written meanwhile are picked up by the next delta
+            this.syncWatermark = backend.getServerTime();
+            // Rows are streamed straight into the maps, so no full result set is held alongside them
+            Map<String, User> loadedUsers = new HashMap<>();
+            Map<String, Session> loadedSessions = new HashMap<>();
+            Map<String, Evaluation> loadedEvaluations = new HashMap<>();
+            Map<String, PosterBoard> loadedBoards = new HashMap<>();
+            List<Award> loadedAwards = new ArrayList<>();
+            // Non-short-circuit & so every table is attempted even if an earlier one fails
+            boolean complete = isBounded()
+                || backend.streamUsers(user -> loadedUsers.put(user.getId(), user))
+                    & backend.streamSessions(session -> loadedSessions.put(session.getSessionId(), session))
+                    & backend.streamEvaluations(eval -> loadedEvaluations.put(eval.getEvaluationId(), eval));
+            complete &= backend.streamPosterBoards(board -> loadedBoards.put(board.getBoardId(), board))
+                & backend.streamAwards(loadedAwards::add);
+            if (!complete) {
+                System.err.println("Warning: some tables could not be fully loaded.");
+            }
+            long[] stamps = lockAll();
+            try {
+                users.reset(loadedUsers);
+                userIndex.rebuild(loadedUsers.values());
+                sessions.reset(loadedSessions);
+                scheduleIndex.rebuild(loadedSessions.values());
+                evaluations.reset(loadedEvaluations);
+                evaluationIndex.rebuild(loadedEvaluations.values());
+                posterBoards.reset(loadedBoards);
+                this.awards = List.copyOf(loadedAwards);
+            } finally {
+                unlockAll(stamps);
+            }
+        }
+    }
+    
+    /**
+     * Switches to bounded mode: reads the IDs of users, sessions and evaluations, which
+     * are then loaded on demand, and loads the poster boards and awards.
+     * @return false if the IDs could not be read, in which case the store stays in full mode
+     */
+    private boolean initOnDemand(int cacheSize) {
+        // Taken before the IDs, so rows added meanwhile are picked up by the first delta
+        Timestamp watermark = backend.getServerTime();
+        Set<String> userIds = backend.getLiveIds("users");
+        Set<String> sessionIds = backend.getLiveIds("sessions");
+        Set<String> evaluationIds = backend.getLiveIds("evaluations");
+        if (userIds == null || sessionIds == null || evaluationIds == null) {
+            System.err.println("Warning: could not read entity IDs; loading every row instead.");
+            return false;
+        }
+        cachedUsers = new OnDemandTable<>(cacheSize, userIds, backend::getUser);
+        cachedSessions = new OnDemandTable<>(cacheSize, sessionIds, backend::getSession);
+        cachedEvaluations = new OnDemandTable<>(cacheSize, evaluationIds, backend::getEvaluation);
+        loadFromDatabase();
+        this.syncWatermark = watermark;
+        return true;
+    }
+    
+    /**
+     * Checks if users, sessions and evaluations are loaded on demand instead of held in memory.
+     */
+    public boolean isBounded() {
+        return cachedUsers != null;
+    }
+    
+    /**
+     * Gets the cache counters of one entity type in bounded mode.
+     * @param type USER, SESSION or EVALUATION
+     * @return the metrics, or null if the type is not cached on demand
+     */
+    public CacheMetrics getCacheMetrics(EntityType type) {
+        if (!isBounded()) {
+            return null;
+        }
+        return switch (type) {
+            case USER -> cachedUsers.getMetrics();
+            case SESSION -> cachedSessions.getMetrics();
+            case EVALUATION -> cachedEvaluations.getMetrics();
+            default -> null;
+        };
+    }
+    
+    /**
+     * Restores the maps from the snapshot file and reloads only rows changed since it was written.
+     * @return true if the store was restored, false if a full load is needed
+     */
+    private boolean restoreFromSnapshot() {
+        if (snapshotPath == null) {
+            return false;
+        }
+        DataSnapshot snapshot = DataSnapshot.read(snapshotPath);
+        if (snapshot == null || snapshot.getWatermark() == null) {
+            return false;
+        }
+        if (!Objects.equals(snapshot.getDatabaseUrl(), backend.getLocation())) {
+            System.out.println("Snapshot belongs to another database; loading fully.");
+            return false;
+        }
+        ChangeSet changes = backend.getChangesSince(snapshot.getWatermark());
+        if (changes == null) {
+            return false;
+        }
+        backend.reattachTextLoaders(snapshot.getUsers().values(), snapshot.getEvaluations().values());
+        long[] stamps = lockAll();
+        try {
+            users.reset(snapshot.getUsers());
+            userIndex.rebuild(users.values());
+            sessions.reset(snapshot.getSessions());
+            scheduleIndex.rebuild(sessions.values());
+            evaluations.reset(snapshot.getEvaluations());
+            evaluationIndex.rebuild(evaluations.values());
+            posterBoards.reset(snapshot.getPosterBoards());
+            this.awards = List.copyOf(snapshot.getAwards());
+        } finally {
+            unlockAll(stamps);
         }
+        fetchReconcileData(changes);
+        applyChanges(changes);
+        System.out.println("Restored snapshot from " + snapshot.getWatermark()
+            + " with " + changes.size() + " changed rows.");
+        return true;
+    }
+    
+    /**
+     * Reads rows changed in the database since the last sync without touching the in-memory maps.
+     * Safe to call from a background thread; the result is applied with {@link #applyChanges(ChangeSet)}
+     * on the thread that owns the store. Pending writes are flushed first so the delta is never
+     * older than memory. Every read the merge needs, including the live IDs of tables that lost
+     * rows, happens here, so applying the delta does no database I/O.
+     * @return the delta, or null if the database cannot be read
+     */
+    public ChangeSet fetchChanges() {
+        Timestamp since = syncWatermark;
+        if (since == null || !isDatabaseConnected()) {
+            return null;
+        }
+        // Entities modified from here on may be newer than the delta, so applyChanges leaves them alone
+        locallyModified.clear();
+        if (!flushWrites(TimeUnit.SECONDS.toMillis(SHUTDOWN_DRAIN_SECONDS))) {
+            return null;
+        }
+        ChangeSet changes = backend.getChangesSince(since);
+        if (changes != null) {
+            fetchReconcileData(changes);
+        }
+        return changes;
+    }
+    
+    /**
+     * Attaches to a delta the live IDs of every table whose row count shows deleted rows,
+     * and the full award list if awards were cleared without new ones being written.
+     */
+    private void fetchReconcileData(ChangeSet changes) {
+        boolean bounded = isBounded();
+        changes.setLiveIds("users", fetchLiveIds(changes, "users",
+            bounded ? cachedUsers.getIds() : users.keySet(), changes.getUsers()));
+        changes.setLiveIds("sessions", fetchLiveIds(changes, "sessions",
+            bounded ? cachedSessions.getIds() : sessions.keySet(), changes.getSessions()));
+        changes.setLiveIds("evaluations", fetchLiveIds(changes, "evaluations",
+            bounded ? cachedEvaluations.getIds() : evaluations.keySet(), changes.getEvaluations()));
+        changes.setLiveIds("poster_boards", fetchLiveIds(changes, "poster_boards", posterBoards.keySet(),
+            changes.getPosterBoards()));
+        Integer awardCount = changes.getRowCounts().get("awards");
+        if (changes.getAwards() == null && awardCount != null && awardCount != awards.size()) {
+            changes.setAwards(backend.getAllAwards());
+        }
+    }
+    
+    /**
+     * Merges a delta into the in-memory maps and advances the sync watermark.
+     * Changed rows replace their cached copies; a table whose row count no longer
+     * matches is reconciled against its live IDs to drop deleted rows. Entities
+     * modified locally since the delta was fetched keep their local version.
+     * Readers see either none or all of the delta, and its changes are published as
+     * external events once the locks are released. Does no database I/O; deletions are
+     * only reconciled for tables whose live IDs {@link #fetchChanges()} attached.
+     * @param changes rows changed since the current watermark
+     * @return true if any cached data changed
+     */
+    public boolean applyChanges(ChangeSet changes) {
+        if (isBounded()) {
+            return applyChangesOnDemand(changes);
+        }
+        Set<String> liveUserIds = changes.getLiveIds("users");
+        Set<String> liveSessionIds = changes.getLiveIds("sessions");
+        Set<String> liveEvaluationIds = changes.getLiveIds("evaluations");
+        Set<String> liveBoardIds = changes.getLiveIds("poster_boards");
+        
+        List<ChangeEvent> events = new ArrayList<>();
+        long[] stamps = lockAll();
+        try {
+            merge(changes.getUsers(), users, USER_KEY, EntityType.USER, events);
+            merge(changes.getSessions(), sessions, SESSION_KEY, EntityType.SESSION, events);
+            merge(changes.getEvaluations(), evaluations, EVALUATION_KEY, EntityType.EVALUATION, events);
+            merge(changes.getPosterBoards(), posterBoards, BOARD_KEY, EntityType.POSTER_BOARD, events);
+            mergeAwards(changes, events);
+            
+            Set<String> removedUserIds = removeDeleted(liveUserIds, users, USER_KEY, EntityType.USER, events);
+            Set<String> removedSessionIds = removeDeleted(liveSessionIds, sessions, SESSION_KEY,
+                EntityType.SESSION, events);
+            Set<String> removedEvaluationIds = removeDeleted(liveEvaluationIds, evaluations, EVALUATION_KEY,
+                EntityType.EVALUATION, events);
+            removeDeleted(liveBoardIds, posterBoards, BOARD_KEY, EntityType.POSTER_BOARD, events);
+            
+            refreshAssignments(users.values(), changes, removedSessionIds, events);
+            // Keep the lookup indexes in step with the merged and removed rows
+            for (User user : changes.getUsers().values()) {
+                if (users.get(user.getId()) == user) {
+                    userIndex.put(user);
+                }
+            }
+            removedUserIds.forEach(userIndex::remove);
+            for (Session session : changes.getSessions().values()) {
+                if (sessions.get(session.getSessionId()) == session) {
+                    scheduleIndex.put(session);
+                }
+            }
+            removedSessionIds.forEach(scheduleIndex::remove);
+            for (Evaluation evaluation : changes.getEvaluations().values()) {
+                if (evaluations.get(evaluation.getEvaluationId()) == evaluation) {
+                    evaluationIndex.put(evaluation);
+                }
+            }
+            removedEvaluationIds.forEach(evaluationIndex::remove);
+            this.syncWatermark = changes.getWatermark();
+        } finally {
+            unlockAll(stamps);
+        }
+        changeEvents.publishAll(events);
+        return !events.isEmpty();
+    }
+    
+    /**
+     * Bounded-mode counterpart of {@link #applyChanges(ChangeSet)}. Changed rows replace
+     * only the entities that are cached; the rest are simply recorded as known IDs.
+     */
+    private boolean applyChangesOnDemand(ChangeSet changes) {
+        Set<String> liveUserIds = changes.getLiveIds("users");
+        Set<String> liveSessionIds = changes.getLiveIds("sessions");
+        Set<String> liveEvaluationIds = changes.getLiveIds("evaluations");
+        Set<String> liveBoardIds = changes.getLiveIds("poster_boards");
+        
+        List<ChangeEvent> events = new ArrayList<>();
+        long[] stamps = lockAll();
+        try {
+            merge(changes.getUsers(), cachedUsers, USER_KEY, EntityType.USER, events);
+            merge(changes.getSessions(), cachedSessions, SESSION_KEY, EntityType.SESSION, events);
+            merge(changes.getEvaluations(), cachedEvaluations, EVALUATION_KEY, EntityType.EVALUATION, events);
+            merge(changes.getPosterBoards(), posterBoards, BOARD_KEY, EntityType.POSTER_BOARD, events);
+            mergeAwards(changes, events);
+            
+            removeDeleted(liveUserIds, cachedUsers, USER_KEY, EntityType.USER, events);
+            Set<String> removedSessionIds = removeDeleted(liveSessionIds, cachedSessions, SESSION_KEY,
+                EntityType.SESSION, events);
+            removeDeleted(liveEvaluationIds, cachedEvaluations, EVALUATION_KEY, EntityType.EVALUATION, events);
+            removeDeleted(liveBoardIds, posterBoards, BOARD_KEY, EntityType.POSTER_BOARD, events);
+            refreshAssignments(cachedUsers.getCached(), changes, removedSessionIds, events);
+            this.syncWatermark = changes.getWatermark();
+        } finally {
+            unlockAll(stamps);
+        }
+        changeEvents.publishAll(events);
+        return !events.isEmpty();
+    }
+    
+    private void mergeAwards(ChangeSet changes, List<ChangeEvent> events) {
+        if (changes.getAwards() != null && !locallyModified.contains(AWARDS_KEY)
+                && !awards.equals(changes.getAwards())) {
+            this.awards = List.copyOf(changes.getAwards());
+            events.add(new ChangeEvent(EntityType.AWARD, null, Kind.UPDATED, true));
+        }
+    }
+    
+    /**
+     * Evaluator assignments live in session_evaluators, so refresh them from the changed sessions.
+     * @param residentUsers the users held in memory
+     */
+    private void refreshAssignments(Iterable<User> residentUsers, ChangeSet changes, Set<String> removedSessionIds,
+                                    List<ChangeEvent> events) {
+        Set<String> touchedSessionIds = new HashSet<>(changes.getSessions().keySet());
+        touchedSessionIds.addAll(removedSessionIds);
+        if (touchedSessionIds.isEmpty()) {
+            return;
+        }
+        for (User user : residentUsers) {
+            if (user instanceof Evaluator evaluator && !changes.getUsers().containsKey(user.getId())
+                    && !locallyModified.contains(USER_KEY + user.getId())) {
+                List<String> assigned = new ArrayList<>(evaluator.getAssignedSessionIds());
+                assigned.removeAll(touchedSessionIds);
+                for (Session session : changes.getSessions().values()) {
+                    if (session.getEvaluatorIds().contains(evaluator.getEvaluatorId())) {
+                        assigned.add(session.getSessionId());
+                    }
+                }
+                if (!assigned.equals(evaluator.getAssignedSessionIds())) {
+                    evaluator.setAssignedSessionIds(assigned);
+                    events.add(new ChangeEvent(EntityType.USER, user.getId(), Kind.UPDATED, true));
+                }
+            }
+        }
+    }
+    
+    private <T> void merge(Map<String, T> changed, OnDemandTable<T> table, String keyPrefix,
+                           EntityType type, List<ChangeEvent> events) {
+        for (Map.Entry<String, T> entry : changed.entrySet()) {
+            if (!locallyModified.contains(keyPrefix + entry.getKey())) {
+                boolean known = table.merge(entry.getKey(), entry.getValue());
+                events.add(new ChangeEvent(type, entry.getKey(), known ? Kind.UPDATED : Kind.ADDED, true));
+            }
+        }
+    }
+    
+    private <T> void merge(Map<String, T> changed, Map<String, T> cached, String keyPrefix,
+                           EntityType type, List<ChangeEvent> events) {
+        for (Map.Entry<String, T> entry : changed.entrySet()) {
+            if (!locallyModified.contains(keyPrefix + entry.getKey())) {
+                T previous = cached.put(entry.getKey(), entry.getValue());
+                events.add(new ChangeEvent(type, entry.getKey(), previous == null ? Kind.ADDED : Kind.UPDATED, true));
+            }
+        }
+    }
+    
+    /**
+     * Queries a table's live IDs if its row count will not match the cache once the
+     * changed rows are merged, which means rows were deleted.
+     * @return the live IDs, or null if no reconcile is needed or the query failed
+     */
+    private Set<String> fetchLiveIds(ChangeSet changes, String table, Set<String> cachedIds, Map<String, ?> changed) {
+        Integer liveCount = changes.getRowCounts().get(table);
+        if (liveCount == null) {
+            return null;
+        }
+        long added = changed.keySet().stream().filter(id -> !cachedIds.contains(id)).count();
+        if (liveCount == cachedIds.size() + added) {
+            return null;
+        }
+        return backend.getLiveIds(table);
+    }
+    
+    /**
+     * Drops cached rows of a table that no longer exist in the database.
+     * @param liveIds IDs attached by {@link #fetchReconcileData}, or null to skip the table
+     * @return the IDs that were removed
+     */
+    private Set<String> removeDeleted(Set<String> liveIds, Map<String, ?> cached, String keyPrefix,
+                                      EntityType type, List<ChangeEvent> events) {
+        if (liveIds == null) {
+            return Set.of();
+        }
+        Set<String> removed = new HashSet<>(cached.keySet());
+        removed.removeAll(liveIds);
+        removed.removeIf(id -> locallyModified.contains(keyPrefix + id));
+        for (String id : removed) {
+            cached.remove(id);
+            events.add(new ChangeEvent(type, id, Kind.REMOVED, true));
+        }
+        return removed;
+    }
+    
+    private <T> Set<String> removeDeleted(Set<String> liveIds, OnDemandTable<T> table, String keyPrefix,
+                                          EntityType type, List<ChangeEvent> events) {
+        if (liveIds == null) {
+            return Set.of();
+        }
+        Set<String> removed = new HashSet<>(table.getIds());
+        removed.removeAll(liveIds);
+        removed.removeIf(id -> locallyModified.contains(keyPrefix + id));
+        for (String id : removed) {
+            table.remove(id);
+            events.add(new ChangeEvent(type, id, Kind.REMOVED, true));
+        }
+        return removed;
     }
     
     /**
      * Checks if database is connected.
      */
     public boolean isDatabaseConnected() {
-        return databaseConnected && dbManager != null && dbManager.isConnected();
+        return databaseConnected && backend != null && backend.isConnected();
+    }
+    
+    /**
+     * Switches persistence to write-behind mode.
+     * @param capacity maximum number of distinct pending writes
+     * @param batchSize maximum writes flushed per batch
+     */
+    public synchronized void enableWriteBehind(int capacity, int batchSize) {
+        if (isBounded()) {
+            // An evicted entity would be reloaded from a database that has not seen its pending write
+            System.err.println("Write-behind is not available in bounded mode; writes stay synchronous.");
+            return;
+        }
+        if (journal == null) {
+            journal = new WriteBehindJournal(capacity, batchSize, this::writeBatch);
+        }
+    }
+    
+    /**
+     * Checks if mutations are persisted asynchronously.
+     */
+    public boolean isWriteBehindEnabled() {
+        return journal != null;
+    }
+    
+    /**
+     * Flush barrier: waits until every mutation made so far has reached the database.
+     * Returns immediately in synchronous mode unless writes were queued while offline.
+     * @param timeoutMillis maximum time to wait
+     * @return true if all pending writes completed within the timeout
+     */
+    public boolean flushWrites(long timeoutMillis) {
+        WriteBehindJournal queue = activeQueue();
+        if (queue == null) {
+            return true;
+        }
+        try {
+            return queue.flush(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    /**
+     * Gets write-behind queue metrics.
+     * @return the journal metrics, or null in synchronous mode
+     */
+    public WriteBehindMetrics getWriteBehindMetrics() {
+        return journal != null ? journal.getMetrics() : null;
+    }
+    
+    /**
+     * Drains pending writes and releases database resources.
+     * Called once when the application exits.
+     */
+    public void shutdown() {
+        WriteBehindJournal queue = activeQueue();
+        if (queue != null && queue.isPaused() && queue.hasPending()) {
+            System.err.println("Warning: the database is unreachable; queued writes will be lost: " + queue.getMetrics());
+        }
+        if (queue != null && !queue.close(SHUTDOWN_DRAIN_SECONDS, TimeUnit.SECONDS)) {
+            System.err.println("Warning: pending writes did not drain before shutdown: " + queue.getMetrics());
+        }
+        if (backend != null) {
+            backend.close();
+        }
+    }
+    
+    /**
+     * Runs a multi-entity operation as one unit of work.
+     * In synchronous mode all of its database writes share one transaction and are
+     * committed once. If the operation throws or the commit fails, the database is
+     * rolled back and every entity it touched is reloaded, so memory matches the
+     * database again. In write-behind mode each journal batch already commits once,
+     * so the operation simply runs. Nested calls join the outer unit of work.
+     * @param operation the in-memory changes and writes to perform
+     * @throws IllegalStateException if the changes could not be saved
+     */
+    public void inTransaction(Runnable operation) {
+        if (journal != null || transactionKeys.get() != null || !isDatabaseConnected() || isReplayingOffline()) {
+            operation.run();
+            return;
+        }
+        Set<String> touched = new LinkedHashSet<>();
+        transactionKeys.set(touched);
+        try {
+            backend.runInTransaction(operation);
+        } catch (SQLException e) {
+            reloadEntities(touched);
+            throw new IllegalStateException("Changes could not be saved: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            reloadEntities(touched);
+            throw e;
+        } finally {
+            transactionKeys.remove();
+        }
+    }
+    
+    /**
+     * Replaces the cached copies of the given entities with what the database holds.
+     * @param keys entity keys as used by {@link #persist(String, Runnable)}
+     */
+    private void reloadEntities(Set<String> keys) {
+        for (String key : keys) {
+            if (key.equals(AWARDS_KEY)) {
+                List<Award> stored = List.copyOf(backend.getAllAwards());
+                write(awardsLock, () -> this.awards = stored);
+                publishChange(EntityType.AWARD, null, Kind.UPDATED);
+            } else if (isBounded() && key.startsWith(USER_KEY)) {
+                reload(cachedUsers, EntityType.USER, key.substring(USER_KEY.length()));
+            } else if (isBounded() && key.startsWith(SESSION_KEY)) {
+                reload(cachedSessions, EntityType.SESSION, key.substring(SESSION_KEY.length()));
+            } else if (isBounded() && key.startsWith(EVALUATION_KEY)) {
+                reload(cachedEvaluations, EntityType.EVALUATION, key.substring(EVALUATION_KEY.length()));
+            } else if (key.startsWith(USER_KEY)) {
+                reload(usersLock, users, EntityType.USER, key.substring(USER_KEY.length()), backend::getUser,
+                    userIndex::put, userIndex::remove);
+            } else if (key.startsWith(SESSION_KEY)) {
+                reload(sessionsLock, sessions, EntityType.SESSION, key.substring(SESSION_KEY.length()),
+                    backend::getSession, scheduleIndex::put, scheduleIndex::remove);
+            } else if (key.startsWith(EVALUATION_KEY)) {
+                reload(evaluationsLock, evaluations, EntityType.EVALUATION, key.substring(EVALUATION_KEY.length()),
+                    backend::getEvaluation, evaluationIndex::put, evaluationIndex::remove);
+            } else if (key.startsWith(BOARD_KEY)) {
+                reload(boardsLock, posterBoards, EntityType.POSTER_BOARD, key.substring(BOARD_KEY.length()),
+                    backend::getPosterBoard, board -> { }, boardId -> { });
+            }
+        }
+    }
+    
+    private <T> void reload(StampedLock lock, Map<String, T> cached, EntityType type, String id,
+                            Function<String, T> loader, Consumer<T> index, Consumer<String> unindex) {
+        T stored = loader.apply(id);
+        boolean connected = backend.isConnected();
+        if (stored != null) {
+            T previous = writeAndGet(lock, () -> {
+                index.accept(stored);
+                return cached.put(id, stored);
+            });
+            publishPut(type, id, previous);
+        } else if (connected) {
+            T previous = writeAndGet(lock, () -> {
+                unindex.accept(id);
+                return cached.remove(id);
+            });
+            publishRemove(type, id, previous);
+        }
+    }
+    
+    private <T> void reload(OnDemandTable<T> table, EntityType type, String id) {
+        T stored = table.load(id);
+        if (stored != null) {
+            publishPut(type, id, table.put(id, stored));
+        } else if (backend.isConnected()) {
+            publishRemove(type, id, table.remove(id));
+        }
+    }
+    
+    /**
+     * Runs a read of one entity type's map or index under its read lock.
+     */
+    private static <T> T read(StampedLock lock, Supplier<T> reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * Runs a change to one entity type's map and index under its write lock.
+     */
+    private static void write(StampedLock lock, Runnable writer) {
+        long stamp = lock.writeLock();
+        try {
+            writer.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Runs a change to one entity type's map and index under its write lock and returns its result.
+     */
+    private static <T> T writeAndGet(StampedLock lock, Supplier<T> writer) {
+        long stamp = lock.writeLock();
+        try {
+            return writer.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Publishes a local change; called once the entity's lock has been released.
+     */
+    private void publishChange(EntityType type, String id, Kind kind) {
+        changeEvents.publish(new ChangeEvent(type, id, kind, false));
+    }
+    
+    /**
+     * Publishes a put, as an addition or an update depending on what it replaced.
+     */
+    private void publishPut(EntityType type, String id, Object previous) {
+        publishPut(type, id, previous != null);
+    }
+    
+    private void publishPut(EntityType type, String id, boolean replaced) {
+        publishChange(type, id, replaced ? Kind.UPDATED : Kind.ADDED);
+    }
+    
+    /**
+     * Publishes a removal, unless there was nothing to remove.
+     */
+    private void publishRemove(EntityType type, String id, Object previous) {
+        publishRemove(type, id, previous != null);
+    }
+    
+    private void publishRemove(EntityType type, String id, boolean removed) {
+        if (removed) {
+            publishChange(type, id, Kind.REMOVED);
+        }
+    }
+    
+    /**
+     * Gets a map's snapshot with an optimistic read, only locking when it must be rebuilt.
+     */
+    private static <V> Map<String, V> snapshot(StampedLock lock, VersionedMap<String, V> map) {
+        long stamp = lock.tryOptimisticRead();
+        Map<String, V> cached = map.cachedSnapshot();
+        if (cached != null && lock.validate(stamp)) {
+            return cached;
+        }
+        return read(lock, map::snapshot);
+    }
+    
+    private long[] lockAll() {
+        long[] stamps = new long[allLocks.length];
+        for (int i = 0; i < allLocks.length; i++) {
+            stamps[i] = allLocks[i].writeLock();
+        }
+        return stamps;
+    }
+    
+    private void unlockAll(long[] stamps) {
+        for (int i = allLocks.length - 1; i >= 0; i--) {
+            allLocks[i].unlockWrite(stamps[i]);
+        }
+    }
+    
+    /**
+     * Writes one journal batch in a single transaction. If the transaction fails,
+     * the writes are retried one by one so a single bad row does not drop the rest.
+     * If the database cannot be reached, the queue is paused and the batch is handed
+     * back to it to be replayed on reconnect.
+     */
+    private void writeBatch(List<Runnable> writes) {
+        try {
+            backend.runInTransaction(() -> writes.forEach(Runnable::run));
+            return;
+        } catch (SQLException | RuntimeException e) {
+            if (backend.isConnected()) {
+                System.err.println("Write-behind batch rolled back, retrying writes individually: " + e.getMessage());
+            }
+        }
+        for (Runnable write : writes) {
+            boolean reached;
+            try {
+                reached = backend.isConnected() && backend.tryWrite(write);
+            } catch (RuntimeException writeError) {
+                System.err.println("Write-behind write failed: " + writeError.getMessage());
+                continue;
+            }
+            if (!reached) {
+                // Writes of this batch that went through are replayed too; each is an upsert or delete
+                activeQueue().pause();
+                throw new IllegalStateException("Database unreachable, keeping writes until it reconnects");
+            }
+        }
+    }
+    
+    /**
+     * Gets the journal writes currently go through, or null if they are made directly.
+     */
+    private WriteBehindJournal activeQueue() {
+        WriteBehindJournal queue = journal;
+        return queue != null ? queue : offlineQueue;
+    }
+    
+    /**
+     * Checks if synchronous writes are being held back or replayed after an outage.
+     */
+    private boolean isReplayingOffline() {
+        WriteBehindJournal queue = offlineQueue;
+        return journal == null && queue != null && (queue.isPaused() || queue.hasPending());
+    }
+    
+    private synchronized WriteBehindJournal getOfflineQueue() {
+        if (offlineQueue == null) {
+            offlineQueue = new WriteBehindJournal(Integer.getInteger("seminar.store.writeBehind.capacity", 10_000),
+                Integer.getInteger("seminar.store.writeBehind.batchSize", 100), this::writeBatch);
+        }
+        return offlineQueue;
+    }
+    
+    /**
+     * Replays the writes queued during an outage; run by the backend once it is reachable again.
+     */
+    private void replayQueuedWrites() {
+        WriteBehindJournal queue = activeQueue();
+        if (queue != null && queue.isPaused()) {
+            System.out.println("Database reachable again; saving " + queue.getMetrics().getQueueDepth()
+                + " queued writes.");
+            queue.resume();
+        }
+    }
+    
+    /**
+     * Records that an entity changed in memory, for change polling and unit-of-work rollback.
+     */
+    private void markModified(String key) {
+        locallyModified.add(key);
+        Set<String> touched = transactionKeys.get();
+        if (touched != null) {
+            touched.add(key);
+        }
+    }
+    
+    /**
+     * Persists a mutation, either now or through the write-behind journal. A write
+     * that cannot reach the database is queued until it reconnects; while older
+     * queued writes are pending, newer ones queue behind them to keep their order.
+     * @param key entity key for coalescing repeated writes, or null if the write must not be merged
+     * @param write the database write
+     */
+    private void persist(String key, Runnable write) {
+        persist(key, write, false);
+    }
+
+    /**
+     * Persists the removal of an entity. Queued removals are never merged into an
+     * earlier write for the entity, so they cannot overtake writes that refer to it.
+     * @param key entity key of the removed entity
+     * @param write the database delete
+     */
+    private void persistRemoval(String key, Runnable write) {
+        persist(key, write, true);
+    }
+
+    private void persist(String key, Runnable write, boolean removal) {
+        if (key != null) {
+            markModified(key);
+        }
+        if (backend == null) {
+            return;
+        }
+        WriteBehindJournal queue = journal;
+        if (queue == null) {
+            if (isReplayingOffline()) {
+                queue = offlineQueue;
+            } else if (backend.isConnected() && backend.tryWrite(write)) {
+                return;
+            } else if (!databaseConnected || isBounded()) {
+                return;
+            } else {
+                queue = getOfflineQueue();
+            }
+        }
+        if (!backend.isConnected()) {
+            queue.pause();
+        }
+        if (removal) {
+            queue.submitRemoval(key, write);
+        } else {
+            queue.submit(key, write);
+        }
     }
 
     // User operations
     public void addUser(User user) {
         if (user != null) {
-            // Save to database first (will set auto-generated ID)
-            if (dbManager != null && dbManager.isConnected()) {
-                dbManager.saveUser(user);
+            if (user.getId() == null) {
+                // New users are saved synchronously so the auto-generated ID is available
+                if (backend != null && backend.isConnected()) {
+                    backend.saveUser(user);
+                }
+            } else {
+                persist(USER_KEY + user.getId(), () -> backend.saveUser(user));
             }
             // Now add to in-memory map with the generated ID
             if (user.getId() != null) {
-                users.put(user.getId(), user);
+                markModified(USER_KEY + user.getId());
+                publishPut(EntityType.USER, user.getId(), putUser(user));
             }
         }
     }
 
     public User getUser(String id) {
-        return users.get(id);
+        return isBounded() ? cachedUsers.get(id) : users.get(id);
     }
 
     public void removeUser(String id) {
-        users.remove(id);
-        if (dbManager != null && dbManager.isConnected()) {
-            dbManager.deleteUser(id);
-        }
+        boolean removed = isBounded() ? cachedUsers.remove(id) : writeAndGet(usersLock, () -> {
+            userIndex.remove(id);
+            return users.remove(id) != null;
+        });
+        persistRemoval(USER_KEY + id, () -> backend.deleteUser(id));
+        publishRemove(EntityType.USER, id, removed);
     }
 
+    /**
+     * Gets a read-only snapshot of all users, shared between callers until the next change.
+     * In bounded mode this reads the whole table.
+     */
     public Map<String, User> getUsers() {
-        return new HashMap<>(users);
+        return isBounded() ? cachedUsers.resolveAll(backend.getAllUsers()) : snapshot(usersLock, users);
     }
     
     /**
@@ -118,36 +1027,149 @@ public class DataStore {
      */
     public void updateUser(User user) {
         if (user != null && user.getId() != null) {
-            users.put(user.getId(), user);
-            if (dbManager != null && dbManager.isConnected()) {
-                dbManager.saveUser(user);
-            }
+            boolean replaced = putUser(user);
+            persist(USER_KEY + user.getId(), () -> backend.saveUser(user));
+            publishPut(EntityType.USER, user.getId(), replaced);
+        }
+    }
+    
+    /**
+     * @return true if the user replaced one with the same ID
+     */
+    private boolean putUser(User user) {
+        if (isBounded()) {
+            return cachedUsers.put(user.getId(), user);
         }
+        return writeAndGet(usersLock, () -> {
+            userIndex.put(user);
+            return users.put(user.getId(), user) != null;
+        });
+    }
+    
+    /**
+     * Looks a user up by a unique column in bounded mode.
+     * @return the cached instance of the matching user, or null if none matches or it is not of the given type
+     */
+    private <U extends User> U findUser(String column, String value, Class<U> type) {
+        User found = backend.findUser(column, value);
+        User user = found != null ? cachedUsers.adopt(found.getId(), found) : null;
+        return type.isInstance(user) ? type.cast(user) : null;
+    }
+
+    /**
+     * Finds a user by exact username.
+     * @param username the username
+     * @return the user, or null if none matches
+     */
+    public User findUserByUsername(String username) {
+        User user = username == null ? null
+            : isBounded() ? findUser("username", username, User.class)
+            : read(usersLock, () -> userIndex.getByUsername(username));
+        return user != null && username.equals(user.getUsername()) ? user : null;
+    }
+    
+    /**
+     * Finds a user by username, ignoring case.
+     * @param username the username
+     * @return the user, or null if none matches
+     */
+    public User findUserByUsernameIgnoreCase(String username) {
+        User user = username == null ? null
+            : isBounded() ? findUser("username", username, User.class)
+            : read(usersLock, () -> userIndex.getByUsernameIgnoreCase(username));
+        // Indexes are refreshed by updateUser; ignore hits for fields changed without it
+        return user != null && username.equalsIgnoreCase(user.getUsername()) ? user : null;
+    }
+    
+    /**
+     * Finds a student by student ID, ignoring case.
+     * @param studentId the student ID
+     * @return the student, or null if none matches
+     */
+    public Student findStudentByStudentId(String studentId) {
+        Student student = studentId == null ? null
+            : isBounded() ? findUser("student_id", studentId, Student.class)
+            : read(usersLock, () -> userIndex.getByStudentId(studentId));
+        return student != null && studentId.equalsIgnoreCase(student.getStudentId()) ? student : null;
+    }
+    
+    /**
+     * Finds a student by presenter ID.
+     * @param presenterId the presenter ID
+     * @return the student, or null if none matches
+     */
+    public Student findStudentByPresenterId(String presenterId) {
+        Student student = presenterId == null ? null
+            : isBounded() ? findUser("presenter_id", presenterId, Student.class)
+            : read(usersLock, () -> userIndex.getByPresenterId(presenterId));
+        return student != null && presenterId.equals(student.getPresenterId()) ? student : null;
+    }
+    
+    /**
+     * Finds an evaluator by evaluator ID (e.g. "EV-3c0c4fbd").
+     * @param evaluatorId the evaluator ID
+     * @return the evaluator, or null if none matches
+     */
+    public Evaluator findEvaluatorByEvaluatorId(String evaluatorId) {
+        Evaluator evaluator = evaluatorId == null ? null
+            : isBounded() ? findUser("evaluator_id", evaluatorId, Evaluator.class)
+            : read(usersLock, () -> userIndex.getByEvaluatorId(evaluatorId));
+        return evaluator != null && evaluatorId.equals(evaluator.getEvaluatorId()) ? evaluator : null;
     }
 
     // Session operations
     public void addSession(Session session) {
         if (session != null && session.getSessionId() != null) {
-            sessions.put(session.getSessionId(), session);
-            if (dbManager != null && dbManager.isConnected()) {
-                dbManager.saveSession(session);
-            }
+            boolean replaced = putSession(session);
+            persist(SESSION_KEY + session.getSessionId(), () -> backend.saveSession(session));
+            publishPut(EntityType.SESSION, session.getSessionId(), replaced);
         }
     }
 
     public Session getSession(String sessionId) {
-        return sessions.get(sessionId);
+        return isBounded() ? cachedSessions.get(sessionId) : sessions.get(sessionId);
     }
 
     public void removeSession(String sessionId) {
-        sessions.remove(sessionId);
-        if (dbManager != null && dbManager.isConnected()) {
-            dbManager.deleteSession(sessionId);
+        boolean removed = isBounded() ? cachedSessions.remove(sessionId) : writeAndGet(sessionsLock, () -> {
+            scheduleIndex.remove(sessionId);
+            return sessions.remove(sessionId) != null;
+        });
+        persistRemoval(SESSION_KEY + sessionId, () -> backend.deleteSession(sessionId));
+        publishRemove(EntityType.SESSION, sessionId, removed);
+    }
+
+    /**
+     * Finds the sessions on a date that a presenter or evaluator is assigned to.
+     * @param participantId the presenter ID or evaluator ID
+     * @param date the session date
+     * @return the matching sessions, empty if none
+     */
+    public List<Session> findSessionsFor(String participantId, LocalDate date) {
+        if (participantId == null || date == null) {
+            return List.of();
         }
+        List<Session> result = new ArrayList<>();
+        // Bounded mode has no schedule index, so every session is checked
+        Iterable<String> candidateIds = isBounded() ? getSessions().keySet()
+            : read(sessionsLock, () -> scheduleIndex.getSessionIds(participantId, date));
+        for (String sessionId : candidateIds) {
+            Session session = getSession(sessionId);
+            // Indexes are refreshed by updateSession; ignore hits for fields changed without it
+            if (session != null && date.equals(session.getDate())
+                    && (session.getPresenterIds().contains(participantId)
+                        || session.getEvaluatorIds().contains(participantId))) {
+                result.add(session);
+            }
+        }
+        return result;
     }
 
+    /**
+     * Gets a read-only snapshot of all sessions. In bounded mode this reads the whole table.
+     */
     public Map<String, Session> getSessions() {
-        return new HashMap<>(sessions);
+        return isBounded() ? cachedSessions.resolveAll(backend.getAllSessions()) : snapshot(sessionsLock, sessions);
     }
     
     /**
@@ -155,54 +1177,170 @@ public class DataStore {
      */
     public void updateSession(Session session) {
         if (session != null && session.getSessionId() != null) {
-            sessions.put(session.getSessionId(), session);
-            if (dbManager != null && dbManager.isConnected()) {
-                dbManager.saveSession(session);
-            }
+            boolean replaced = putSession(session);
+            persist(SESSION_KEY + session.getSessionId(), () -> backend.saveSession(session));
+            publishPut(EntityType.SESSION, session.getSessionId(), replaced);
+        }
+    }
+    
+    /**
+     * @return true if the session replaced one with the same ID
+     */
+    private boolean putSession(Session session) {
+        if (isBounded()) {
+            return cachedSessions.put(session.getSessionId(), session);
         }
+        return writeAndGet(sessionsLock, () -> {
+            scheduleIndex.put(session);
+            return sessions.put(session.getSessionId(), session) != null;
+        });
     }
 
     // Evaluation operations
     public void addEvaluation(Evaluation evaluation) {
         if (evaluation != null && evaluation.getEvaluationId() != null) {
-            evaluations.put(evaluation.getEvaluationId(), evaluation);
-            if (dbManager != null && dbManager.isConnected()) {
-                dbManager.saveEvaluation(evaluation);
-            }
+            boolean replaced = putEvaluation(evaluation);
+            persist(EVALUATION_KEY + evaluation.getEvaluationId(), () -> backend.saveEvaluation(evaluation));
+            publishPut(EntityType.EVALUATION, evaluation.getEvaluationId(), replaced);
         }
     }
     
     public void updateEvaluation(Evaluation evaluation) {
         if (evaluation != null && evaluation.getEvaluationId() != null) {
-            evaluations.put(evaluation.getEvaluationId(), evaluation);
-            if (dbManager != null && dbManager.isConnected()) {
-                dbManager.updateEvaluation(evaluation);
-            }
+            boolean replaced = putEvaluation(evaluation);
+            persist(EVALUATION_KEY + evaluation.getEvaluationId(), () -> backend.updateEvaluation(evaluation));
+            publishPut(EntityType.EVALUATION, evaluation.getEvaluationId(), replaced);
         }
     }
+    
+    /**
+     * @return true if the evaluation replaced one with the same ID
+     */
+    private boolean putEvaluation(Evaluation evaluation) {
+        if (isBounded()) {
+            return cachedEvaluations.put(evaluation.getEvaluationId(), evaluation);
+        }
+        return writeAndGet(evaluationsLock, () -> {
+            evaluationIndex.put(evaluation);
+            return evaluations.put(evaluation.getEvaluationId(), evaluation) != null;
+        });
+    }
 
     public Evaluation getEvaluation(String evaluationId) {
-        return evaluations.get(evaluationId);
+        return isBounded() ? cachedEvaluations.get(evaluationId) : evaluations.get(evaluationId);
     }
 
     public void removeEvaluation(String evaluationId) {
-        evaluations.remove(evaluationId);
-        if (dbManager != null && dbManager.isConnected()) {
-            dbManager.deleteEvaluation(evaluationId);
+        boolean removed = isBounded() ? cachedEvaluations.remove(evaluationId) : writeAndGet(evaluationsLock, () -> {
+            evaluationIndex.remove(evaluationId);
+            return evaluations.remove(evaluationId) != null;
+        });
+        persistRemoval(EVALUATION_KEY + evaluationId, () -> backend.deleteEvaluation(evaluationId));
+        publishRemove(EntityType.EVALUATION, evaluationId, removed);
+    }
+    
+    /**
+     * Runs an evaluation lookup query in bounded mode, swapping rows for their cached instances.
+     */
+    private List<Evaluation> findEvaluations(String column, String value) {
+        return backend.getEvaluationsBy(column, value).stream()
+            .map(evaluation -> cachedEvaluations.resolve(evaluation.getEvaluationId(), evaluation))
+            .toList();
+    }
+
+    /**
+     * Finds the evaluation an evaluator submitted for a presenter.
+     * @param evaluatorId the evaluator ID
+     * @param presenterId the presenter ID
+     * @return the evaluation, or null if none matches
+     */
+    public Evaluation findEvaluation(String evaluatorId, String presenterId) {
+        Evaluation evaluation = isBounded()
+            ? getEvaluationsForPresenter(presenterId).stream()
+                .filter(candidate -> Objects.equals(evaluatorId, candidate.getEvaluatorId()))
+                .findFirst().orElse(null)
+            : read(evaluationsLock, () -> evaluationIndex.getByPair(evaluatorId, presenterId));
+        // Indexes are refreshed by updateEvaluation; ignore hits for fields changed without it
+        return evaluation != null && Objects.equals(evaluatorId, evaluation.getEvaluatorId())
+            && Objects.equals(presenterId, evaluation.getPresenterId()) ? evaluation : null;
+    }
+    
+    /**
+     * Gets the evaluations submitted for a presenter.
+     * @param presenterId the presenter ID
+     * @return immutable list of the presenter's evaluations
+     */
+    public List<Evaluation> getEvaluationsForPresenter(String presenterId) {
+        List<Evaluation> candidates = isBounded() ? findEvaluations("presenter_id", presenterId)
+            : read(evaluationsLock, () -> evaluationIndex.getByPresenter(presenterId));
+        return candidates.stream()
+            .filter(evaluation -> Objects.equals(presenterId, evaluation.getPresenterId()))
+            .toList();
+    }
+    
+    /**
+     * Gets the evaluations submitted by an evaluator.
+     * @param evaluatorId the evaluator ID
+     * @return immutable list of the evaluator's evaluations
+     */
+    public List<Evaluation> getEvaluationsByEvaluator(String evaluatorId) {
+        List<Evaluation> candidates = isBounded() ? findEvaluations("evaluator_id", evaluatorId)
+            : read(evaluationsLock, () -> evaluationIndex.getByEvaluator(evaluatorId));
+        return candidates.stream()
+            .filter(evaluation -> Objects.equals(evaluatorId, evaluation.getEvaluatorId()))
+            .toList();
+    }
+
+    /**
+     * Gets the running score totals of a presenter's evaluations, in constant time unless the store is bounded.
+     * @param presenterId the presenter ID
+     * @return the summary, {@link ScoreSummary#EMPTY} if the presenter has no scored evaluations
+     */
+    public ScoreSummary getScoreSummary(String presenterId) {
+        if (isBounded()) {
+            ScoreSummary summary = ScoreSummary.EMPTY;
+            for (Evaluation evaluation : getEvaluationsForPresenter(presenterId)) {
+                RubricScores scores = evaluation.getScores();
+                if (scores != null) {
+                    summary = summary.plus(scores);
+                }
+            }
+            return summary;
         }
+        return read(evaluationsLock, () -> evaluationIndex.getScoreSummary(presenterId));
     }
 
+    /**
+     * Runs an analytics query over the columnar copy of every scored evaluation.
+     * The query runs under the evaluation read lock, so it sees a consistent table
+     * but must be quick and must not keep the columns after it returns.
+     * @param query the computation to run
+     * @return the query's result
+     */
+    public <T> T queryScores(Function<ScoreColumns, T> query) {
+        if (isBounded()) {
+            // Built for this query from a full read, since bounded mode keeps no columns
+            ScoreColumns columns = new ScoreColumns();
+            getEvaluations().values().forEach(columns::put);
+            return query.apply(columns);
+        }
+        return read(evaluationsLock, () -> query.apply(evaluationIndex.getScoreColumns()));
+    }
+
+    /**
+     * Gets a read-only snapshot of all evaluations. In bounded mode this reads the whole table.
+     */
     public Map<String, Evaluation> getEvaluations() {
-        return new HashMap<>(evaluations);
+        return isBounded() ? cachedEvaluations.resolveAll(backend.getAllEvaluations())
+            : snapshot(evaluationsLock, evaluations);
     }
 
     // PosterBoard operations
     public void addPosterBoard(PosterBoard posterBoard) {
         if (posterBoard != null && posterBoard.getBoardId() != null) {
-            posterBoards.put(posterBoard.getBoardId(), posterBoard);
-            if (dbManager != null && dbManager.isConnected()) {
-                dbManager.savePosterBoard(posterBoard);
-            }
+            PosterBoard previous = writeAndGet(boardsLock, () -> posterBoards.put(posterBoard.getBoardId(), posterBoard));
+            persist(BOARD_KEY + posterBoard.getBoardId(), () -> backend.savePosterBoard(posterBoard));
+            publishPut(EntityType.POSTER_BOARD, posterBoard.getBoardId(), previous);
         }
     }
 
@@ -211,57 +1349,102 @@ public class DataStore {
     }
 
     public void removePosterBoard(String boardId) {
-        posterBoards.remove(boardId);
-        if (dbManager != null && dbManager.isConnected()) {
-            dbManager.clearPosterBoard(boardId);
-        }
+        PosterBoard previous = writeAndGet(boardsLock, () -> posterBoards.remove(boardId));
+        persistRemoval(BOARD_KEY + boardId, () -> backend.clearPosterBoard(boardId));
+        publishRemove(EntityType.POSTER_BOARD, boardId, previous);
     }
 
+    /**
+     * Gets a read-only snapshot of all poster boards.
+     */
     public Map<String, PosterBoard> getPosterBoards() {
-        return new HashMap<>(posterBoards);
+        return snapshot(boardsLock, posterBoards);
     }
 
     // Award operations
     public void addAward(Award award) {
         if (award != null) {
-            awards.add(award);
-            if (dbManager != null && dbManager.isConnected()) {
-                dbManager.saveAward(award);
-            }
+            write(awardsLock, () -> {
+                List<Award> updated = new ArrayList<>(awards);
+                updated.add(award);
+                this.awards = List.copyOf(updated);
+            });
+            markModified(AWARDS_KEY);
+            // Awards are appended, never merged
+            persist(null, () -> backend.saveAward(award));
+            publishChange(EntityType.AWARD, null, Kind.UPDATED);
         }
     }
 
     public void clearAwards() {
-        awards.clear();
-        if (dbManager != null && dbManager.isConnected()) {
-            dbManager.clearAwards();
-        }
+        write(awardsLock, () -> this.awards = List.of());
+        markModified(AWARDS_KEY);
+        persist(null, () -> backend.clearAwards());
+        publishChange(EntityType.AWARD, null, Kind.UPDATED);
     }
 
+    /**
+     * Gets the current awards as an immutable list.
+     */
     public List<Award> getAwards() {
-        return new ArrayList<>(awards);
+        return awards;
+    }
+
+    /**
+     * Gets the bus on which this store publishes its entity changes.
+     */
+    public ChangeEventBus getChangeEvents() {
+        return changeEvents;
     }
 
     /**
      * Saves data to MySQL database.
-     * Data is automatically saved on each operation, this method is for compatibility.
-     * @param filepath ignored - MySQL only
+     * Data is saved on each operation; in write-behind mode this waits for pending writes.
+     * Once the database is up to date, a snapshot of the in-memory maps is written to
+     * filepath so the next start only has to reload rows changed after the last sync.
+     * @param filepath snapshot file, or null to skip the snapshot
      */
     public void save(String filepath) {
-        if (dbManager != null && dbManager.isConnected()) {
-            System.out.println("Data saved to MySQL database.");
+        if (backend != null && backend.isConnected()) {
+            if (!flushWrites(TimeUnit.SECONDS.toMillis(SHUTDOWN_DRAIN_SECONDS))) {
+                System.err.println("Warning: pending writes are still being saved.");
+                return;
+            }
+            System.out.println("Data saved to " + backend.getLocation() + ".");
+            writeSnapshot(filepath);
         } else {
             System.err.println("Warning: Database not connected. Data not saved.");
         }
     }
+    
+    private void writeSnapshot(String filepath) {
+        // A bounded store does not hold the whole database, so it has nothing to snapshot
+        if (filepath == null || syncWatermark == null || !isSnapshotEnabled() || isBounded()) {
+            return;
+        }
+        // The watermark is the last sync point, so rows written by other clients since then are still fetched
+        DataSnapshot snapshot = new DataSnapshot(backend.getLocation(), syncWatermark,
+            getUsers(), getSessions(), getEvaluations(), getPosterBoards(), awards);
+        try {
+            snapshot.write(Paths.get(filepath));
+        } catch (IOException e) {
+            System.err.println("Warning: could not write snapshot " + filepath + ": " + e.getMessage());
+        }
+    }
+    
+    private static boolean isSnapshotEnabled() {
+        return Boolean.parseBoolean(System.getProperty("seminar.store.snapshot", "true"));
+    }
 
     /**
      * Loads a DataStore from MySQL database.
-     * @param filepath ignored - MySQL only
+     * If filepath holds a snapshot of the same database, it is restored and only
+     * rows changed since it was written are read; otherwise every table is loaded.
+     * @param filepath snapshot file written by {@link #save(String)}
      * @return the loaded DataStore
      */
     public static DataStore load(String filepath) {
-        return new DataStore();
+        return new DataStore(filepath != null && isSnapshotEnabled() ? Paths.get(filepath) : null);
     }
     
     /**
@@ -271,11 +1454,19 @@ public class DataStore {
         return true;
     }
     
+    /**
+     * Gets the storage backend, or null if there is none.
+     */
+    public StorageBackend getBackend() {
+        return backend;
+    }
+    
     /**
      * Gets the database manager instance.
+     * @return the MySQL backend, or null if the store uses another backend
      */
     public DatabaseManager getDatabaseManager() {
-        return dbManager;
+        return backend instanceof DatabaseManager manager ? manager : null;
     }
 
     @Override
@@ -283,15 +1474,15 @@ public class DataStore {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         DataStore dataStore = (DataStore) o;
-        return Objects.equals(users, dataStore.users) &&
-               Objects.equals(sessions, dataStore.sessions) &&
-               Objects.equals(evaluations, dataStore.evaluations) &&
-               Objects.equals(posterBoards, dataStore.posterBoards) &&
+        return Objects.equals(getUsers(), dataStore.getUsers()) &&
+               Objects.equals(getSessions(), dataStore.getSessions()) &&
+               Objects.equals(getEvaluations(), dataStore.getEvaluations()) &&
+               Objects.equals(getPosterBoards(), dataStore.getPosterBoards()) &&
                Objects.equals(awards, dataStore.awards);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(users, sessions, evaluations, posterBoards, awards);
+        return Objects.hash(getUsers(), getSessions(), getEvaluations(), getPosterBoards(), awards);
     }
 }
@@ -0,0 +1,353 @@
+package com.fci.seminar.service;
+
+/**
+ * Connection settings for the MySQL database and its connection pool.
+ * Defaults match a stock Laragon install; every value can be overridden
+ * with a JVM system property (e.g. -Dseminar.db.pool.maxSize=20).
+ * An optional read replica, reached with the same credentials and pool sizes,
+ * is configured with -Dseminar.db.replica.url.
+ * Connection health settings bound how long a caller can wait on an unreachable
+ * server and how often the background reconnect loop probes it.
+ * A configuration can also be assembled in code with {@link #builder()}.
+ */
+public final class DatabaseConfig {
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxPoolSize;
+    private final int minIdle;
+    private final long connectionTimeoutMs;
+    private final long idleTimeoutMs;
+    private final long maxLifetimeMs;
+    private final boolean rewriteBatchedStatements;
+    private final boolean streamResults;
+    private final boolean migrateOnStartup;
+    private final int textCacheSize;
+    private final String replicaUrl;
+    private final long replicaMaxLagMs;
+    private final long replicaRetryMs;
+    private final long connectTimeoutMs;
+    private final long socketTimeoutMs;
+    private final int breakerFailureThreshold;
+    private final long reconnectIntervalMs;
+    private final long reconnectMaxIntervalMs;
+
+    private DatabaseConfig(Builder builder) {
+        this.url = builder.url;
+        this.user = builder.user;
+        this.password = builder.password;
+        this.maxPoolSize = builder.maxPoolSize;
+        this.minIdle = builder.minIdle;
+        this.connectionTimeoutMs = builder.connectionTimeoutMs;
+        this.idleTimeoutMs = builder.idleTimeoutMs;
+        this.maxLifetimeMs = builder.maxLifetimeMs;
+        this.rewriteBatchedStatements = builder.rewriteBatchedStatements;
+        this.streamResults = builder.streamResults;
+        this.migrateOnStartup = builder.migrateOnStartup;
+        this.textCacheSize = builder.textCacheSize;
+        this.replicaUrl = builder.replicaUrl;
+        this.replicaMaxLagMs = builder.replicaMaxLagMs;
+        this.replicaRetryMs = builder.replicaRetryMs;
+        this.connectTimeoutMs = builder.connectTimeoutMs;
+        this.socketTimeoutMs = builder.socketTimeoutMs;
+        this.breakerFailureThreshold = builder.breakerFailureThreshold;
+        this.reconnectIntervalMs = builder.reconnectIntervalMs;
+        this.reconnectMaxIntervalMs = builder.reconnectMaxIntervalMs;
+    }
+
+    /**
+     * Starts a configuration with the Laragon defaults.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builds a configuration from system properties, falling back to Laragon defaults.
+     * @return the resolved configuration
+     */
+    public static DatabaseConfig fromSystemProperties() {
+        Builder defaults = new Builder();
+        return builder()
+            .url(System.getProperty("seminar.db.url", defaults.url))
+            .user(System.getProperty("seminar.db.user", defaults.user))
+            .password(System.getProperty("seminar.db.password", defaults.password))
+            .maxPoolSize(Integer.getInteger("seminar.db.pool.maxSize", defaults.maxPoolSize))
+            .minIdle(Integer.getInteger("seminar.db.pool.minIdle", defaults.minIdle))
+            .connectionTimeoutMs(Long.getLong("seminar.db.pool.connectionTimeoutMs", defaults.connectionTimeoutMs))
+            .idleTimeoutMs(Long.getLong("seminar.db.pool.idleTimeoutMs", defaults.idleTimeoutMs))
+            .maxLifetimeMs(Long.getLong("seminar.db.pool.maxLifetimeMs", defaults.maxLifetimeMs))
+            .rewriteBatchedStatements(booleanProperty("seminar.db.rewriteBatchedStatements",
+                defaults.rewriteBatchedStatements))
+            .streamResults(booleanProperty("seminar.db.streamResults", defaults.streamResults))
+            .migrateOnStartup(booleanProperty("seminar.db.migrate", defaults.migrateOnStartup))
+            .textCacheSize(Integer.getInteger("seminar.db.textCacheSize", defaults.textCacheSize))
+            .replicaUrl(System.getProperty("seminar.db.replica.url"))
+            .replicaMaxLagMs(Long.getLong("seminar.db.replica.maxLagMs", defaults.replicaMaxLagMs))
+            .replicaRetryMs(Long.getLong("seminar.db.replica.retryMs", defaults.replicaRetryMs))
+            .connectTimeoutMs(Long.getLong("seminar.db.connectTimeoutMs", defaults.connectTimeoutMs))
+            .socketTimeoutMs(Long.getLong("seminar.db.socketTimeoutMs", defaults.socketTimeoutMs))
+            .breakerFailureThreshold(Integer.getInteger("seminar.db.breaker.failureThreshold",
+                defaults.breakerFailureThreshold))
+            .reconnectIntervalMs(Long.getLong("seminar.db.reconnect.intervalMs", defaults.reconnectIntervalMs))
+            .reconnectMaxIntervalMs(Long.getLong("seminar.db.reconnect.maxIntervalMs",
+                defaults.reconnectMaxIntervalMs))
+            .build();
+    }
+
+    private static boolean booleanProperty(String name, boolean defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public long getConnectionTimeoutMs() {
+        return connectionTimeoutMs;
+    }
+
+    public long getIdleTimeoutMs() {
+        return idleTimeoutMs;
+    }
+
+    public long getMaxLifetimeMs() {
+        return maxLifetimeMs;
+    }
+
+    public boolean isRewriteBatchedStatements() {
+        return rewriteBatchedStatements;
+    }
+
+    /**
+     * Whether full-table loads stream rows from the server instead of buffering
+     * the whole result set in the driver first.
+     */
+    public boolean isStreamResults() {
+        return streamResults;
+    }
+
+    /**
+     * Whether pending schema migrations are applied when the pool starts.
+     */
+    public boolean isMigrateOnStartup() {
+        return migrateOnStartup;
+    }
+
+    /**
+     * How many lazily loaded abstracts and evaluation comments are kept in memory.
+     */
+    public int getTextCacheSize() {
+        return textCacheSize;
+    }
+
+    /**
+     * JDBC URL of the read replica, or null to send every read to the primary.
+     */
+    public String getReplicaUrl() {
+        return replicaUrl;
+    }
+
+    /**
+     * How far the replica may lag the primary. Reads go to the primary for this long
+     * after each write, so a client always sees its own changes.
+     */
+    public long getReplicaMaxLagMs() {
+        return replicaMaxLagMs;
+    }
+
+    /**
+     * How long reads stay on the primary after the replica fails to hand out a connection.
+     */
+    public long getReplicaRetryMs() {
+        return replicaRetryMs;
+    }
+
+    /**
+     * Longest wait for the server to accept a new TCP connection.
+     */
+    public long getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    /**
+     * Longest wait for any response from the server before the statement fails and
+     * its connection is dropped, so a hung server cannot block a caller indefinitely.
+     */
+    public long getSocketTimeoutMs() {
+        return socketTimeoutMs;
+    }
+
+    /**
+     * Consecutive connection failures after which callers are turned away at once.
+     */
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    /**
+     * Wait before the first reconnect probe after the connection is lost.
+     */
+    public long getReconnectIntervalMs() {
+        return reconnectIntervalMs;
+    }
+
+    /**
+     * Longest wait between reconnect probes; the wait doubles after each failed probe.
+     */
+    public long getReconnectMaxIntervalMs() {
+        return reconnectMaxIntervalMs;
+    }
+
+    /**
+     * Collects settings by name; anything not set keeps its Laragon default.
+     */
+    public static final class Builder {
+
+        private String url = "jdbc:mysql://localhost:3306/seminar_db";
+        private String user = "root";
+        private String password = ""; // Laragon default is empty password
+        private int maxPoolSize = 10;
+        private int minIdle = 2;
+        private long connectionTimeoutMs = 5_000L;
+        private long idleTimeoutMs = 600_000L;
+        private long maxLifetimeMs = 1_800_000L;
+        private boolean rewriteBatchedStatements = true;
+        private boolean streamResults = true;
+        private boolean migrateOnStartup = true;
+        private int textCacheSize = 500;
+        private String replicaUrl;
+        private long replicaMaxLagMs = 2_000L;
+        private long replicaRetryMs = 30_000L;
+        private long connectTimeoutMs = 3_000L;
+        private long socketTimeoutMs = 30_000L;
+        private int breakerFailureThreshold = 3;
+        private long reconnectIntervalMs = 2_000L;
+        private long reconnectMaxIntervalMs = 30_000L;
+
+        private Builder() {
+        }
+
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder user(String user) {
+            this.user = user;
+            return this;
+        }
+
+        public Builder password(String password) {
+            this.password = password;
+            return this;
+        }
+
+        public Builder maxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+            return this;
+        }
+
+        public Builder minIdle(int minIdle) {
+            this.minIdle = minIdle;
+            return this;
+        }
+
+        public Builder connectionTimeoutMs(long connectionTimeoutMs) {
+            this.connectionTimeoutMs = connectionTimeoutMs;
+            return this;
+        }
+
+        public Builder idleTimeoutMs(long idleTimeoutMs) {
+            this.idleTimeoutMs = idleTimeoutMs;
+            return this;
+        }
+
+        public Builder maxLifetimeMs(long maxLifetimeMs) {
+            this.maxLifetimeMs = maxLifetimeMs;
+            return this;
+        }
+
+        public Builder rewriteBatchedStatements(boolean rewriteBatchedStatements) {
+            this.rewriteBatchedStatements = rewriteBatchedStatements;
+            return this;
+        }
+
+        public Builder streamResults(boolean streamResults) {
+            this.streamResults = streamResults;
+            return this;
+        }
+
+        public Builder migrateOnStartup(boolean migrateOnStartup) {
+            this.migrateOnStartup = migrateOnStartup;
+            return this;
+        }
+
+        public Builder textCacheSize(int textCacheSize) {
+            this.textCacheSize = textCacheSize;
+            return this;
+        }
+
+        public Builder replicaUrl(String replicaUrl) {
+            this.replicaUrl = replicaUrl;
+            return this;
+        }
+
+        public Builder replicaMaxLagMs(long replicaMaxLagMs) {
+            this.replicaMaxLagMs = replicaMaxLagMs;
+            return this;
+        }
+
+        public Builder replicaRetryMs(long replicaRetryMs) {
+            this.replicaRetryMs = replicaRetryMs;
+            return this;
+        }
+
+        public Builder connectTimeoutMs(long connectTimeoutMs) {
+            this.connectTimeoutMs = connectTimeoutMs;
+            return this;
+        }
+
+        public Builder socketTimeoutMs(long socketTimeoutMs) {
+            this.socketTimeoutMs = socketTimeoutMs;
+            return this;
+        }
+
+        public Builder breakerFailureThreshold(int breakerFailureThreshold) {
+            this.breakerFailureThreshold = breakerFailureThreshold;
+            return this;
+        }
+
+        public Builder reconnectIntervalMs(long reconnectIntervalMs) {
+            this.reconnectIntervalMs = reconnectIntervalMs;
+            return this;
+        }
+
+        public Builder reconnectMaxIntervalMs(long reconnectMaxIntervalMs) {
+            this.reconnectMaxIntervalMs = reconnectMaxIntervalMs;
+            return this;
+        }
+
+        public DatabaseConfig build() {
+            return new DatabaseConfig(this);
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package com.fci.seminar.service;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
 
 import com.fci.seminar.model.Award;
 import com.fci.seminar.model.AwardType;
 import com.fci.seminar.model.Coordinator;
+import com.fci.seminar.model.DirtyFields;
 import com.fci.seminar.model.Evaluation;
 import com.fci.seminar.model.Evaluator;
 import com.fci.seminar.model.PosterBoard;
@@ -24,25 +42,110 @@ import com.fci.seminar.model.Session;
 import com.fci.seminar.model.Student;
 import com.fci.seminar.model.User;
 import com.fci.seminar.model.UserRole;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 
 /**
  * Database manager for MySQL operations.
  * Handles all database connections and CRUD operations.
+ * Connections are borrowed from a HikariCP pool for the duration of a single
+ * operation and returned immediately, so concurrent callers never share one.
+ * <p>
+ * With a read replica configured, entity reads and full-table loads use a second
+ * pool on the replica so they do not compete with writes on the primary. Writes,
+ * transactions and change tracking always use the primary. For
+ * {@link DatabaseConfig#getReplicaMaxLagMs() the replica's maximum lag} after each
+ * write, reads also go to the primary so the client sees its own changes, and if
+ * the replica cannot hand out a connection, reads fall back to the primary until
+ * it is retried.
+ * <p>
+ * Connection health: failures to obtain a primary connection feed a
+ * {@link CircuitBreaker}. Once it opens, {@link #isConnected()} reports false and
+ * every operation fails at once instead of waiting out the connect timeout, while a
+ * background thread probes the server and closes the breaker when it answers again,
+ * then notifies the {@link #addReconnectListener(Runnable) reconnect listeners}.
+ * Connect and socket timeouts bound how long any single call can block.
  */
-public class DatabaseManager {
-    
-    // Laragon default MySQL settings
-    private static final String DB_URL = "jdbc:mysql://localhost:3306/seminar_db";
-    private static final String DB_USER = "root";
-    private static final String DB_PASSWORD = ""; // Laragon default is empty password
+public class DatabaseManager implements StorageBackend {
     
     private static DatabaseManager instance;
-    private Connection connection;
+    
+    /** Primary key column of each table whose deletions are tracked by change syncs. */
+    private static final Map<String, String> LIVE_ID_COLUMNS = Map.of(
+        "users", "id",
+        "sessions", "session_id",
+        "evaluations", "evaluation_id",
+        "poster_boards", "board_id");
+    
+    // Columns read by bulk and delta loads; abstract_text and comments are fetched on first access
+    private static final String USER_COLUMNS = "id, username, password, role, student_id, research_title, "
+        + "supervisor_name, presentation_type, file_path, presenter_id, vote_count, has_voted, evaluator_id";
+    private static final String EVALUATION_COLUMNS = "evaluation_id, presenter_id, evaluator_id, session_id, "
+        + "problem_clarity, methodology, results, presentation, submitted_at";
+    // Columns that single-row user and evaluation lookups may filter on
+    private static final Set<String> USER_LOOKUP_COLUMNS = Set.of(
+        "username", "student_id", "presenter_id", "evaluator_id");
+    private static final Set<String> EVALUATION_LOOKUP_COLUMNS = Set.of("presenter_id", "evaluator_id");
+    
+    private final DatabaseConfig config;
+    private final TextCache textCache;
+    private volatile DataSource dataSource;
+    private volatile DataSource replicaDataSource;
+    // System.nanoTime() deadlines before which reads stay on the primary
+    private volatile long primaryReadsUntil = System.nanoTime();
+    private volatile long replicaRetryAt = System.nanoTime();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder replicaFailures = new LongAdder();
+    private final ThreadLocal<JdbcTransaction> currentTransaction = new ThreadLocal<>();
+    private final CircuitBreaker breaker;
+    private final List<Runnable> reconnectListeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService reconnectLoop;
+    // Set by tryWrite(); flagged when the write could not get a connection
+    private final ThreadLocal<boolean[]> writeUnreachable = new ThreadLocal<>();
+    
+    // Borrow latency statistics for pool sizing
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder borrowNanos = new LongAdder();
+    private final AtomicLong maxBorrowNanos = new AtomicLong();
     
     private DatabaseManager() {
+        this.config = DatabaseConfig.fromSystemProperties();
+        this.textCache = new TextCache(config.getTextCacheSize());
+        this.breaker = createBreaker(config);
         connect();
     }
     
+    /**
+     * Creates a manager over an existing data source (used by tests).
+     */
+    DatabaseManager(DataSource dataSource) {
+        this(dataSource, null);
+    }
+    
+    /**
+     * Creates a manager over existing primary and replica data sources (used by tests).
+     */
+    DatabaseManager(DataSource dataSource, DataSource replicaDataSource) {
+        this(dataSource, replicaDataSource, createBreaker(DatabaseConfig.fromSystemProperties()));
+    }
+    
+    /**
+     * Creates a manager over existing data sources with a given circuit breaker (used by tests).
+     */
+    DatabaseManager(DataSource dataSource, DataSource replicaDataSource, CircuitBreaker breaker) {
+        this.config = DatabaseConfig.fromSystemProperties();
+        this.textCache = new TextCache(config.getTextCacheSize());
+        this.breaker = breaker;
+        this.dataSource = dataSource;
+        this.replicaDataSource = replicaDataSource;
+    }
+    
+    private static CircuitBreaker createBreaker(DatabaseConfig config) {
+        return new CircuitBreaker(config.getBreakerFailureThreshold(), config.getReconnectIntervalMs(),
+            config.getReconnectMaxIntervalMs());
+    }
+    
     public static synchronized DatabaseManager getInstance() {
         if (instance == null) {
             instance = new DatabaseManager();
@@ -51,65 +154,467 @@ public class DatabaseManager {
     }
     
     /**
-     * Establishes database connection.
+     * Creates the connection pool.
      */
-    private void connect() {
+    private synchronized void connect() {
+        if (dataSource instanceof HikariDataSource pool && pool.isRunning()) {
+            return;
+        }
         try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            connection = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+            dataSource = new HikariDataSource(createPoolConfig(config, "seminar-db", config.getUrl()));
             System.out.println("Database connected successfully!");
-        } catch (ClassNotFoundException e) {
-            System.err.println("MySQL Driver not found: " + e.getMessage());
-        } catch (SQLException e) {
+            if (config.isMigrateOnStartup()) {
+                migrateSchema();
+            }
+            if (config.getReplicaUrl() != null && replicaDataSource == null) {
+                HikariConfig replicaConfig = createPoolConfig(config, "seminar-db-replica", config.getReplicaUrl());
+                replicaConfig.setReadOnly(true);
+                // Start even if the replica is down; reads fall back to the primary meanwhile
+                replicaConfig.setInitializationFailTimeout(-1);
+                replicaDataSource = new HikariDataSource(replicaConfig);
+            }
+        } catch (RuntimeException e) {
+            // HikariCP reports driver and connection failures as PoolInitializationException
+            dataSource = null;
             System.err.println("Database connection failed: " + e.getMessage());
             System.err.println("Make sure Laragon MySQL is running and database 'seminar_db' exists.");
+            breaker.trip();
+            startReconnectLoop();
         }
     }
     
     /**
-     * Gets the database connection, reconnecting if necessary.
+     * Builds the HikariCP settings for one pool.
      */
-    public Connection getConnection() {
+    static HikariConfig createPoolConfig(DatabaseConfig config, String poolName, String url) {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        hikariConfig.setJdbcUrl(url);
+        hikariConfig.setUsername(config.getUser());
+        hikariConfig.setPassword(config.getPassword());
+        hikariConfig.setMaximumPoolSize(config.getMaxPoolSize());
+        hikariConfig.setMinimumIdle(config.getMinIdle());
+        hikariConfig.setConnectionTimeout(config.getConnectionTimeoutMs());
+        hikariConfig.setIdleTimeout(config.getIdleTimeoutMs());
+        hikariConfig.setMaxLifetime(config.getMaxLifetimeMs());
+        // Statement cache settings recommended for MySQL Connector/J
+        hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
+        hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
+        hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
+        // Let Connector/J collapse JDBC batches into multi-row statements
+        hikariConfig.addDataSourceProperty("rewriteBatchedStatements",
+            String.valueOf(config.isRewriteBatchedStatements()));
+        // The driver waits forever by default; bound connects and unanswered statements
+        hikariConfig.addDataSourceProperty("connectTimeout", String.valueOf(config.getConnectTimeoutMs()));
+        hikariConfig.addDataSourceProperty("socketTimeout", String.valueOf(config.getSocketTimeoutMs()));
+        return hikariConfig;
+    }
+    
+    /**
+     * Brings the schema up to date. A failed migration is reported but does not
+     * stop the application; it is retried on the next start.
+     */
+    private void migrateSchema() {
         try {
-            if (connection == null || connection.isClosed()) {
-                connect();
-            }
+            new SchemaMigrator(this).migrate();
         } catch (SQLException e) {
-            connect();
+            System.err.println("Schema migration failed: " + e.getMessage());
         }
-        return connection;
     }
     
     /**
-     * Checks if database is connected.
+     * Borrows a connection from the pool.
+     * Callers must close the connection (try-with-resources) to return it to the pool.
+     * Inside {@link #runInTransaction(Runnable)} this returns the transaction's connection instead.
+     * While the circuit breaker is open this fails at once without contacting the server.
+     * @return a pooled connection
+     * @throws SQLException if the pool is unavailable or no connection could be obtained in time
      */
-    public boolean isConnected() {
+    public Connection getConnection() throws SQLException {
+        JdbcTransaction transaction = currentTransaction.get();
+        if (transaction != null) {
+            return transaction.handle();
+        }
+        DataSource ds = dataSource;
+        if (ds == null || !breaker.allowRequest()) {
+            flagUnreachable();
+            throw new SQLException("Database is not available; reconnecting in the background", "08001");
+        }
+        long start = System.nanoTime();
+        Connection conn;
         try {
-            return connection != null && !connection.isClosed();
+            conn = ds.getConnection();
         } catch (SQLException e) {
-            return false;
+            if (isConnectionFailure(e)) {
+                flagUnreachable();
+                if (breaker.recordFailure()) {
+                    System.err.println("Database connection lost, reconnecting in the background: " + e.getMessage());
+                    startReconnectLoop();
+                }
+            }
+            throw e;
         }
+        recordBorrow(System.nanoTime() - start);
+        breaker.recordSuccess();
+        return conn;
     }
     
     /**
-     * Closes the database connection.
+     * Tells a borrow that failed because the server could not be reached apart from one
+     * that merely timed out waiting for a busy pool, which HikariCP reports without a cause.
      */
-    public void close() {
+    private static boolean isConnectionFailure(SQLException e) {
+        String state = e.getSQLState();
+        return (state != null && state.startsWith("08")) || e.getCause() != null;
+    }
+    
+    private void flagUnreachable() {
+        boolean[] unreachable = writeUnreachable.get();
+        if (unreachable != null) {
+            unreachable[0] = true;
+        }
+    }
+    
+    @Override
+    public boolean tryWrite(Runnable write) {
+        if (currentTransaction.get() != null) {
+            // A failure inside a transaction surfaces when it commits
+            write.run();
+            return true;
+        }
+        boolean[] unreachable = {false};
+        writeUnreachable.set(unreachable);
         try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
+            write.run();
+        } finally {
+            writeUnreachable.remove();
+        }
+        if (unreachable[0]) {
+            // The caller will queue the write, so reads must stop trusting the link as well
+            if (breaker.trip()) {
+                System.err.println("Database connection lost, reconnecting in the background.");
             }
+            startReconnectLoop();
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public void addReconnectListener(Runnable listener) {
+        reconnectListeners.add(listener);
+    }
+    
+    /**
+     * Gets the state of the connection circuit breaker.
+     */
+    public CircuitBreaker.State getCircuitState() {
+        return breaker.getState();
+    }
+    
+    private synchronized void startReconnectLoop() {
+        if (reconnectLoop != null) {
+            return;
+        }
+        reconnectLoop = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "seminar-db-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Ticks often; the breaker's backoff decides when a probe is actually due
+        long tick = Math.max(10, config.getReconnectIntervalMs() / 4);
+        reconnectLoop.scheduleWithFixedDelay(this::probe, tick, tick, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Probes the server if the breaker is due for one, and on success closes the
+     * breaker and notifies the reconnect listeners on the calling thread.
+     */
+    void probe() {
+        if (!breaker.tryProbe()) {
+            return;
+        }
+        boolean reachable;
+        if (dataSource == null) {
+            connect();
+            reachable = dataSource != null;
+        } else {
+            reachable = ping(dataSource);
+        }
+        if (!reachable) {
+            breaker.recordFailure();
+            return;
+        }
+        if (breaker.recordSuccess()) {
+            System.out.println("Database connection restored.");
+            for (Runnable listener : reconnectListeners) {
+                try {
+                    listener.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Reconnect listener failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+    
+    private boolean ping(DataSource ds) {
+        int timeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(config.getConnectTimeoutMs()));
+        try (Connection conn = ds.getConnection()) {
+            return conn.isValid(timeoutSeconds);
         } catch (SQLException e) {
-            System.err.println("Error closing connection: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Borrows a primary connection for a write and keeps reads on the primary until the
+     * replica has had time to catch up with it.
+     */
+    private Connection getWriteConnection() throws SQLException {
+        markWritten();
+        return getConnection();
+    }
+    
+    private void markWritten() {
+        if (replicaDataSource != null) {
+            primaryReadsUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getReplicaMaxLagMs());
+        }
+    }
+    
+    /**
+     * Borrows a connection for a read that may be served by the replica: one that is not
+     * part of a transaction, not soon after a write, and not while the replica is failing.
+     */
+    private Connection getReadConnection() throws SQLException {
+        DataSource replica = replicaDataSource;
+        long now = System.nanoTime();
+        if (replica == null || currentTransaction.get() != null
+                || now - primaryReadsUntil < 0 || now - replicaRetryAt < 0) {
+            return getConnection();
+        }
+        try {
+            Connection conn = replica.getConnection();
+            replicaReads.increment();
+            return conn;
+        } catch (SQLException e) {
+            replicaFailures.increment();
+            replicaRetryAt = now + TimeUnit.MILLISECONDS.toNanos(config.getReplicaRetryMs());
+            System.err.println("Read replica unavailable, reading from the primary: " + e.getMessage());
+            return getConnection();
+        }
+    }
+    
+    private void recordBorrow(long nanos) {
+        borrowCount.increment();
+        borrowNanos.add(nanos);
+        maxBorrowNanos.accumulateAndGet(nanos, Math::max);
+    }
+    
+    /**
+     * Runs a unit of work in one database transaction on the calling thread.
+     * Every DatabaseManager operation the work performs shares one connection and is
+     * committed once at the end. If any statement fails, even one whose error the
+     * operation logs and swallows, or the work throws, everything is rolled back.
+     * Nested calls join the outer transaction.
+     * @param work the operations to run
+     * @throws SQLException if the transaction was rolled back or could not be committed
+     */
+    public void runInTransaction(Runnable work) throws SQLException {
+        if (currentTransaction.get() != null) {
+            work.run();
+            return;
+        }
+        try (Connection conn = getWriteConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            JdbcTransaction transaction = new JdbcTransaction(conn);
+            currentTransaction.set(transaction);
+            boolean committed = false;
+            try {
+                try {
+                    work.run();
+                } catch (RuntimeException e) {
+                    conn.rollback();
+                    throw e;
+                }
+                if (transaction.getFailure() != null) {
+                    conn.rollback();
+                    throw new SQLException("Transaction rolled back: " + transaction.getFailure().getMessage(),
+                        transaction.getFailure());
+                }
+                try {
+                    conn.commit();
+                    committed = true;
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } finally {
+                if (!committed) {
+                    transaction.rolledBack();
+                }
+                currentTransaction.remove();
+                conn.setAutoCommit(autoCommit);
+                // The replica starts catching up at the commit, not at the first statement
+                markWritten();
+            }
+        }
+    }
+    
+    /**
+     * Checks if the calling thread is inside {@link #runInTransaction(Runnable)}.
+     */
+    public boolean isInTransaction() {
+        return currentTransaction.get() != null;
+    }
+    
+    /**
+     * Checks if database is connected: the pool is running and the circuit breaker is closed.
+     */
+    public boolean isConnected() {
+        DataSource ds = dataSource;
+        if (ds == null || !breaker.allowRequest()) {
+            return false;
+        }
+        return !(ds instanceof HikariDataSource pool) || pool.isRunning();
+    }
+    
+    /**
+     * Gets the connection settings in use.
+     */
+    public DatabaseConfig getConfig() {
+        return config;
+    }
+    
+    @Override
+    public String getLocation() {
+        return config.getUrl();
+    }
+    
+    /**
+     * Checks if reads can currently be sent to a read replica.
+     */
+    public boolean isReplicaAvailable() {
+        return replicaDataSource != null && System.nanoTime() - replicaRetryAt >= 0;
+    }
+    
+    /**
+     * Gets the number of reads served by the read replica.
+     */
+    public long getReplicaReadCount() {
+        return replicaReads.sum();
+    }
+    
+    /**
+     * Gets the number of times the read replica failed to hand out a connection.
+     */
+    public long getReplicaFailureCount() {
+        return replicaFailures.sum();
+    }
+
+    /**
+     * Gets a snapshot of connection pool usage.
+     * @return the current pool metrics, with zero counts if the pool is not running
+     */
+    public PoolMetrics getPoolMetrics() {
+        int active = 0;
+        int idle = 0;
+        int total = 0;
+        int waiting = 0;
+        if (dataSource instanceof HikariDataSource ds && ds.isRunning()) {
+            HikariPoolMXBean pool = ds.getHikariPoolMXBean();
+            active = pool.getActiveConnections();
+            idle = pool.getIdleConnections();
+            total = pool.getTotalConnections();
+            waiting = pool.getThreadsAwaitingConnection();
+        }
+        long count = borrowCount.sum();
+        double avgMillis = count == 0 ? 0.0 : (double) borrowNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+        double maxMillis = (double) maxBorrowNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+        return new PoolMetrics(active, idle, total, waiting, count, avgMillis, maxMillis);
+    }
+    
+    /**
+     * Closes the connection pools.
+     */
+    public synchronized void close() {
+        if (reconnectLoop != null) {
+            reconnectLoop.shutdownNow();
+        }
+        if (dataSource instanceof HikariDataSource pool && !pool.isClosed()) {
+            pool.close();
+        }
+        if (replicaDataSource instanceof HikariDataSource pool && !pool.isClosed()) {
+            pool.close();
         }
     }
     
     // ==================== USER OPERATIONS ====================
     
+    /**
+     * Saves a user. A user read from the database is updated in place, writing only
+     * the columns whose properties were set since it was read or last saved; any
+     * other user is written whole.
+     */
     public void saveUser(User user) {
-        // Check if this is a new user (no ID) or existing user
-        boolean isNewUser = (user.getId() == null || user.getId().isEmpty());
-        
+        DirtyFields tracker = user.getDirtyFields();
+        Set<String> dirty = tracker.take();
+        boolean isNewUser = user.getId() == null || user.getId().isEmpty();
+        if (dirty != null && !isNewUser) {
+            if (dirty.isEmpty()) {
+                return;
+            }
+            try (Connection conn = getWriteConnection()) {
+                if (updateRow(conn, "users", dirtyUserColumns(user, dirty), null, "id", user.getId())) {
+                    afterWrite(tracker, dirty);
+                    if (user instanceof Student student && dirty.contains("abstractText")) {
+                        textCache.put(textKey("abstract_text", user.getId()), student.getAbstractText());
+                    }
+                    return;
+                }
+                // The row has been deleted; write it whole again below
+            } catch (SQLException e) {
+                tracker.restore(dirty);
+                System.err.println("Error saving user: " + e.getMessage());
+                return;
+            }
+        }
+        if (writeWholeUser(user, isNewUser)) {
+            afterWrite(tracker, null);
+        } else {
+            tracker.restore(dirty);
+        }
+    }
+    
+    private static Map<String, Object> dirtyUserColumns(User user, Set<String> dirty) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        putIfDirty(columns, dirty, "username", "username", user::getUsername);
+        putIfDirty(columns, dirty, "password", "password", user::getPassword);
+        putIfDirty(columns, dirty, "role", "role", () -> user.getRole().name());
+        if (user instanceof Student student) {
+            putIfDirty(columns, dirty, "studentId", "student_id", student::getStudentId);
+            putIfDirty(columns, dirty, "researchTitle", "research_title", student::getResearchTitle);
+            putIfDirty(columns, dirty, "abstractText", "abstract_text", student::getAbstractText);
+            putIfDirty(columns, dirty, "supervisorName", "supervisor_name", student::getSupervisorName);
+            putIfDirty(columns, dirty, "presentationType", "presentation_type",
+                () -> student.getPresentationType() != null ? student.getPresentationType().name() : null);
+            putIfDirty(columns, dirty, "filePath", "file_path", student::getFilePath);
+            putIfDirty(columns, dirty, "presenterId", "presenter_id", student::getPresenterId);
+            putIfDirty(columns, dirty, "voteCount", "vote_count", student::getVoteCount);
+            putIfDirty(columns, dirty, "hasVoted", "has_voted", student::hasVoted);
+        } else if (user instanceof Evaluator evaluator) {
+            putIfDirty(columns, dirty, "evaluatorId", "evaluator_id", evaluator::getEvaluatorId);
+        }
+        return columns;
+    }
+    
+    /**
+     * Inserts or upserts every column of a user.
+     * @return true if the user was written
+     */
+    private boolean writeWholeUser(User user, boolean isNewUser) {
         String sql;
         if (isNewUser) {
             // INSERT without ID - let database auto-generate
@@ -130,7 +635,7 @@ public class DatabaseManager {
                     role = VALUES(role),
                     student_id = VALUES(student_id),
                     research_title = VALUES(research_title),
-                    abstract_text = VALUES(abstract_text),
+                    abstract_text = IF(?, VALUES(abstract_text), abstract_text),
                     supervisor_name = VALUES(supervisor_name),
                     presentation_type = VALUES(presentation_type),
                     file_path = VALUES(file_path),
@@ -141,7 +646,8 @@ public class DatabaseManager {
                 """;
         }
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql, 
+        try (Connection conn = getWriteConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, 
                 isNewUser ? PreparedStatement.RETURN_GENERATED_KEYS : PreparedStatement.NO_GENERATED_KEYS)) {
             
             int paramIndex = 1;
@@ -158,7 +664,8 @@ public class DatabaseManager {
             if (user instanceof Student student) {
                 stmt.setString(paramIndex++, student.getStudentId());
                 stmt.setString(paramIndex++, student.getResearchTitle());
-                stmt.setString(paramIndex++, student.getAbstractText());
+                // An abstract that was never loaded is left as stored
+                stmt.setString(paramIndex++, student.isAbstractTextLoaded() ? student.getAbstractText() : null);
                 stmt.setString(paramIndex++, student.getSupervisorName());
                 stmt.setString(paramIndex++, student.getPresentationType() != null ? 
                     student.getPresentationType().name() : null);
@@ -190,6 +697,10 @@ public class DatabaseManager {
                 stmt.setBoolean(paramIndex++, false);
                 stmt.setNull(paramIndex++, java.sql.Types.VARCHAR);
             }
+            boolean abstractLoaded = !(user instanceof Student student) || student.isAbstractTextLoaded();
+            if (!isNewUser) {
+                stmt.setBoolean(paramIndex++, abstractLoaded);
+            }
             
             stmt.executeUpdate();
             
@@ -201,20 +712,26 @@ public class DatabaseManager {
                     }
                 }
             }
+            if (user instanceof Student student && abstractLoaded && user.getId() != null) {
+                textCache.put(textKey("abstract_text", user.getId()), student.getAbstractText());
+            }
+            return true;
         } catch (SQLException e) {
             System.err.println("Error saving user: " + e.getMessage());
+            return false;
         }
     }
     
     public User getUser(String id) {
         String sql = "SELECT * FROM users WHERE id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, id);
-            ResultSet rs = stmt.executeQuery();
-            
-            if (rs.next()) {
-                return mapResultSetToUser(rs);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToUser(conn, rs);
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error getting user: " + e.getMessage());
@@ -225,12 +742,13 @@ public class DatabaseManager {
     public User getUserByUsername(String username) {
         String sql = "SELECT * FROM users WHERE username = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
-            
-            if (rs.next()) {
-                return mapResultSetToUser(rs);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToUser(conn, rs);
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error getting user by username: " + e.getMessage());
@@ -238,35 +756,100 @@ public class DatabaseManager {
         return null;
     }
     
+    /**
+     * Finds a user by a unique column. Comparison follows the column's collation,
+     * which for the default MySQL collation ignores case.
+     * @param column one of username, student_id, presenter_id or evaluator_id
+     * @param value the value to match
+     * @return the first matching user, or null if none matches or the query failed
+     */
+    public User findUser(String column, String value) {
+        if (!USER_LOOKUP_COLUMNS.contains(column)) {
+            throw new IllegalArgumentException("Unknown lookup column: " + column);
+        }
+        String sql = "SELECT * FROM users WHERE " + column + " = ? LIMIT 1";
+        
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, value);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToUser(conn, rs);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error finding user by " + column + ": " + e.getMessage());
+        }
+        return null;
+    }
+    
+    /**
+     * Loads all users.
+     * Evaluator session assignments are prefetched in one grouped query and
+     * applied as user rows stream in, so loading costs two queries in total.
+     * @return map of user ID to user
+     */
     public Map<String, User> getAllUsers() {
         Map<String, User> users = new HashMap<>();
-        String sql = "SELECT * FROM users";
-        
-        try (Statement stmt = getConnection().createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        streamUsers(user -> users.put(user.getId(), user));
+        return users;
+    }
+    
+    /**
+     * Streams every user to a callback as rows arrive from the server.
+     * @param rowHandler receives each user; must not use this manager's connection
+     * @return true if every row was read, false if the load failed part-way
+     */
+    public boolean streamUsers(Consumer<User> rowHandler) {
+        try (Connection conn = getReadConnection()) {
+            Map<String, List<String>> evaluatorSessionIds = getGroupedIds(conn,
+                "SELECT evaluator_id, session_id FROM session_evaluators", "evaluator_id", "session_id");
             
-            while (rs.next()) {
-                User user = mapResultSetToUser(rs);
-                users.put(user.getId(), user);
+            try (Statement stmt = createStreamingStatement(conn);
+                 ResultSet rs = stmt.executeQuery("SELECT " + USER_COLUMNS + " FROM users")) {
+                while (rs.next()) {
+                    User user = mapUserRow(rs, true);
+                    if (user instanceof Evaluator evaluator) {
+                        evaluator.setAssignedSessionIds(evaluatorSessionIds.get(evaluator.getEvaluatorId()));
+                    }
+                    rowHandler.accept(user);
+                }
             }
+            return true;
         } catch (SQLException e) {
             System.err.println("Error getting all users: " + e.getMessage());
+            return false;
         }
-        return users;
     }
     
     public void deleteUser(String id) {
         String sql = "DELETE FROM users WHERE id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getWriteConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, id);
             stmt.executeUpdate();
+            textCache.invalidate(textKey("abstract_text", id));
         } catch (SQLException e) {
             System.err.println("Error deleting user: " + e.getMessage());
         }
     }
     
-    private User mapResultSetToUser(ResultSet rs) throws SQLException {
+    private User mapResultSetToUser(Connection conn, ResultSet rs) throws SQLException {
+        User user = mapUserRow(rs, false);
+        if (user instanceof Evaluator evaluator) {
+            // Load assigned session IDs using evaluator_id (EV-xxxxxxxx format)
+            evaluator.setAssignedSessionIds(getEvaluatorSessionIds(conn, evaluator.getEvaluatorId()));
+        }
+        return user;
+    }
+    
+    /**
+     * Maps the columns of a users row, without evaluator session assignments.
+     * @param lazyText true if the row is a {@link #USER_COLUMNS} projection, so the
+     *                 abstract is fetched on first access; false to read it from the row
+     */
+    private User mapUserRow(ResultSet rs, boolean lazyText) throws SQLException {
         String role = rs.getString("role");
         User user;
         
@@ -275,7 +858,6 @@ public class DatabaseManager {
                 Student student = new Student();
                 student.setStudentId(rs.getString("student_id"));
                 student.setResearchTitle(rs.getString("research_title"));
-                student.setAbstractText(rs.getString("abstract_text"));
                 student.setSupervisorName(rs.getString("supervisor_name"));
                 String presType = rs.getString("presentation_type");
                 if (presType != null) {
@@ -290,8 +872,6 @@ public class DatabaseManager {
             case PANEL_MEMBER -> {
                 Evaluator evaluator = new Evaluator();
                 evaluator.setEvaluatorId(rs.getString("evaluator_id"));
-                // Load assigned session IDs using evaluator_id (EV-xxxxxxxx format)
-                evaluator.setAssignedSessionIds(getEvaluatorSessionIds(rs.getString("evaluator_id")));
                 user = evaluator;
             }
             case COORDINATOR -> user = new Coordinator();
@@ -303,29 +883,48 @@ public class DatabaseManager {
         user.setPassword(rs.getString("password"));
         user.setRole(UserRole.valueOf(role));
         
+        if (user instanceof Student student) {
+            if (lazyText) {
+                student.setAbstractTextLoader(textLoader("users", "abstract_text", "id", user.getId()));
+            } else {
+                student.setAbstractText(rs.getString("abstract_text"));
+                textCache.put(textKey("abstract_text", user.getId()), student.getAbstractText());
+            }
+        }
+        user.getDirtyFields().markClean();
         return user;
     }
     
-    private List<String> getEvaluatorSessionIds(String evaluatorId) {
+    private List<String> getEvaluatorSessionIds(Connection conn, String evaluatorId) throws SQLException {
         List<String> sessionIds = new ArrayList<>();
         String sql = "SELECT session_id FROM session_evaluators WHERE evaluator_id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, evaluatorId);
-            ResultSet rs = stmt.executeQuery();
-            
-            while (rs.next()) {
-                sessionIds.add(rs.getString("session_id"));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    sessionIds.add(rs.getString("session_id"));
+                }
             }
-        } catch (SQLException e) {
-            System.err.println("Error getting evaluator sessions: " + e.getMessage());
         }
         return sessionIds;
     }
     
     // ==================== SESSION OPERATIONS ====================
     
+    /**
+     * Saves a session and its presenter/evaluator assignments in one transaction.
+     * A session read from the database is updated in place: only its changed columns
+     * are written, and only changed assignment lists are diffed against the stored rows,
+     * with added and removed IDs each written as a single JDBC batch. Any other session
+     * is upserted whole.
+     */
     public void saveSession(Session session) {
+        DirtyFields tracker = session.getDirtyFields();
+        Set<String> dirty = tracker.take();
+        if (dirty != null && dirty.isEmpty()) {
+            return;
+        }
         String sql = """
             INSERT INTO sessions (session_id, session_date, venue, meeting_link, session_type)
             VALUES (?, ?, ?, ?, ?)
@@ -333,81 +932,114 @@ public class DatabaseManager {
                 session_date = VALUES(session_date),
                 venue = VALUES(venue),
                 meeting_link = VALUES(meeting_link),
-                session_type = VALUES(session_type)
+                session_type = VALUES(session_type),
+                updated_at = CURRENT_TIMESTAMP
             """;
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
-            stmt.setString(1, session.getSessionId());
-            stmt.setDate(2, java.sql.Date.valueOf(session.getDate()));
-            stmt.setString(3, session.getVenue());
-            stmt.setString(4, session.getMeetingLink());
-            stmt.setString(5, session.getSessionType().name());
-            stmt.executeUpdate();
-            
-            // Save presenter assignments
-            saveSessionPresenters(session);
-            // Save evaluator assignments
-            saveSessionEvaluators(session);
-            
+        try (Connection conn = getWriteConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                // updated_at is renewed even when only assignments changed, for change polling
+                boolean whole = dirty == null || !updateRow(conn, "sessions", dirtySessionColumns(session, dirty),
+                    "updated_at", "session_id", session.getSessionId());
+                if (whole) {
+                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                        stmt.setString(1, session.getSessionId());
+                        stmt.setDate(2, java.sql.Date.valueOf(session.getDate()));
+                        stmt.setString(3, session.getVenue());
+                        stmt.setString(4, session.getMeetingLink());
+                        stmt.setString(5, session.getSessionType().name());
+                        stmt.executeUpdate();
+                    }
+                }
+                
+                // Save presenter assignments
+                if (whole || dirty.contains("presenterIds")) {
+                    syncSessionAssignments(conn, session.getSessionId(), "session_presenters", "presenter_id",
+                        getSessionPresenterIds(conn, session.getSessionId()), session.getPresenterIds());
+                }
+                // Save evaluator assignments
+                if (whole || dirty.contains("evaluatorIds")) {
+                    syncSessionAssignments(conn, session.getSessionId(), "session_evaluators", "evaluator_id",
+                        getSessionEvaluatorIds(conn, session.getSessionId()), session.getEvaluatorIds());
+                }
+                
+                conn.commit();
+                afterWrite(tracker, whole ? null : dirty);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
         } catch (SQLException e) {
+            tracker.restore(dirty);
             System.err.println("Error saving session: " + e.getMessage());
         }
     }
     
-    private void saveSessionPresenters(Session session) {
-        // Clear existing assignments
-        String deleteSql = "DELETE FROM session_presenters WHERE session_id = ?";
-        String insertSql = "INSERT INTO session_presenters (session_id, presenter_id) VALUES (?, ?)";
+    private static Map<String, Object> dirtySessionColumns(Session session, Set<String> dirty) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        putIfDirty(columns, dirty, "date", "session_date",
+            () -> session.getDate() != null ? java.sql.Date.valueOf(session.getDate()) : null);
+        putIfDirty(columns, dirty, "venue", "venue", session::getVenue);
+        putIfDirty(columns, dirty, "meetingLink", "meeting_link", session::getMeetingLink);
+        putIfDirty(columns, dirty, "sessionType", "session_type",
+            () -> session.getSessionType() != null ? session.getSessionType().name() : null);
+        return columns;
+    }
+    
+    /**
+     * Brings an assignment table in line with the desired IDs for a session.
+     * Deletes IDs that were removed and inserts IDs that were added, batched.
+     * @param table the assignment table (session_presenters or session_evaluators)
+     * @param column the assigned ID column in that table
+     * @param storedIds the IDs currently stored for the session
+     * @param desiredIds the IDs the session should have
+     */
+    private void syncSessionAssignments(Connection conn, String sessionId, String table, String column,
+                                        List<String> storedIds, List<String> desiredIds) throws SQLException {
+        Set<String> toRemove = new LinkedHashSet<>(storedIds);
+        desiredIds.forEach(toRemove::remove);
+        Set<String> toAdd = new LinkedHashSet<>(desiredIds);
+        storedIds.forEach(toAdd::remove);
         
-        try {
-            try (PreparedStatement deleteStmt = getConnection().prepareStatement(deleteSql)) {
-                deleteStmt.setString(1, session.getSessionId());
-                deleteStmt.executeUpdate();
-            }
-            
-            for (String presenterId : session.getPresenterIds()) {
-                try (PreparedStatement insertStmt = getConnection().prepareStatement(insertSql)) {
-                    insertStmt.setString(1, session.getSessionId());
-                    insertStmt.setString(2, presenterId);
-                    insertStmt.executeUpdate();
+        if (!toRemove.isEmpty()) {
+            String deleteSql = "DELETE FROM " + table + " WHERE session_id = ? AND " + column + " = ?";
+            try (PreparedStatement deleteStmt = conn.prepareStatement(deleteSql)) {
+                for (String id : toRemove) {
+                    deleteStmt.setString(1, sessionId);
+                    deleteStmt.setString(2, id);
+                    deleteStmt.addBatch();
                 }
+                deleteStmt.executeBatch();
             }
-        } catch (SQLException e) {
-            System.err.println("Error saving session presenters: " + e.getMessage());
         }
-    }
-    
-    private void saveSessionEvaluators(Session session) {
-        String deleteSql = "DELETE FROM session_evaluators WHERE session_id = ?";
-        String insertSql = "INSERT INTO session_evaluators (session_id, evaluator_id) VALUES (?, ?)";
         
-        try {
-            try (PreparedStatement deleteStmt = getConnection().prepareStatement(deleteSql)) {
-                deleteStmt.setString(1, session.getSessionId());
-                deleteStmt.executeUpdate();
-            }
-            
-            for (String evaluatorId : session.getEvaluatorIds()) {
-                try (PreparedStatement insertStmt = getConnection().prepareStatement(insertSql)) {
-                    insertStmt.setString(1, session.getSessionId());
-                    insertStmt.setString(2, evaluatorId);
-                    insertStmt.executeUpdate();
+        if (!toAdd.isEmpty()) {
+            String insertSql = "INSERT INTO " + table + " (session_id, " + column + ") VALUES (?, ?)";
+            try (PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
+                for (String id : toAdd) {
+                    insertStmt.setString(1, sessionId);
+                    insertStmt.setString(2, id);
+                    insertStmt.addBatch();
                 }
+                insertStmt.executeBatch();
             }
-        } catch (SQLException e) {
-            System.err.println("Error saving session evaluators: " + e.getMessage());
         }
     }
     
     public Session getSession(String sessionId) {
         String sql = "SELECT * FROM sessions WHERE session_id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, sessionId);
-            ResultSet rs = stmt.executeQuery();
-            
-            if (rs.next()) {
-                return mapResultSetToSession(rs);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToSession(conn, rs);
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error getting session: " + e.getMessage());
@@ -415,27 +1047,49 @@ public class DatabaseManager {
         return null;
     }
     
+    /**
+     * Loads all sessions with their presenter and evaluator assignments.
+     * Uses a fixed three queries regardless of session count: the two assignment
+     * tables are read in bulk and stitched onto the sessions in memory.
+     * @return map of session ID to session
+     */
     public Map<String, Session> getAllSessions() {
         Map<String, Session> sessions = new HashMap<>();
-        String sql = "SELECT * FROM sessions";
-        
-        try (Statement stmt = getConnection().createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        streamSessions(session -> sessions.put(session.getSessionId(), session));
+        return sessions;
+    }
+    
+    /**
+     * Streams every session, with its assignments, to a callback as rows arrive from the server.
+     * @param rowHandler receives each session; must not use this manager's connection
+     * @return true if every row was read, false if the load failed part-way
+     */
+    public boolean streamSessions(Consumer<Session> rowHandler) {
+        try (Connection conn = getReadConnection()) {
+            Map<String, List<String>> presenterIds = getGroupedIds(conn,
+                "SELECT session_id, presenter_id FROM session_presenters", "session_id", "presenter_id");
+            Map<String, List<String>> evaluatorIds = getGroupedIds(conn,
+                "SELECT session_id, evaluator_id FROM session_evaluators", "session_id", "evaluator_id");
             
-            while (rs.next()) {
-                Session session = mapResultSetToSession(rs);
-                sessions.put(session.getSessionId(), session);
+            try (Statement stmt = createStreamingStatement(conn);
+                 ResultSet rs = stmt.executeQuery("SELECT * FROM sessions")) {
+                while (rs.next()) {
+                    String sessionId = rs.getString("session_id");
+                    rowHandler.accept(mapSessionRow(rs, presenterIds.get(sessionId), evaluatorIds.get(sessionId)));
+                }
             }
+            return true;
         } catch (SQLException e) {
             System.err.println("Error getting all sessions: " + e.getMessage());
+            return false;
         }
-        return sessions;
     }
     
     public void deleteSession(String sessionId) {
         String sql = "DELETE FROM sessions WHERE session_id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getWriteConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, sessionId);
             stmt.executeUpdate();
         } catch (SQLException e) {
@@ -443,59 +1097,114 @@ public class DatabaseManager {
         }
     }
     
-    private Session mapResultSetToSession(ResultSet rs) throws SQLException {
+    private Session mapResultSetToSession(Connection conn, ResultSet rs) throws SQLException {
+        String sessionId = rs.getString("session_id");
+        return mapSessionRow(rs, getSessionPresenterIds(conn, sessionId), getSessionEvaluatorIds(conn, sessionId));
+    }
+    
+    /**
+     * Maps the columns of a sessions row together with its assignments, read separately.
+     */
+    private Session mapSessionRow(ResultSet rs, List<String> presenterIds, List<String> evaluatorIds)
+            throws SQLException {
         Session session = new Session();
         session.setSessionId(rs.getString("session_id"));
         session.setDate(rs.getDate("session_date").toLocalDate());
         session.setVenue(rs.getString("venue"));
         session.setMeetingLink(rs.getString("meeting_link"));
         session.setSessionType(PresentationType.valueOf(rs.getString("session_type")));
-        
-        // Load presenter IDs
-        session.setPresenterIds(getSessionPresenterIds(session.getSessionId()));
-        // Load evaluator IDs
-        session.setEvaluatorIds(getSessionEvaluatorIds(session.getSessionId()));
-        
+        session.setPresenterIds(presenterIds);
+        session.setEvaluatorIds(evaluatorIds);
+        session.getDirtyFields().markClean();
         return session;
     }
     
-    private List<String> getSessionPresenterIds(String sessionId) {
+    private List<String> getSessionPresenterIds(Connection conn, String sessionId) throws SQLException {
         List<String> presenterIds = new ArrayList<>();
         String sql = "SELECT presenter_id FROM session_presenters WHERE session_id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, sessionId);
-            ResultSet rs = stmt.executeQuery();
-            
-            while (rs.next()) {
-                presenterIds.add(rs.getString("presenter_id"));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    presenterIds.add(rs.getString("presenter_id"));
+                }
             }
-        } catch (SQLException e) {
-            System.err.println("Error getting session presenters: " + e.getMessage());
         }
         return presenterIds;
     }
     
-    private List<String> getSessionEvaluatorIds(String sessionId) {
+    private List<String> getSessionEvaluatorIds(Connection conn, String sessionId) throws SQLException {
         List<String> evaluatorIds = new ArrayList<>();
         String sql = "SELECT evaluator_id FROM session_evaluators WHERE session_id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, sessionId);
-            ResultSet rs = stmt.executeQuery();
-            
-            while (rs.next()) {
-                evaluatorIds.add(rs.getString("evaluator_id"));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    evaluatorIds.add(rs.getString("evaluator_id"));
+                }
             }
-        } catch (SQLException e) {
-            System.err.println("Error getting session evaluators: " + e.getMessage());
         }
         return evaluatorIds;
     }
     
     // ==================== EVALUATION OPERATIONS ====================
     
+    /**
+     * Saves an evaluation, writing only its changed columns if it was read from the
+     * database and every column otherwise. Either way the submission time is renewed.
+     */
     public void saveEvaluation(Evaluation evaluation) {
+        DirtyFields tracker = evaluation.getDirtyFields();
+        Set<String> dirty = tracker.take();
+        if (dirty != null) {
+            if (dirty.isEmpty()) {
+                return;
+            }
+            try (Connection conn = getWriteConnection()) {
+                if (updateRow(conn, "evaluations", dirtyEvaluationColumns(evaluation, dirty), "submitted_at",
+                        "evaluation_id", evaluation.getEvaluationId())) {
+                    afterWrite(tracker, dirty);
+                    if (dirty.contains("comments")) {
+                        textCache.put(textKey("comments", evaluation.getEvaluationId()), evaluation.getComments());
+                    }
+                    return;
+                }
+            } catch (SQLException e) {
+                tracker.restore(dirty);
+                System.err.println("Error saving evaluation: " + e.getMessage());
+                return;
+            }
+        }
+        if (writeWholeEvaluation(evaluation)) {
+            afterWrite(tracker, null);
+        } else {
+            tracker.restore(dirty);
+        }
+    }
+    
+    private static Map<String, Object> dirtyEvaluationColumns(Evaluation evaluation, Set<String> dirty) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        putIfDirty(columns, dirty, "presenterId", "presenter_id", evaluation::getPresenterId);
+        putIfDirty(columns, dirty, "evaluatorId", "evaluator_id", evaluation::getEvaluatorId);
+        putIfDirty(columns, dirty, "sessionId", "session_id", evaluation::getSessionId);
+        if (dirty.contains("scores")) {
+            RubricScores scores = evaluation.getScores();
+            columns.put("problem_clarity", scores.getProblemClarity());
+            columns.put("methodology", scores.getMethodology());
+            columns.put("results", scores.getResults());
+            columns.put("presentation", scores.getPresentation());
+        }
+        putIfDirty(columns, dirty, "comments", "comments", evaluation::getComments);
+        return columns;
+    }
+    
+    /**
+     * Upserts every column of an evaluation.
+     * @return true if the evaluation was written
+     */
+    private boolean writeWholeEvaluation(Evaluation evaluation) {
         String sql = """
             INSERT INTO evaluations (evaluation_id, presenter_id, evaluator_id, session_id,
                                     problem_clarity, methodology, results, presentation, comments)
@@ -505,22 +1214,33 @@ public class DatabaseManager {
                 methodology = VALUES(methodology),
                 results = VALUES(results),
                 presentation = VALUES(presentation),
-                comments = VALUES(comments)
+                comments = IF(?, VALUES(comments), comments),
+                submitted_at = CURRENT_TIMESTAMP
             """;
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getWriteConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, evaluation.getEvaluationId());
             stmt.setString(2, evaluation.getPresenterId());
             stmt.setString(3, evaluation.getEvaluatorId());
             stmt.setString(4, evaluation.getSessionId());
-            stmt.setInt(5, evaluation.getScores().getProblemClarity());
-            stmt.setInt(6, evaluation.getScores().getMethodology());
-            stmt.setInt(7, evaluation.getScores().getResults());
-            stmt.setInt(8, evaluation.getScores().getPresentation());
-            stmt.setString(9, evaluation.getComments());
+            RubricScores scores = evaluation.getScores();
+            stmt.setInt(5, scores.getProblemClarity());
+            stmt.setInt(6, scores.getMethodology());
+            stmt.setInt(7, scores.getResults());
+            stmt.setInt(8, scores.getPresentation());
+            // Comments that were never loaded are left as stored
+            boolean commentsLoaded = evaluation.isCommentsLoaded();
+            stmt.setString(9, commentsLoaded ? evaluation.getComments() : null);
+            stmt.setBoolean(10, commentsLoaded);
             stmt.executeUpdate();
+            if (commentsLoaded) {
+                textCache.put(textKey("comments", evaluation.getEvaluationId()), evaluation.getComments());
+            }
+            return true;
         } catch (SQLException e) {
             System.err.println("Error saving evaluation: " + e.getMessage());
+            return false;
         }
     }
     
@@ -532,12 +1252,13 @@ public class DatabaseManager {
     public Evaluation getEvaluation(String evaluationId) {
         String sql = "SELECT * FROM evaluations WHERE evaluation_id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, evaluationId);
-            ResultSet rs = stmt.executeQuery();
-            
-            if (rs.next()) {
-                return mapResultSetToEvaluation(rs);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToEvaluation(rs, false);
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error getting evaluation: " + e.getMessage());
@@ -545,35 +1266,79 @@ public class DatabaseManager {
         return null;
     }
     
+    /**
+     * Gets the evaluations submitted for or by one participant.
+     * @param column presenter_id or evaluator_id
+     * @param value the participant ID
+     * @return the matching evaluations, with comments fetched on first access;
+     *         empty if none match or the query failed
+     */
+    public List<Evaluation> getEvaluationsBy(String column, String value) {
+        if (!EVALUATION_LOOKUP_COLUMNS.contains(column)) {
+            throw new IllegalArgumentException("Unknown lookup column: " + column);
+        }
+        String sql = "SELECT " + EVALUATION_COLUMNS + " FROM evaluations WHERE " + column + " = ?";
+        List<Evaluation> evaluations = new ArrayList<>();
+        
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, value);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    evaluations.add(mapResultSetToEvaluation(rs, true));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting evaluations by " + column + ": " + e.getMessage());
+        }
+        return evaluations;
+    }
+    
     public Map<String, Evaluation> getAllEvaluations() {
         Map<String, Evaluation> evaluations = new HashMap<>();
-        String sql = "SELECT * FROM evaluations";
-        
-        try (Statement stmt = getConnection().createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        streamEvaluations(evaluation -> evaluations.put(evaluation.getEvaluationId(), evaluation));
+        return evaluations;
+    }
+    
+    /**
+     * Streams every evaluation to a callback as rows arrive from the server.
+     * @param rowHandler receives each evaluation; must not use this manager's connection
+     * @return true if every row was read, false if the load failed part-way
+     */
+    public boolean streamEvaluations(Consumer<Evaluation> rowHandler) {
+        try (Connection conn = getReadConnection();
+             Statement stmt = createStreamingStatement(conn);
+             ResultSet rs = stmt.executeQuery("SELECT " + EVALUATION_COLUMNS + " FROM evaluations")) {
             
             while (rs.next()) {
-                Evaluation evaluation = mapResultSetToEvaluation(rs);
-                evaluations.put(evaluation.getEvaluationId(), evaluation);
+                rowHandler.accept(mapResultSetToEvaluation(rs, true));
             }
+            return true;
         } catch (SQLException e) {
             System.err.println("Error getting all evaluations: " + e.getMessage());
+            return false;
         }
-        return evaluations;
     }
     
     public void deleteEvaluation(String evaluationId) {
         String sql = "DELETE FROM evaluations WHERE evaluation_id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getWriteConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, evaluationId);
             stmt.executeUpdate();
+            textCache.invalidate(textKey("comments", evaluationId));
         } catch (SQLException e) {
             System.err.println("Error deleting evaluation: " + e.getMessage());
         }
     }
     
-    private Evaluation mapResultSetToEvaluation(ResultSet rs) throws SQLException {
+    /**
+     * Maps the columns of an evaluations row.
+     * @param lazyText true if the row is an {@link #EVALUATION_COLUMNS} projection, so the
+     *                 comments are fetched on first access; false to read them from the row
+     */
+    private Evaluation mapResultSetToEvaluation(ResultSet rs, boolean lazyText) throws SQLException {
         Evaluation evaluation = new Evaluation();
         evaluation.setEvaluationId(rs.getString("evaluation_id"));
         evaluation.setPresenterId(rs.getString("presenter_id"));
@@ -587,12 +1352,140 @@ public class DatabaseManager {
             rs.getInt("presentation")
         );
         evaluation.setScores(scores);
-        evaluation.setComments(rs.getString("comments"));
+        if (lazyText) {
+            evaluation.setCommentsLoader(textLoader("evaluations", "comments", "evaluation_id",
+                evaluation.getEvaluationId()));
+        } else {
+            evaluation.setComments(rs.getString("comments"));
+            textCache.put(textKey("comments", evaluation.getEvaluationId()), evaluation.getComments());
+        }
         evaluation.setTimestamp(rs.getTimestamp("submitted_at").toLocalDateTime());
-        
+        evaluation.getDirtyFields().markClean();
         return evaluation;
     }
     
+    // ==================== CHANGED-COLUMN UPDATES ====================
+    
+    private static void putIfDirty(Map<String, Object> columns, Set<String> dirty, String property,
+                                   String column, Supplier<?> value) {
+        if (dirty.contains(property)) {
+            columns.put(column, value.get());
+        }
+    }
+    
+    /**
+     * Updates some columns of one row by primary key.
+     * @param columns column names and values to write
+     * @param touchColumn timestamp column set to the current time, or null
+     * @return false if no row has the key (Connector/J reports matched rather than changed rows)
+     */
+    private boolean updateRow(Connection conn, String table, Map<String, Object> columns, String touchColumn,
+                              String keyColumn, String key) throws SQLException {
+        StringJoiner assignments = new StringJoiner(", ");
+        columns.keySet().forEach(column -> assignments.add(column + " = ?"));
+        if (touchColumn != null) {
+            assignments.add(touchColumn + " = CURRENT_TIMESTAMP");
+        }
+        if (assignments.length() == 0) {
+            return true;
+        }
+        String sql = "UPDATE " + table + " SET " + assignments + " WHERE " + keyColumn + " = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            for (Object value : columns.values()) {
+                stmt.setObject(index++, value);
+            }
+            stmt.setString(index, key);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+    
+    /**
+     * Records a successful write of an entity. Inside a transaction the entity's
+     * properties become dirty again if the transaction rolls back.
+     * @param written the properties written, or null if the entity was written whole
+     */
+    private void afterWrite(DirtyFields tracker, Set<String> written) {
+        tracker.written();
+        JdbcTransaction transaction = currentTransaction.get();
+        if (transaction != null) {
+            transaction.onRollback(() -> tracker.restore(written));
+        }
+    }
+    
+    // ==================== LAZY TEXT COLUMNS ====================
+    
+    private static String textKey(String column, String id) {
+        return column + ":" + id;
+    }
+    
+    /**
+     * Creates the loader a projected row uses to fetch one of its text columns on access.
+     */
+    private Supplier<String> textLoader(String table, String column, String keyColumn, String id) {
+        return () -> loadText(table, column, keyColumn, id);
+    }
+    
+    /**
+     * Fetches a text column of one row through the bounded text cache.
+     * @return the stored text, or null if the column is NULL or could not be read
+     */
+    private String loadText(String table, String column, String keyColumn, String id) {
+        String key = textKey(column, id);
+        Optional<String> cached = textCache.get(key);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        String sql = "SELECT " + column + " FROM " + table + " WHERE " + keyColumn + " = ?";
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                String text = rs.next() ? rs.getString(column) : null;
+                textCache.put(key, text);
+                return text;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error loading " + column + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Gives unloaded students and evaluations read back from a snapshot new text loaders,
+     * since loaders are not serialized.
+     * @param users users from the snapshot
+     * @param evaluations evaluations from the snapshot
+     */
+    public void reattachTextLoaders(Collection<User> users, Collection<Evaluation> evaluations) {
+        for (User user : users) {
+            if (user instanceof Student student && !student.isAbstractTextLoaded()) {
+                student.setAbstractTextLoader(textLoader("users", "abstract_text", "id", user.getId()));
+            }
+        }
+        for (Evaluation evaluation : evaluations) {
+            if (!evaluation.isCommentsLoaded()) {
+                evaluation.setCommentsLoader(textLoader("evaluations", "comments", "evaluation_id",
+                    evaluation.getEvaluationId()));
+            }
+        }
+    }
+    
+    /** Number of lazily loaded text values currently cached. */
+    public int getTextCacheSize() {
+        return textCache.size();
+    }
+    
+    /** Text accesses answered from the cache. */
+    public long getTextCacheHitCount() {
+        return textCache.getHitCount();
+    }
+    
+    /** Text accesses that had to query the database. */
+    public long getTextCacheMissCount() {
+        return textCache.getMissCount();
+    }
+    
     // ==================== POSTER BOARD OPERATIONS ====================
     
     public void savePosterBoard(PosterBoard board) {
@@ -601,10 +1494,12 @@ public class DatabaseManager {
             VALUES (?, ?, ?)
             ON DUPLICATE KEY UPDATE
                 presenter_id = VALUES(presenter_id),
-                session_id = VALUES(session_id)
+                session_id = VALUES(session_id),
+                assigned_at = CURRENT_TIMESTAMP
             """;
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getWriteConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, board.getBoardId());
             stmt.setString(2, board.getPresenterId());
             stmt.setString(3, board.getSessionId());
@@ -617,12 +1512,13 @@ public class DatabaseManager {
     public PosterBoard getPosterBoard(String boardId) {
         String sql = "SELECT * FROM poster_boards WHERE board_id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, boardId);
-            ResultSet rs = stmt.executeQuery();
-            
-            if (rs.next()) {
-                return mapResultSetToPosterBoard(rs);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToPosterBoard(rs);
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error getting poster board: " + e.getMessage());
@@ -632,25 +1528,35 @@ public class DatabaseManager {
     
     public Map<String, PosterBoard> getAllPosterBoards() {
         Map<String, PosterBoard> boards = new HashMap<>();
-        String sql = "SELECT * FROM poster_boards";
-        
-        try (Statement stmt = getConnection().createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        streamPosterBoards(board -> boards.put(board.getBoardId(), board));
+        return boards;
+    }
+    
+    /**
+     * Streams every poster board to a callback as rows arrive from the server.
+     * @param rowHandler receives each board; must not use this manager's connection
+     * @return true if every row was read, false if the load failed part-way
+     */
+    public boolean streamPosterBoards(Consumer<PosterBoard> rowHandler) {
+        try (Connection conn = getReadConnection();
+             Statement stmt = createStreamingStatement(conn);
+             ResultSet rs = stmt.executeQuery("SELECT * FROM poster_boards")) {
             
             while (rs.next()) {
-                PosterBoard board = mapResultSetToPosterBoard(rs);
-                boards.put(board.getBoardId(), board);
+                rowHandler.accept(mapResultSetToPosterBoard(rs));
             }
+            return true;
         } catch (SQLException e) {
             System.err.println("Error getting all poster boards: " + e.getMessage());
+            return false;
         }
-        return boards;
     }
     
     public void clearPosterBoard(String boardId) {
         String sql = "DELETE FROM poster_boards WHERE board_id = ?";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getWriteConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, boardId);
             stmt.executeUpdate();
         } catch (SQLException e) {
@@ -671,7 +1577,8 @@ public class DatabaseManager {
     public void saveAward(Award award) {
         String sql = "INSERT INTO awards (award_type, winner_id, score, ceremony_date) VALUES (?, ?, ?, ?)";
         
-        try (PreparedStatement stmt = getConnection().prepareStatement(sql)) {
+        try (Connection conn = getWriteConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, award.getType().name());
             stmt.setString(2, award.getWinnerId());
             stmt.setDouble(3, award.getScore());
@@ -684,34 +1591,68 @@ public class DatabaseManager {
     
     public List<Award> getAllAwards() {
         List<Award> awards = new ArrayList<>();
-        String sql = "SELECT * FROM awards ORDER BY created_at DESC";
-        
-        try (Statement stmt = getConnection().createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            
+        streamAwards(awards::add);
+        return awards;
+    }
+    
+    /**
+     * Streams every award, newest first, to a callback as rows arrive from the server.
+     * @param rowHandler receives each award; must not use this manager's connection
+     * @return true if every row was read, false if the load failed part-way
+     */
+    public boolean streamAwards(Consumer<Award> rowHandler) {
+        try (Connection conn = getReadConnection()) {
+            readAwards(conn, rowHandler);
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error getting all awards: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    private void readAwards(Connection conn, Consumer<Award> rowHandler) throws SQLException {
+        try (Statement stmt = createStreamingStatement(conn);
+             ResultSet rs = stmt.executeQuery("SELECT * FROM awards ORDER BY created_at DESC")) {
             while (rs.next()) {
                 Award award = new Award();
                 award.setType(AwardType.valueOf(rs.getString("award_type")));
                 award.setWinnerId(rs.getString("winner_id"));
                 award.setScore(rs.getDouble("score"));
-                awards.add(award);
+                rowHandler.accept(award);
             }
-        } catch (SQLException e) {
-            System.err.println("Error getting all awards: " + e.getMessage());
         }
-        return awards;
     }
     
     public void clearAwards() {
         String sql = "DELETE FROM awards";
         
-        try (Statement stmt = getConnection().createStatement()) {
+        try (Connection conn = getWriteConnection();
+             Statement stmt = conn.createStatement()) {
             stmt.executeUpdate(sql);
         } catch (SQLException e) {
             System.err.println("Error clearing awards: " + e.getMessage());
         }
     }
     
+    // ==================== VOTE OPERATIONS ====================
+    
+    /**
+     * Records a People's Choice vote.
+     * @param voterStudentId the student ID of the voter
+     * @param votedForPresenterId the presenter ID being voted for
+     * @throws SQLException if the vote could not be recorded (e.g. duplicate voter)
+     */
+    public void saveVote(String voterStudentId, String votedForPresenterId) throws SQLException {
+        String sql = "INSERT INTO votes (voter_student_id, voted_for_presenter_id) VALUES (?, ?)";
+        
+        try (Connection conn = getWriteConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, voterStudentId);
+            stmt.setString(2, votedForPresenterId);
+            stmt.executeUpdate();
+        }
+    }
+    
     // ==================== VENUE OPERATIONS ====================
     
     /**
@@ -722,7 +1663,8 @@ public class DatabaseManager {
         List<String> venues = new ArrayList<>();
         String sql = "SELECT venue_name FROM venues ORDER BY venue_name";
         
-        try (Statement stmt = getConnection().createStatement();
+        try (Connection conn = getReadConnection();
+             Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
             while (rs.next()) {
@@ -750,7 +1692,8 @@ public class DatabaseManager {
     public boolean hasVenues() {
         String sql = "SELECT COUNT(*) FROM venues";
         
-        try (Statement stmt = getConnection().createStatement();
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
             if (rs.next()) {
@@ -763,15 +1706,240 @@ public class DatabaseManager {
         return false;
     }
     
+    // ==================== CHANGE TRACKING ====================
+    
+    /**
+     * Reads every row changed at or after a watermark.
+     * Sessions, evaluations and poster boards bump their timestamp column on every
+     * save, so a fixed set of queries covers inserts and updates. Awards are only
+     * read if one was written since the watermark. Deletions do not leave rows
+     * behind; callers compare the returned row counts with their own and use
+     * {@link #getLiveIds(String)} when they differ.
+     * @param since the previous watermark
+     * @return the changes, or null if the database could not be read
+     */
+    public ChangeSet getChangesSince(Timestamp since) {
+        Map<String, User> users = new HashMap<>();
+        Map<String, Session> sessions = new HashMap<>();
+        Map<String, Evaluation> evaluations = new HashMap<>();
+        Map<String, PosterBoard> boards = new HashMap<>();
+        Map<String, Integer> rowCounts = new HashMap<>();
+        Timestamp watermark;
+        
+        try (Connection conn = getConnection()) {
+            // Take the new watermark first so rows written during the reads are picked up next time
+            watermark = getServerTime(conn);
+            
+            Map<String, List<String>> evaluatorSessionIds = getGroupedIds(conn, since, """
+                SELECT se.evaluator_id, se.session_id FROM session_evaluators se
+                JOIN users u ON u.evaluator_id = se.evaluator_id
+                WHERE u.updated_at >= ?
+                """, "evaluator_id", "session_id");
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT " + USER_COLUMNS + " FROM users WHERE updated_at >= ?")) {
+                stmt.setTimestamp(1, since);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        User user = mapUserRow(rs, true);
+                        // The row changed, so its cached abstract may be stale
+                        textCache.invalidate(textKey("abstract_text", user.getId()));
+                        if (user instanceof Evaluator evaluator) {
+                            evaluator.setAssignedSessionIds(evaluatorSessionIds.get(evaluator.getEvaluatorId()));
+                        }
+                        users.put(user.getId(), user);
+                    }
+                }
+            }
+            
+            Map<String, List<String>> presenterIds = getGroupedIds(conn, since, """
+                SELECT sp.session_id, sp.presenter_id FROM session_presenters sp
+                JOIN sessions s ON s.session_id = sp.session_id
+                WHERE s.updated_at >= ?
+                """, "session_id", "presenter_id");
+            Map<String, List<String>> evaluatorIds = getGroupedIds(conn, since, """
+                SELECT se.session_id, se.evaluator_id FROM session_evaluators se
+                JOIN sessions s ON s.session_id = se.session_id
+                WHERE s.updated_at >= ?
+                """, "session_id", "evaluator_id");
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM sessions WHERE updated_at >= ?")) {
+                stmt.setTimestamp(1, since);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        String sessionId = rs.getString("session_id");
+                        sessions.put(sessionId, mapSessionRow(rs, presenterIds.get(sessionId),
+                            evaluatorIds.get(sessionId)));
+                    }
+                }
+            }
+            
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT " + EVALUATION_COLUMNS + " FROM evaluations WHERE submitted_at >= ?")) {
+                stmt.setTimestamp(1, since);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        Evaluation evaluation = mapResultSetToEvaluation(rs, true);
+                        textCache.invalidate(textKey("comments", evaluation.getEvaluationId()));
+                        evaluations.put(evaluation.getEvaluationId(), evaluation);
+                    }
+                }
+            }
+            
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM poster_boards WHERE assigned_at >= ?")) {
+                stmt.setTimestamp(1, since);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        PosterBoard board = mapResultSetToPosterBoard(rs);
+                        boards.put(board.getBoardId(), board);
+                    }
+                }
+            }
+            
+            boolean awardsWritten = false;
+            try (PreparedStatement stmt = conn.prepareStatement("""
+                    SELECT (SELECT COUNT(*) FROM users) AS users,
+                           (SELECT COUNT(*) FROM sessions) AS sessions,
+                           (SELECT COUNT(*) FROM evaluations) AS evaluations,
+                           (SELECT COUNT(*) FROM poster_boards) AS poster_boards,
+                           (SELECT COUNT(*) FROM awards) AS awards,
+                           (SELECT COUNT(*) FROM awards WHERE created_at >= ?) AS new_awards
+                    """)) {
+                stmt.setTimestamp(1, since);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        for (String table : LIVE_ID_COLUMNS.keySet()) {
+                            rowCounts.put(table, rs.getInt(table));
+                        }
+                        rowCounts.put("awards", rs.getInt("awards"));
+                        awardsWritten = rs.getInt("new_awards") > 0;
+                    }
+                }
+            }
+            
+            List<Award> awards = null;
+            if (awardsWritten) {
+                awards = new ArrayList<>();
+                readAwards(conn, awards::add);
+            }
+            return new ChangeSet(watermark, users, sessions, evaluations, boards, awards, rowCounts);
+        } catch (SQLException e) {
+            System.err.println("Error reading changes: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Gets the database server's current time, used as a sync watermark.
+     * With a read replica the watermark is moved back by the replica's maximum lag,
+     * so the first change read also covers rows the replica had not yet received
+     * when it served the initial load.
+     * @return the server time, or null if the database could not be read
+     */
+    public Timestamp getServerTime() {
+        try (Connection conn = getConnection()) {
+            Timestamp now = getServerTime(conn);
+            if (replicaDataSource != null) {
+                now = new Timestamp(now.getTime() - config.getReplicaMaxLagMs());
+            }
+            return now;
+        } catch (SQLException e) {
+            System.err.println("Error reading server time: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    private Timestamp getServerTime(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT CURRENT_TIMESTAMP")) {
+            rs.next();
+            return rs.getTimestamp(1);
+        }
+    }
+    
+    /**
+     * Gets the primary keys currently stored in a table, used to detect deleted rows.
+     * @param table one of users, sessions, evaluations or poster_boards
+     * @return the stored IDs, or null if the database could not be read
+     */
+    public Set<String> getLiveIds(String table) {
+        String column = LIVE_ID_COLUMNS.get(table);
+        if (column == null) {
+            throw new IllegalArgumentException("Unknown table: " + table);
+        }
+        Set<String> ids = new HashSet<>();
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT " + column + " FROM " + table)) {
+            while (rs.next()) {
+                ids.add(rs.getString(1));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting IDs from " + table + ": " + e.getMessage());
+            return null;
+        }
+        return ids;
+    }
+    
     // ==================== UTILITY METHODS ====================
     
+    /**
+     * Creates a forward-only statement for reading a whole table.
+     * With streaming enabled, Connector/J hands rows over one at a time instead of
+     * buffering the full result set, so peak memory stays close to the objects
+     * being built. No other statement may run on the connection until the result
+     * set is closed.
+     */
+    private Statement createStreamingStatement(Connection conn) throws SQLException {
+        Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        if (config.isStreamResults()) {
+            stmt.setFetchSize(Integer.MIN_VALUE);
+        }
+        return stmt;
+    }
+    
+    /**
+     * Reads a two-column link table in one query and groups the values by key.
+     * Replaces per-row lookups when loading whole tables.
+     */
+    private Map<String, List<String>> getGroupedIds(Connection conn, String sql, String keyColumn,
+                                                    String valueColumn) throws SQLException {
+        Map<String, List<String>> grouped = new HashMap<>();
+        try (Statement stmt = createStreamingStatement(conn);
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                grouped.computeIfAbsent(rs.getString(keyColumn), k -> new ArrayList<>())
+                    .add(rs.getString(valueColumn));
+            }
+        }
+        return grouped;
+    }
+    
+    /**
+     * Same as {@link #getGroupedIds(Connection, String, String, String)} for a query
+     * with a single timestamp parameter.
+     */
+    private Map<String, List<String>> getGroupedIds(Connection conn, Timestamp param, String sql,
+                                                    String keyColumn, String valueColumn) throws SQLException {
+        Map<String, List<String>> grouped = new HashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setTimestamp(1, param);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    grouped.computeIfAbsent(rs.getString(keyColumn), k -> new ArrayList<>())
+                        .add(rs.getString(valueColumn));
+                }
+            }
+        }
+        return grouped;
+    }
+    
     /**
      * Checks if sample data exists in database.
      */
     public boolean hasSampleData() {
         String sql = "SELECT COUNT(*) FROM users WHERE username = 'admin'";
         
-        try (Statement stmt = getConnection().createStatement();
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
             if (rs.next()) {
@@ -787,13 +1955,13 @@ public class DatabaseManager {
      * Tests database connection.
      */
     public boolean testConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                try (Statement stmt = connection.createStatement()) {
-                    stmt.execute("SELECT 1");
-                    return true;
-                }
-            }
+        if (!isConnected()) {
+            return false;
+        }
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("SELECT 1");
+            return true;
         } catch (SQLException e) {
             System.err.println("Connection test failed: " + e.getMessage());
         }
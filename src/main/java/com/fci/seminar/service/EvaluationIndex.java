@@ -0,0 +1,162 @@
+package com.fci.seminar.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.RubricScores;
+
+/**
+ * Hash indexes over the DataStore's evaluations by presenter, by evaluator and by
+ * (evaluator, presenter) pair. Evaluations are grouped as they are indexed, so the
+ * per-presenter and per-evaluator lists come straight out of the map, and each
+ * presenter's {@link ScoreSummary} and the {@link ScoreColumns} are kept up to
+ * date alongside. As with
+ * {@link UserIndex}, the keys each evaluation was indexed under are remembered so
+ * re-indexing drops stale entries. Not thread-safe; DataStore guards it with its
+ * evaluation lock.
+ */
+final class EvaluationIndex {
+
+    private final Map<String, Map<String, Evaluation>> byPresenter = new HashMap<>();
+    private final Map<String, Map<String, Evaluation>> byEvaluator = new HashMap<>();
+    private final Map<String, Evaluation> byPair = new HashMap<>();
+    private final Map<String, IndexedKeys> keysByEvaluationId = new HashMap<>();
+    private final Map<String, ScoreSummary> scoresByPresenter = new HashMap<>();
+    private final ScoreColumns scoreColumns = new ScoreColumns();
+
+    /**
+     * Indexes an evaluation, replacing whatever was indexed for the same evaluation ID.
+     */
+    void put(Evaluation evaluation) {
+        String evaluationId = evaluation.getEvaluationId();
+        remove(evaluationId);
+        IndexedKeys keys = new IndexedKeys(evaluation);
+        addToGroup(byPresenter, keys.presenterId, evaluationId, evaluation);
+        addToGroup(byEvaluator, keys.evaluatorId, evaluationId, evaluation);
+        if (keys.pair != null) {
+            byPair.put(keys.pair, evaluation);
+        }
+        if (keys.presenterId != null && keys.scores != null) {
+            ScoreSummary current = scoresByPresenter.getOrDefault(keys.presenterId, ScoreSummary.EMPTY);
+            scoresByPresenter.put(keys.presenterId, current.plus(keys.scores));
+        }
+        scoreColumns.put(evaluation);
+        keysByEvaluationId.put(evaluationId, keys);
+    }
+
+    /**
+     * Removes the entries indexed for an evaluation ID.
+     */
+    void remove(String evaluationId) {
+        IndexedKeys keys = keysByEvaluationId.remove(evaluationId);
+        if (keys == null) {
+            return;
+        }
+        scoreColumns.remove(evaluationId);
+        removeFromGroup(byPresenter, keys.presenterId, evaluationId);
+        removeFromGroup(byEvaluator, keys.evaluatorId, evaluationId);
+        if (keys.pair != null) {
+            // Only drop the entry if another evaluation has not taken the pair since
+            byPair.remove(keys.pair, keys.evaluation);
+        }
+        if (keys.presenterId != null && keys.scores != null) {
+            // Subtracts the scores as they were added, even if the evaluation was edited since
+            ScoreSummary remaining = scoresByPresenter.get(keys.presenterId).minus(keys.scores);
+            if (remaining.getCount() == 0) {
+                scoresByPresenter.remove(keys.presenterId);
+            } else {
+                scoresByPresenter.put(keys.presenterId, remaining);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds every index from scratch.
+     */
+    void rebuild(Collection<Evaluation> evaluations) {
+        byPresenter.clear();
+        byEvaluator.clear();
+        byPair.clear();
+        keysByEvaluationId.clear();
+        scoresByPresenter.clear();
+        scoreColumns.clear();
+        for (Evaluation evaluation : evaluations) {
+            put(evaluation);
+        }
+    }
+
+    List<Evaluation> getByPresenter(String presenterId) {
+        return group(byPresenter, presenterId);
+    }
+
+    List<Evaluation> getByEvaluator(String evaluatorId) {
+        return group(byEvaluator, evaluatorId);
+    }
+
+    ScoreColumns getScoreColumns() {
+        return scoreColumns;
+    }
+
+    ScoreSummary getScoreSummary(String presenterId) {
+        return scoresByPresenter.getOrDefault(presenterId, ScoreSummary.EMPTY);
+    }
+
+    Evaluation getByPair(String evaluatorId, String presenterId) {
+        return byPair.get(pairKey(evaluatorId, presenterId));
+    }
+
+    private static String pairKey(String evaluatorId, String presenterId) {
+        return evaluatorId + '\u0000' + presenterId;
+    }
+
+    private static List<Evaluation> group(Map<String, Map<String, Evaluation>> index, String key) {
+        Map<String, Evaluation> group = index.get(key);
+        return group != null ? List.copyOf(group.values()) : List.of();
+    }
+
+    private static void addToGroup(Map<String, Map<String, Evaluation>> index, String key,
+                                   String evaluationId, Evaluation evaluation) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(evaluationId, evaluation);
+        }
+    }
+
+    private static void removeFromGroup(Map<String, Map<String, Evaluation>> index, String key,
+                                        String evaluationId) {
+        if (key == null) {
+            return;
+        }
+        Map<String, Evaluation> group = index.get(key);
+        if (group != null) {
+            group.remove(evaluationId);
+            if (group.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * The keys an evaluation was indexed under, captured at indexing time.
+     */
+    private static final class IndexedKeys {
+        private final Evaluation evaluation;
+        private final String presenterId;
+        private final String evaluatorId;
+        private final String pair;
+        private final RubricScores scores;
+
+        private IndexedKeys(Evaluation evaluation) {
+            this.evaluation = evaluation;
+            this.presenterId = evaluation.getPresenterId();
+            this.evaluatorId = evaluation.getEvaluatorId();
+            this.pair = presenterId != null && evaluatorId != null ? pairKey(evaluatorId, presenterId) : null;
+            RubricScores current = evaluation.getScores();
+            this.scores = current != null ? new RubricScores(current.getProblemClarity(), current.getMethodology(),
+                current.getResults(), current.getPresentation()) : null;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import com.fci.seminar.model.Evaluation;
 import com.fci.seminar.model.RubricScores;
 import com.fci.seminar.util.IdGenerator;
+import com.fci.seminar.util.IdGenerator.IdType;
 
 /**
  * Service class for evaluation operations.
@@ -42,7 +43,8 @@ public class EvaluationService {
         } else {
             // Create new evaluation
             if (evaluation.getEvaluationId() == null || evaluation.getEvaluationId().isEmpty()) {
-                evaluation.setEvaluationId(IdGenerator.generateEvaluationId());
+                evaluation.setEvaluationId(
+                    IdGenerator.generate(IdType.EVALUATION, id -> dataStore.getEvaluation(id) != null));
             }
             dataStore.addEvaluation(evaluation);
         }
@@ -55,13 +57,7 @@ public class EvaluationService {
      * @return the evaluation if found, null otherwise
      */
     public Evaluation getEvaluationByEvaluatorAndPresenter(String evaluatorId, String presenterId) {
-        for (Evaluation evaluation : dataStore.getEvaluations().values()) {
-            if (evaluatorId.equals(evaluation.getEvaluatorId()) && 
-                presenterId.equals(evaluation.getPresenterId())) {
-                return evaluation;
-            }
-        }
-        return null;
+        return dataStore.findEvaluation(evaluatorId, presenterId);
     }
 
     /**
@@ -77,11 +73,12 @@ public class EvaluationService {
         if (evaluation.getEvaluatorId() == null || evaluation.getEvaluatorId().isEmpty()) {
             throw new IllegalArgumentException("Evaluator ID is required");
         }
-        if (evaluation.getScores() == null) {
+        RubricScores scores = evaluation.getScores();
+        if (scores == null) {
             throw new IllegalArgumentException("Scores are required");
         }
         
-        validateScores(evaluation.getScores());
+        validateScores(scores);
     }
 
     /**
@@ -116,13 +113,7 @@ public class EvaluationService {
      * @return list of evaluations for the presenter
      */
     public List<Evaluation> getEvaluationsForPresenter(String presenterId) {
-        List<Evaluation> result = new ArrayList<>();
-        for (Evaluation evaluation : dataStore.getEvaluations().values()) {
-            if (presenterId.equals(evaluation.getPresenterId())) {
-                result.add(evaluation);
-            }
-        }
-        return result;
+        return dataStore.getEvaluationsForPresenter(presenterId);
     }
 
     /**
@@ -131,13 +122,7 @@ public class EvaluationService {
      * @return list of evaluations by the evaluator
      */
     public List<Evaluation> getEvaluationsByEvaluator(String evaluatorId) {
-        List<Evaluation> result = new ArrayList<>();
-        for (Evaluation evaluation : dataStore.getEvaluations().values()) {
-            if (evaluatorId.equals(evaluation.getEvaluatorId())) {
-                result.add(evaluation);
-            }
-        }
-        return result;
+        return dataStore.getEvaluationsByEvaluator(evaluatorId);
     }
 
     /**
@@ -146,17 +131,17 @@ public class EvaluationService {
      * @return the average score, or 0.0 if no evaluations exist
      */
     public double calculateAverageScore(String presenterId) {
-        List<Evaluation> evaluations = getEvaluationsForPresenter(presenterId);
-        if (evaluations.isEmpty()) {
-            return 0.0;
-        }
-        
-        double totalScore = 0.0;
-        for (Evaluation evaluation : evaluations) {
-            totalScore += evaluation.getScores().getTotalScore();
-        }
-        
-        return totalScore / evaluations.size();
+        return dataStore.getScoreSummary(presenterId).getAverageScore();
+    }
+
+    /**
+     * Gets a presenter's score statistics: count, average, variance and per-rubric means.
+     * Totals are maintained as evaluations are submitted, overwritten and deleted.
+     * @param presenterId the presenter ID
+     * @return the presenter's score summary
+     */
+    public ScoreSummary getScoreSummary(String presenterId) {
+        return dataStore.getScoreSummary(presenterId);
     }
 
     /**
@@ -0,0 +1,100 @@
+package com.fci.seminar.service;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A database transaction bound to one thread by {@link DatabaseManager#runInTransaction(Runnable)}.
+ * While it is active, DatabaseManager hands out a shared connection handle instead of
+ * borrowing from the pool. The handle ignores close(), commit() and autocommit changes so
+ * existing single-operation code joins the transaction unchanged. Any SQLException raised
+ * by a statement, even one the caller catches and logs, marks the transaction rollback-only.
+ * Operations can register actions that undo their in-memory bookkeeping if it rolls back.
+ */
+final class JdbcTransaction {
+
+    private final Connection connection;
+    private final Connection handle;
+    private SQLException failure;
+    private final List<Runnable> rollbackActions = new ArrayList<>();
+
+    JdbcTransaction(Connection connection) {
+        this.connection = connection;
+        this.handle = proxy(Connection.class, this::invokeOnConnection);
+    }
+
+    /** Connection handle to give to code running inside the transaction. */
+    Connection handle() {
+        return handle;
+    }
+
+    /** First error seen inside the transaction, or null if it can still commit. */
+    SQLException getFailure() {
+        return failure;
+    }
+
+    /** Registers an action to run if the transaction does not commit. */
+    void onRollback(Runnable action) {
+        rollbackActions.add(action);
+    }
+
+    /** Runs the registered rollback actions; called once the transaction has ended without committing. */
+    void rolledBack() {
+        rollbackActions.forEach(Runnable::run);
+        rollbackActions.clear();
+    }
+
+    private void markRollbackOnly(SQLException e) {
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    private Object invokeOnConnection(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+            case "commit":
+            case "setAutoCommit":
+                // Owned by runInTransaction
+                return null;
+            case "getAutoCommit":
+                return false;
+            case "rollback":
+                if (args == null) {
+                    markRollbackOnly(new SQLException("Rolled back by a nested operation"));
+                    return null;
+                }
+                break;
+            default:
+                break;
+        }
+        Object result = invoke(connection, method, args);
+        if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+            return proxy(method.getReturnType(), (p, m, a) -> invoke(statement, m, a));
+        }
+        return result;
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                markRollbackOnly(sqlException);
+            }
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(JdbcTransaction.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+}
@@ -0,0 +1,844 @@
+package com.fci.seminar.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import com.fci.seminar.model.Award;
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.Evaluator;
+import com.fci.seminar.model.PosterBoard;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.Student;
+import com.fci.seminar.model.User;
+
+/**
+ * Embedded storage backend for single-machine installs that have no MySQL server.
+ * <p>
+ * Every write is appended to {@code seminar.log} in the data directory and forced to
+ * disk before the call returns. An in-memory index maps each key to the offset of its
+ * latest record, so opening the store is one sequential pass that checks each record
+ * without building entities, and a read goes straight to one record. Each record
+ * carries a CRC; a record torn by a crash fails its check and is cut off when the log
+ * is next opened, and a transaction is written behind a batch header so it is
+ * replayed entirely or not at all. Once more than half of a log of at least
+ * {@value #MIN_COMPACTION_BYTES} bytes is superseded records, the live records are
+ * copied to a fresh file that atomically replaces the old one.
+ * <p>
+ * Only one process may open a data directory at a time. Reads inside a transaction do
+ * not see the transaction's own writes.
+ */
+public final class LogStorageBackend implements StorageBackend {
+
+    private static final String LOG_FILE = "seminar.log";
+    private static final String COMPACT_FILE = "seminar.log.compact";
+    private static final String LOCK_FILE = "seminar.lock";
+    private static final long MIN_COMPACTION_BYTES = 1 << 20;
+    // Frame header: payload length and payload CRC
+    private static final int HEADER_BYTES = 8;
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte BATCH = 3;
+
+    // Tables that only this backend keys by ID; the entity tables are named by StorageBackend
+    private static final String AWARDS = "awards";
+    private static final String VOTES = "votes";
+
+    private final Path directory;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private FileChannel channel;
+    private long end;
+    private long liveBytes;
+    private long compactions;
+    // Table name to key to latest record, in first-write order
+    private final Map<String, Map<String, Location>> index = new HashMap<>();
+    // Evaluator lists of every session, from which evaluator assignments are derived
+    private final Map<String, List<String>> sessionEvaluators = new LinkedHashMap<>();
+    private final Map<String, String> sessionVenues = new HashMap<>();
+    private long nextUserId = 1;
+    private long nextAwardKey = 1;
+    private final ThreadLocal<List<Record>> transaction = new ThreadLocal<>();
+    private volatile boolean open = true;
+
+    private LogStorageBackend(Path directory, FileChannel lockChannel, FileLock lock) {
+        this.directory = directory;
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+    }
+
+    /**
+     * Opens the log in a directory, creating it if needed, and rebuilds the index by replaying it.
+     * @param directory the data directory
+     * @return the open backend
+     * @throws IOException if the log cannot be read or another process has it open
+     */
+    public static LogStorageBackend open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Already open in this JVM
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("The data log is in use by another process");
+        }
+        LogStorageBackend backend = new LogStorageBackend(directory, lockChannel, lock);
+        try {
+            // A compaction interrupted before its rename left the old log intact
+            Files.deleteIfExists(directory.resolve(COMPACT_FILE));
+            backend.channel = FileChannel.open(directory.resolve(LOG_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            backend.replay();
+        } catch (IOException | RuntimeException e) {
+            backend.close();
+            throw e;
+        }
+        return backend;
+    }
+
+    // ==================== LOG FORMAT ====================
+
+    /**
+     * Where the latest record for a key lives, and when it was written.
+     */
+    private static final class Location {
+        private final long offset;
+        private final int length;
+        private final long writtenAt;
+
+        private Location(long offset, int length, long writtenAt) {
+            this.offset = offset;
+            this.length = length;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    /**
+     * One log record: a put or delete of a key, or the header of a batch of them.
+     */
+    private static final class Record {
+        private final byte type;
+        private final String table;
+        private final String key;
+        private final long writtenAt;
+        private final byte[] value;
+        private final int count;
+        // The entity being put, when the record was created in this process
+        private final Object entity;
+
+        private Record(byte type, String table, String key, long writtenAt, byte[] value, int count, Object entity) {
+            this.type = type;
+            this.table = table;
+            this.key = key;
+            this.writtenAt = writtenAt;
+            this.value = value;
+            this.count = count;
+            this.entity = entity;
+        }
+
+        private static Record put(String table, String key, Serializable entity) {
+            return new Record(PUT, table, key, System.currentTimeMillis(), serialize(entity), 0, entity);
+        }
+
+        private static Record delete(String table, String key) {
+            return new Record(DELETE, table, key, System.currentTimeMillis(), null, 0, null);
+        }
+
+        private static Record batch(int count) {
+            return new Record(BATCH, null, null, 0, null, count, null);
+        }
+
+        /**
+         * Encodes the record as a frame: payload length, payload CRC, payload.
+         */
+        private byte[] toFrame() {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(payload)) {
+                out.writeByte(type);
+                if (type == BATCH) {
+                    out.writeInt(count);
+                } else {
+                    out.writeUTF(table);
+                    out.writeUTF(key);
+                    out.writeLong(writtenAt);
+                    if (value != null) {
+                        out.write(value);
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            byte[] bytes = payload.toByteArray();
+            return ByteBuffer.allocate(HEADER_BYTES + bytes.length)
+                .putInt(bytes.length)
+                .putInt(crc(bytes, 0, bytes.length))
+                .put(bytes)
+                .array();
+        }
+
+        /**
+         * Decodes a frame.
+         * @return the record, or null if the frame is incomplete or fails its CRC
+         */
+        private static Record fromFrame(byte[] frame) {
+            ByteBuffer buffer = ByteBuffer.wrap(frame);
+            int length = buffer.getInt();
+            int crc = buffer.getInt();
+            if (length != frame.length - HEADER_BYTES || crc != crc(frame, HEADER_BYTES, length)) {
+                return null;
+            }
+            try (DataInputStream in = new DataInputStream(
+                    new ByteArrayInputStream(frame, HEADER_BYTES, length))) {
+                byte type = in.readByte();
+                if (type == BATCH) {
+                    return batch(in.readInt());
+                }
+                String table = in.readUTF();
+                String key = in.readUTF();
+                long writtenAt = in.readLong();
+                byte[] value = type == PUT ? in.readAllBytes() : null;
+                return new Record(type, table, key, writtenAt, value, 0, null);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private static int crc(byte[] bytes, int offset, int length) {
+            CRC32 crc = new CRC32();
+            crc.update(bytes, offset, length);
+            return (int) crc.getValue();
+        }
+    }
+
+    private static byte[] serialize(Serializable entity) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(entity);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize " + entity.getClass().getSimpleName(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] value) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unknown record class: " + e.getMessage(), e);
+        }
+    }
+
+    // ==================== REPLAY, APPEND AND COMPACTION ====================
+
+    /**
+     * Rebuilds the index from the log, cutting off an incomplete or corrupt tail.
+     */
+    private void replay() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        while (position < size) {
+            Record record = readFrame(position, size);
+            if (record == null) {
+                break;
+            }
+            long next = position + frameLength(position);
+            if (record.type == BATCH) {
+                // A batch only counts if every record in it made it to disk
+                List<Record> members = new ArrayList<>(record.count);
+                List<Long> offsets = new ArrayList<>(record.count);
+                long memberPosition = next;
+                while (members.size() < record.count) {
+                    Record member = memberPosition < size ? readFrame(memberPosition, size) : null;
+                    if (member == null || member.type == BATCH) {
+                        break;
+                    }
+                    members.add(member);
+                    offsets.add(memberPosition);
+                    memberPosition += frameLength(memberPosition);
+                }
+                if (members.size() < record.count) {
+                    break;
+                }
+                for (int i = 0; i < members.size(); i++) {
+                    apply(members.get(i), offsets.get(i), frameLength(offsets.get(i)));
+                }
+                next = memberPosition;
+            } else {
+                apply(record, position, next - position);
+            }
+            position = next;
+        }
+        if (position < size) {
+            System.err.println("Discarding " + (size - position) + " bytes of incomplete data log.");
+            channel.truncate(position);
+            channel.force(true);
+        }
+        end = position;
+    }
+
+    private int frameLength(long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        channel.read(header, position);
+        return HEADER_BYTES + header.flip().getInt();
+    }
+
+    /**
+     * Reads and checks the frame at a position.
+     * @return the record, or null if it runs past the end or fails its CRC
+     */
+    private Record readFrame(long position, long size) throws IOException {
+        if (size - position < HEADER_BYTES) {
+            return null;
+        }
+        int length = frameLength(position);
+        if (length < HEADER_BYTES || length > size - position) {
+            return null;
+        }
+        ByteBuffer frame = ByteBuffer.allocate(length);
+        while (frame.hasRemaining()) {
+            if (channel.read(frame, position + frame.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return Record.fromFrame(frame.array());
+    }
+
+    /**
+     * Points the index at a record that is now on disk.
+     */
+    private void apply(Record record, long offset, long length) throws IOException {
+        Map<String, Location> table = index.computeIfAbsent(record.table, name -> new LinkedHashMap<>());
+        Location previous = record.type == PUT
+            ? table.put(record.key, new Location(offset, (int) length, record.writtenAt))
+            : table.remove(record.key);
+        if (previous != null) {
+            liveBytes -= previous.length;
+        }
+        if (record.type == PUT) {
+            liveBytes += length;
+        }
+        switch (record.table) {
+            case SESSIONS -> {
+                Session session = record.type == PUT
+                    ? (Session) (record.entity != null ? record.entity : deserialize(record.value)) : null;
+                if (session != null) {
+                    sessionEvaluators.put(record.key, List.copyOf(session.getEvaluatorIds()));
+                    sessionVenues.put(record.key, session.getVenue());
+                } else {
+                    sessionEvaluators.remove(record.key);
+                    sessionVenues.remove(record.key);
+                }
+            }
+            case USERS -> nextUserId = Math.max(nextUserId, numericKey(record.key) + 1);
+            case AWARDS -> nextAwardKey = Math.max(nextAwardKey, numericKey(record.key) + 1);
+            default -> { }
+        }
+    }
+
+    private static long numericKey(String key) {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Writes records now, or queues them if a transaction is running on this thread.
+     */
+    private void write(Record... records) {
+        List<Record> pending = transaction.get();
+        if (pending != null) {
+            pending.addAll(List.of(records));
+            return;
+        }
+        try {
+            append(List.of(records));
+        } catch (IOException e) {
+            System.err.println("Error writing data log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends records as one atomic unit, forces them to disk and updates the index.
+     */
+    private synchronized void append(List<Record> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (!open) {
+            throw new IOException("The data log is closed");
+        }
+        List<byte[]> frames = new ArrayList<>(records.size() + 1);
+        if (records.size() > 1) {
+            frames.add(Record.batch(records.size()).toFrame());
+        }
+        records.forEach(record -> frames.add(record.toFrame()));
+        ByteBuffer buffer = ByteBuffer.allocate(frames.stream().mapToInt(frame -> frame.length).sum());
+        frames.forEach(buffer::put);
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, end + buffer.position());
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // Drop the partial write so the next append does not land behind it
+            channel.truncate(end);
+            throw e;
+        }
+        long offset = end + (records.size() > 1 ? frames.get(0).length : 0);
+        for (int i = 0; i < records.size(); i++) {
+            byte[] frame = frames.get(records.size() > 1 ? i + 1 : i);
+            apply(records.get(i), offset, frame.length);
+            offset += frame.length;
+        }
+        end += buffer.limit();
+        if (end >= MIN_COMPACTION_BYTES && end - liveBytes > liveBytes) {
+            compact();
+        }
+    }
+
+    /**
+     * Copies the live records to a new log that atomically replaces the current one.
+     */
+    private void compact() throws IOException {
+        Path compactPath = directory.resolve(COMPACT_FILE);
+        Map<String, Map<String, Location>> moved = new HashMap<>();
+        long position = 0;
+        try (FileChannel target = FileChannel.open(compactPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Map.Entry<String, Map<String, Location>> table : index.entrySet()) {
+                Map<String, Location> locations = new LinkedHashMap<>();
+                for (Map.Entry<String, Location> entry : table.getValue().entrySet()) {
+                    Location location = entry.getValue();
+                    long copied = 0;
+                    while (copied < location.length) {
+                        copied += channel.transferTo(location.offset + copied, location.length - copied, target);
+                    }
+                    locations.put(entry.getKey(), new Location(position, location.length, location.writtenAt));
+                    position += location.length;
+                }
+                moved.put(table.getKey(), locations);
+            }
+            target.force(true);
+        }
+        channel.close();
+        Files.move(compactPath, directory.resolve(LOG_FILE), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(directory.resolve(LOG_FILE), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index.clear();
+        index.putAll(moved);
+        end = position;
+        liveBytes = position;
+        compactions++;
+    }
+
+    /**
+     * Reads the current value of a key.
+     * @return the stored object, or null if the key does not exist
+     */
+    private synchronized Object read(String table, String key) throws IOException {
+        Location location = index.getOrDefault(table, Map.of()).get(key);
+        if (location == null) {
+            return null;
+        }
+        Record record = readFrame(location.offset, end);
+        if (record == null || record.type != PUT) {
+            throw new IOException("Corrupt record for " + table + " " + key);
+        }
+        return deserialize(record.value);
+    }
+
+    /**
+     * Reads every value of a table, or those written since a time, in first-write order.
+     */
+    private synchronized <T> Map<String, T> readAll(String table, long writtenSince, Class<T> type) throws IOException {
+        Map<String, T> values = new LinkedHashMap<>();
+        for (Map.Entry<String, Location> entry : index.getOrDefault(table, Map.of()).entrySet()) {
+            if (entry.getValue().writtenAt >= writtenSince) {
+                values.put(entry.getKey(), type.cast(read(table, entry.getKey())));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads a whole table, reporting failure the way DatabaseManager does.
+     */
+    private <T> Map<String, T> readTable(String table, Class<T> type) {
+        try {
+            return readAll(table, Long.MIN_VALUE, type);
+        } catch (IOException e) {
+            System.err.println("Error reading " + table + " from data log: " + e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private <T> boolean stream(String table, Class<T> type, Function<T, T> prepare, Consumer<T> rowHandler) {
+        try {
+            for (T value : readAll(table, Long.MIN_VALUE, type).values()) {
+                rowHandler.accept(prepare.apply(value));
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error reading " + table + " from data log: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private <T> T get(String table, String key, Class<T> type) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            return type.cast(read(table, key));
+        } catch (IOException e) {
+            System.err.println("Error reading " + table + " " + key + " from data log: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Sets an evaluator's sessions from the stored sessions' evaluator lists.
+     */
+    private synchronized User withAssignments(User user) {
+        if (user instanceof Evaluator evaluator) {
+            List<String> assigned = new ArrayList<>();
+            sessionEvaluators.forEach((sessionId, evaluatorIds) -> {
+                if (evaluatorIds.contains(evaluator.getEvaluatorId())) {
+                    assigned.add(sessionId);
+                }
+            });
+            evaluator.setAssignedSessionIds(assigned);
+        }
+        return user;
+    }
+
+    // ==================== STORAGE BACKEND ====================
+
+    @Override
+    public boolean isConnected() {
+        return open;
+    }
+
+    @Override
+    public String getLocation() {
+        return directory.toAbsolutePath().toUri().toString();
+    }
+
+    /**
+     * Number of times the log has been compacted since it was opened.
+     */
+    public synchronized long getCompactionCount() {
+        return compactions;
+    }
+
+    /**
+     * Size of the log file in bytes.
+     */
+    public synchronized long getLogSize() {
+        return end;
+    }
+
+    @Override
+    public synchronized void close() {
+        open = false;
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+            lock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            System.err.println("Error closing data log: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void runInTransaction(Runnable work) throws SQLException {
+        if (transaction.get() != null) {
+            work.run();
+            return;
+        }
+        List<Record> pending = new ArrayList<>();
+        transaction.set(pending);
+        try {
+            work.run();
+        } finally {
+            transaction.remove();
+        }
+        try {
+            append(pending);
+        } catch (IOException e) {
+            throw new SQLException("Could not write data log: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void saveUser(User user) {
+        if (user.getId() == null) {
+            synchronized (this) {
+                user.setId(String.valueOf(nextUserId++));
+            }
+        }
+        write(Record.put(USERS, user.getId(), user));
+    }
+
+    @Override
+    public User getUser(String id) {
+        User user = get(USERS, id, User.class);
+        return user != null ? withAssignments(user) : null;
+    }
+
+    @Override
+    public User findUser(String column, String value) {
+        Function<User, String> field = switch (column) {
+            case "username" -> User::getUsername;
+            case "student_id" -> user -> user instanceof Student student ? student.getStudentId() : null;
+            case "presenter_id" -> user -> user instanceof Student student ? student.getPresenterId() : null;
+            case "evaluator_id" -> user -> user instanceof Evaluator evaluator ? evaluator.getEvaluatorId() : null;
+            default -> throw new IllegalArgumentException("Unknown lookup column: " + column);
+        };
+        for (User user : readTable(USERS, User.class).values()) {
+            if (value != null && value.equalsIgnoreCase(field.apply(user))) {
+                return withAssignments(user);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Map<String, User> getAllUsers() {
+        Map<String, User> users = new HashMap<>();
+        streamUsers(user -> users.put(user.getId(), user));
+        return users;
+    }
+
+    @Override
+    public boolean streamUsers(Consumer<User> rowHandler) {
+        return stream(USERS, User.class, this::withAssignments, rowHandler);
+    }
+
+    @Override
+    public void deleteUser(String id) {
+        write(Record.delete(USERS, id));
+    }
+
+    @Override
+    public void saveSession(Session session) {
+        write(Record.put(SESSIONS, session.getSessionId(), session));
+    }
+
+    @Override
+    public Session getSession(String sessionId) {
+        return get(SESSIONS, sessionId, Session.class);
+    }
+
+    @Override
+    public Map<String, Session> getAllSessions() {
+        return new HashMap<>(readTable(SESSIONS, Session.class));
+    }
+
+    @Override
+    public boolean streamSessions(Consumer<Session> rowHandler) {
+        return stream(SESSIONS, Session.class, Function.identity(), rowHandler);
+    }
+
+    @Override
+    public void deleteSession(String sessionId) {
+        write(Record.delete(SESSIONS, sessionId));
+    }
+
+    @Override
+    public void saveEvaluation(Evaluation evaluation) {
+        write(Record.put(EVALUATIONS, evaluation.getEvaluationId(), evaluation));
+    }
+
+    @Override
+    public void updateEvaluation(Evaluation evaluation) {
+        saveEvaluation(evaluation);
+    }
+
+    @Override
+    public Evaluation getEvaluation(String evaluationId) {
+        return get(EVALUATIONS, evaluationId, Evaluation.class);
+    }
+
+    @Override
+    public List<Evaluation> getEvaluationsBy(String column, String value) {
+        Function<Evaluation, String> field = switch (column) {
+            case "presenter_id" -> Evaluation::getPresenterId;
+            case "evaluator_id" -> Evaluation::getEvaluatorId;
+            default -> throw new IllegalArgumentException("Unknown lookup column: " + column);
+        };
+        return readTable(EVALUATIONS, Evaluation.class).values().stream()
+            .filter(evaluation -> value != null && value.equals(field.apply(evaluation)))
+            .toList();
+    }
+
+    @Override
+    public Map<String, Evaluation> getAllEvaluations() {
+        return new HashMap<>(readTable(EVALUATIONS, Evaluation.class));
+    }
+
+    @Override
+    public boolean streamEvaluations(Consumer<Evaluation> rowHandler) {
+        return stream(EVALUATIONS, Evaluation.class, Function.identity(), rowHandler);
+    }
+
+    @Override
+    public void deleteEvaluation(String evaluationId) {
+        write(Record.delete(EVALUATIONS, evaluationId));
+    }
+
+    @Override
+    public void savePosterBoard(PosterBoard board) {
+        write(Record.put(POSTER_BOARDS, board.getBoardId(), board));
+    }
+
+    @Override
+    public PosterBoard getPosterBoard(String boardId) {
+        return get(POSTER_BOARDS, boardId, PosterBoard.class);
+    }
+
+    @Override
+    public boolean streamPosterBoards(Consumer<PosterBoard> rowHandler) {
+        return stream(POSTER_BOARDS, PosterBoard.class, Function.identity(), rowHandler);
+    }
+
+    @Override
+    public void clearPosterBoard(String boardId) {
+        write(Record.delete(POSTER_BOARDS, boardId));
+    }
+
+    @Override
+    public void saveAward(Award award) {
+        String key;
+        synchronized (this) {
+            key = String.valueOf(nextAwardKey++);
+        }
+        write(Record.put(AWARDS, key, award));
+    }
+
+    @Override
+    public List<Award> getAllAwards() {
+        return new ArrayList<>(readTable(AWARDS, Award.class).values());
+    }
+
+    @Override
+    public boolean streamAwards(Consumer<Award> rowHandler) {
+        return stream(AWARDS, Award.class, Function.identity(), rowHandler);
+    }
+
+    @Override
+    public void clearAwards() {
+        Set<String> keys;
+        synchronized (this) {
+            keys = Set.copyOf(index.getOrDefault(AWARDS, Map.of()).keySet());
+        }
+        write(keys.stream().map(key -> Record.delete(AWARDS, key)).toArray(Record[]::new));
+    }
+
+    @Override
+    public void saveVote(String voterStudentId, String votedForPresenterId) throws SQLException {
+        synchronized (this) {
+            if (index.getOrDefault(VOTES, Map.of()).containsKey(voterStudentId)) {
+                throw new SQLIntegrityConstraintViolationException("Student " + voterStudentId + " has already voted");
+            }
+            try {
+                append(List.of(Record.put(VOTES, voterStudentId, votedForPresenterId)));
+            } catch (IOException e) {
+                throw new SQLException("Could not write data log: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized List<String> getAllVenues() {
+        Set<String> venues = new TreeSet<>();
+        sessionVenues.values().stream().filter(venue -> venue != null && !venue.isBlank()).forEach(venues::add);
+        return new ArrayList<>(venues);
+    }
+
+    @Override
+    public boolean hasSampleData() {
+        return findUser("username", "admin") != null;
+    }
+
+    @Override
+    public ChangeSet getChangesSince(Timestamp since) {
+        // Every write goes through this process, so the index already knows what changed when
+        synchronized (this) {
+            Timestamp watermark = getServerTime();
+            try {
+                Map<String, User> users = new HashMap<>(readAll(USERS, since.getTime(), User.class));
+                users.replaceAll((id, user) -> withAssignments(user));
+                Map<String, Integer> rowCounts = new HashMap<>();
+                for (String table : List.of(USERS, SESSIONS, EVALUATIONS, POSTER_BOARDS, AWARDS)) {
+                    rowCounts.put(table, index.getOrDefault(table, Map.of()).size());
+                }
+                boolean awardsWritten = index.getOrDefault(AWARDS, Map.of()).values().stream()
+                    .anyMatch(location -> location.writtenAt >= since.getTime());
+                List<Award> awards = awardsWritten
+                    ? new ArrayList<>(readAll(AWARDS, Long.MIN_VALUE, Award.class).values()) : null;
+                return new ChangeSet(watermark, users,
+                    new HashMap<>(readAll(SESSIONS, since.getTime(), Session.class)),
+                    new HashMap<>(readAll(EVALUATIONS, since.getTime(), Evaluation.class)),
+                    new HashMap<>(readAll(POSTER_BOARDS, since.getTime(), PosterBoard.class)),
+                    awards, rowCounts);
+            } catch (IOException e) {
+                System.err.println("Error reading changes from data log: " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public Timestamp getServerTime() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+
+    @Override
+    public synchronized Set<String> getLiveIds(String table) {
+        if (!List.of(USERS, SESSIONS, EVALUATIONS, POSTER_BOARDS).contains(table)) {
+            throw new IllegalArgumentException("Unknown table: " + table);
+        }
+        return new HashSet<>(index.getOrDefault(table, Map.of()).keySet());
+    }
+}
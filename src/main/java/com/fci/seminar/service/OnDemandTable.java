@@ -0,0 +1,124 @@
+package com.fci.seminar.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * One table of a DataStore running in bounded mode: a {@link BoundedCache} of the
+ * entities in use, loaded by ID on a miss, plus the set of every ID in the table.
+ * The IDs are far smaller than the rows and let lookups of unknown IDs skip the
+ * database, while change polling compares their count with the live row count to
+ * notice deletions, just as it does for fully resident tables.
+ */
+final class OnDemandTable<T> {
+
+    private final BoundedCache<String, T> cache;
+    private final Set<String> ids = ConcurrentHashMap.newKeySet();
+    private final Function<String, T> loader;
+
+    /**
+     * @param maximumSize most entities cached at once
+     * @param liveIds every ID currently stored in the table
+     * @param loader loads one entity by ID, returning null if it does not exist
+     */
+    OnDemandTable(int maximumSize, Set<String> liveIds, Function<String, T> loader) {
+        this.cache = new BoundedCache<>(maximumSize);
+        this.ids.addAll(liveIds);
+        this.loader = loader;
+    }
+
+    /**
+     * Gets an entity, loading it from the database on a miss.
+     * @return the entity, or null if the ID is unknown
+     */
+    T get(String id) {
+        if (id == null || !ids.contains(id)) {
+            return null;
+        }
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Loads an entity straight from the database, bypassing the cache.
+     */
+    T load(String id) {
+        return loader.apply(id);
+    }
+
+    /**
+     * Caches an entity found by a lookup query, keeping the cached instance if there is one,
+     * so callers always see a single copy of each entity.
+     */
+    T adopt(String id, T found) {
+        ids.add(id);
+        return cache.get(id, key -> found);
+    }
+
+    /**
+     * Swaps the rows of a multi-row query for their cached instances without caching
+     * the rest, so a scan does not evict the entities that are used all the time.
+     */
+    T resolve(String id, T found) {
+        T cached = cache.peek(id);
+        return cached != null ? cached : found;
+    }
+
+    /**
+     * Applies {@link #resolve(String, Object)} to every row of a full-table read.
+     * @return an unmodifiable map of ID to entity
+     */
+    Map<String, T> resolveAll(Map<String, T> rows) {
+        Map<String, T> resolved = new HashMap<>(rows);
+        resolved.replaceAll(this::resolve);
+        return Collections.unmodifiableMap(resolved);
+    }
+
+    /**
+     * Caches a new or changed entity.
+     * @return true if the ID was already in the table
+     */
+    boolean put(String id, T entity) {
+        cache.put(id, entity);
+        return !ids.add(id);
+    }
+
+    /**
+     * Refreshes an entity changed by another client, caching it only if it was cached.
+     * @return true if the ID was already in the table
+     */
+    boolean merge(String id, T entity) {
+        cache.replace(id, entity);
+        return !ids.add(id);
+    }
+
+    /**
+     * @return true if the ID was in the table
+     */
+    boolean remove(String id) {
+        cache.invalidate(id);
+        return ids.remove(id);
+    }
+
+    /**
+     * Gets every ID in the table; live, so callers must not modify it.
+     */
+    Set<String> getIds() {
+        return ids;
+    }
+
+    /**
+     * Gets the entities currently cached.
+     */
+    List<T> getCached() {
+        return cache.values();
+    }
+
+    CacheMetrics getMetrics() {
+        return cache.getMetrics();
+    }
+}
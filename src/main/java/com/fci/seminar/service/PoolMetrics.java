@@ -0,0 +1,64 @@
+package com.fci.seminar.service;
+
+/**
+ * Point-in-time view of the database connection pool.
+ * Used to size the pool against real evaluator traffic.
+ */
+public final class PoolMetrics {
+
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int threadsAwaitingConnection;
+    private final long borrowCount;
+    private final double averageBorrowMillis;
+    private final double maxBorrowMillis;
+
+    public PoolMetrics(int activeConnections, int idleConnections, int totalConnections,
+                       int threadsAwaitingConnection, long borrowCount,
+                       double averageBorrowMillis, double maxBorrowMillis) {
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+        this.borrowCount = borrowCount;
+        this.averageBorrowMillis = averageBorrowMillis;
+        this.maxBorrowMillis = maxBorrowMillis;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+
+    public double getAverageBorrowMillis() {
+        return averageBorrowMillis;
+    }
+
+    public double getMaxBorrowMillis() {
+        return maxBorrowMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "active=%d, idle=%d, total=%d, waiting=%d, borrows=%d, avgBorrow=%.2fms, maxBorrow=%.2fms",
+            activeConnections, idleConnections, totalConnections, threadsAwaitingConnection,
+            borrowCount, averageBorrowMillis, maxBorrowMillis);
+    }
+}
@@ -4,8 +4,10 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.RubricScores;
 import com.fci.seminar.model.Session;
 import com.fci.seminar.model.Student;
 
@@ -77,12 +79,9 @@ public class ReportService {
      * Gets presenter name by presenter ID.
      */
     private String getPresenterName(String presenterId) {
-        for (com.fci.seminar.model.User user : dataStore.getUsers().values()) {
-            if (user instanceof Student student) {
-                if (presenterId.equals(student.getPresenterId())) {
-                    return student.getUsername();
-                }
-            }
+        Student student = dataStore.findStudentByPresenterId(presenterId);
+        if (student != null) {
+            return student.getUsername();
         }
         return presenterId; // Fallback to ID if not found
     }
@@ -91,7 +90,7 @@ public class ReportService {
      * Gets evaluator name by user ID.
      */
     private String getEvaluatorName(String evaluatorId) {
-        com.fci.seminar.model.User user = dataStore.getUsers().get(evaluatorId);
+        com.fci.seminar.model.User user = dataStore.getUser(evaluatorId);
         if (user != null) {
             return user.getUsername();
         }
@@ -120,13 +119,14 @@ public class ReportService {
                 sb.append("  Evaluator: ").append(getEvaluatorName(eval.getEvaluatorId())).append("\n");
                 sb.append("  Session: ").append(eval.getSessionId()).append("\n");
                 
-                if (eval.getScores() != null) {
+                RubricScores scores = eval.getScores();
+                if (scores != null) {
                     sb.append("  Scores:\n");
-                    sb.append("    Problem Clarity: ").append(eval.getScores().getProblemClarity()).append("\n");
-                    sb.append("    Methodology: ").append(eval.getScores().getMethodology()).append("\n");
-                    sb.append("    Results: ").append(eval.getScores().getResults()).append("\n");
-                    sb.append("    Presentation: ").append(eval.getScores().getPresentation()).append("\n");
-                    sb.append("    Total Score: ").append(eval.getScores().getTotalScore()).append("\n");
+                    sb.append("    Problem Clarity: ").append(scores.getProblemClarity()).append("\n");
+                    sb.append("    Methodology: ").append(scores.getMethodology()).append("\n");
+                    sb.append("    Results: ").append(scores.getResults()).append("\n");
+                    sb.append("    Presentation: ").append(scores.getPresentation()).append("\n");
+                    sb.append("    Total Score: ").append(scores.getTotalScore()).append("\n");
                 }
                 
                 if (eval.getComments() != null && !eval.getComments().isEmpty()) {
@@ -157,18 +157,9 @@ public class ReportService {
         // Count sessions
         int sessionCount = dataStore.getSessions().size();
         
-        // Count evaluations and calculate average score
-        List<Evaluation> evaluations = dataStore.getEvaluations().values().stream().toList();
-        int evaluationCount = evaluations.size();
-        
-        double avgScore = 0.0;
-        if (!evaluations.isEmpty()) {
-            double totalScore = evaluations.stream()
-                .filter(e -> e.getScores() != null)
-                .mapToDouble(e -> e.getScores().getTotalScore())
-                .sum();
-            avgScore = totalScore / evaluations.size();
-        }
+        // Count evaluations and calculate average score in one pass over the score columns
+        int evaluationCount = dataStore.getEvaluations().size();
+        double avgScore = dataStore.queryScores(ScoreColumns::summarize).getAverageScore();
 
         sb.append("STATISTICS:\n");
         sb.append("-------------------------------------------\n");
@@ -387,11 +378,12 @@ public class ReportService {
             writer.write("\"" + getPresenterName(eval.getPresenterId()) + "\",");
             writer.write("\"" + getEvaluatorName(eval.getEvaluatorId()) + "\",");
             writer.write("\"" + eval.getSessionId() + "\",");
-            writer.write(eval.getScores().getProblemClarity() + ",");
-            writer.write(eval.getScores().getMethodology() + ",");
-            writer.write(eval.getScores().getResults() + ",");
-            writer.write(eval.getScores().getPresentation() + ",");
-            writer.write(eval.getScores().getTotalScore() + ",");
+            RubricScores scores = eval.getScores();
+            writer.write(scores.getProblemClarity() + ",");
+            writer.write(scores.getMethodology() + ",");
+            writer.write(scores.getResults() + ",");
+            writer.write(scores.getPresentation() + ",");
+            writer.write(scores.getTotalScore() + ",");
             
             String comments = eval.getComments() != null ? eval.getComments().replace("\"", "\"\"") : "";
             writer.write("\"" + comments + "\"\n");
@@ -409,51 +401,32 @@ public class ReportService {
         writer.write("\"Total Evaluators\"," + countEvaluators() + "\n");
         writer.write("\"Total Evaluations\"," + dataStore.getEvaluations().size() + "\n");
         
-        // Average scores
-        List<Evaluation> evaluations = dataStore.getEvaluations().values().stream().toList();
-        if (!evaluations.isEmpty()) {
-            double avgProblemClarity = evaluations.stream()
-                .mapToInt(e -> e.getScores().getProblemClarity()).average().orElse(0);
-            double avgMethodology = evaluations.stream()
-                .mapToInt(e -> e.getScores().getMethodology()).average().orElse(0);
-            double avgResults = evaluations.stream()
-                .mapToInt(e -> e.getScores().getResults()).average().orElse(0);
-            double avgPresentation = evaluations.stream()
-                .mapToInt(e -> e.getScores().getPresentation()).average().orElse(0);
-            double avgTotal = evaluations.stream()
-                .mapToDouble(e -> e.getScores().getTotalScore()).average().orElse(0);
-            
-            writer.write("\"Average Problem Clarity\"," + String.format("%.2f", avgProblemClarity) + "\n");
-            writer.write("\"Average Methodology\"," + String.format("%.2f", avgMethodology) + "\n");
-            writer.write("\"Average Results\"," + String.format("%.2f", avgResults) + "\n");
-            writer.write("\"Average Presentation\"," + String.format("%.2f", avgPresentation) + "\n");
-            writer.write("\"Average Total Score\"," + String.format("%.2f", avgTotal) + "\n");
+        // Average scores, and per-presenter totals for the ranking, each from one pass over the columns
+        ScoreSummary overall = dataStore.queryScores(ScoreColumns::summarize);
+        Map<String, ScoreSummary> presenterScores =
+            dataStore.queryScores(columns -> columns.summarizeBy(ScoreColumns.Dimension.PRESENTER));
+        if (overall.getCount() > 0) {
+            writer.write("\"Average Problem Clarity\"," + String.format("%.2f", overall.getProblemClarityMean()) + "\n");
+            writer.write("\"Average Methodology\"," + String.format("%.2f", overall.getMethodologyMean()) + "\n");
+            writer.write("\"Average Results\"," + String.format("%.2f", overall.getResultsMean()) + "\n");
+            writer.write("\"Average Presentation\"," + String.format("%.2f", overall.getPresentationMean()) + "\n");
+            writer.write("\"Average Total Score\"," + String.format("%.2f", overall.getAverageScore()) + "\n");
         }
         
         // Top performers table
         writer.write("\n\nTop Performers\n");
         writer.write("Rank,Presenter,Average Score,Evaluations Count\n");
         
-        var presenterScores = new java.util.HashMap<String, java.util.List<Double>>();
-        for (Evaluation eval : evaluations) {
-            presenterScores.computeIfAbsent(eval.getPresenterId(), k -> new java.util.ArrayList<>())
-                .add((double) eval.getScores().getTotalScore());
-        }
-        
         var sortedPresenters = presenterScores.entrySet().stream()
-            .sorted((a, b) -> {
-                double avgA = a.getValue().stream().mapToDouble(Double::doubleValue).average().orElse(0);
-                double avgB = b.getValue().stream().mapToDouble(Double::doubleValue).average().orElse(0);
-                return Double.compare(avgB, avgA);
-            })
+            .sorted((a, b) -> Double.compare(b.getValue().getAverageScore(), a.getValue().getAverageScore()))
             .limit(10)
             .toList();
         
         int rank = 1;
         for (var entry : sortedPresenters) {
             String presenterName = getPresenterName(entry.getKey());
-            double avgScore = entry.getValue().stream().mapToDouble(Double::doubleValue).average().orElse(0);
-            int evalCount = entry.getValue().size();
+            double avgScore = entry.getValue().getAverageScore();
+            int evalCount = entry.getValue().getCount();
             
             writer.write(rank + ",\"" + presenterName + "\"," + 
                 String.format("%.2f", avgScore) + "," + evalCount + "\n");
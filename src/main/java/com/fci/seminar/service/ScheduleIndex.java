@@ -0,0 +1,103 @@
+package com.fci.seminar.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fci.seminar.model.Session;
+
+/**
+ * Index of which sessions each presenter or evaluator is assigned to, per date,
+ * used for scheduling conflict checks. Presenter and evaluator IDs share one
+ * index, as they do in {@link SessionService#hasConflict(String, java.time.LocalDate)}.
+ * The keys each session was indexed under are remembered so re-indexing drops
+ * stale entries. Not thread-safe; DataStore guards it with its session lock.
+ */
+final class ScheduleIndex {
+
+    private final Map<String, Map<LocalDate, Set<String>>> sessionIdsByParticipant = new HashMap<>();
+    private final Map<String, IndexedKeys> keysBySessionId = new HashMap<>();
+
+    /**
+     * Indexes a session, replacing whatever was indexed for the same session ID.
+     */
+    void put(Session session) {
+        String sessionId = session.getSessionId();
+        remove(sessionId);
+        IndexedKeys keys = new IndexedKeys(session);
+        if (keys.date != null) {
+            for (String participantId : keys.participantIds) {
+                sessionIdsByParticipant.computeIfAbsent(participantId, k -> new HashMap<>())
+                    .computeIfAbsent(keys.date, k -> new LinkedHashSet<>())
+                    .add(sessionId);
+            }
+        }
+        keysBySessionId.put(sessionId, keys);
+    }
+
+    /**
+     * Removes the entries indexed for a session ID.
+     */
+    void remove(String sessionId) {
+        IndexedKeys keys = keysBySessionId.remove(sessionId);
+        if (keys == null || keys.date == null) {
+            return;
+        }
+        for (String participantId : keys.participantIds) {
+            Map<LocalDate, Set<String>> byDate = sessionIdsByParticipant.get(participantId);
+            if (byDate == null) {
+                continue;
+            }
+            Set<String> sessionIds = byDate.get(keys.date);
+            if (sessionIds != null) {
+                sessionIds.remove(sessionId);
+                if (sessionIds.isEmpty()) {
+                    byDate.remove(keys.date);
+                }
+            }
+            if (byDate.isEmpty()) {
+                sessionIdsByParticipant.remove(participantId);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the index from scratch.
+     */
+    void rebuild(Collection<Session> sessions) {
+        sessionIdsByParticipant.clear();
+        keysBySessionId.clear();
+        for (Session session : sessions) {
+            put(session);
+        }
+    }
+
+    /**
+     * Gets the IDs of the sessions on a date that a participant is assigned to.
+     */
+    List<String> getSessionIds(String participantId, LocalDate date) {
+        Map<LocalDate, Set<String>> byDate = sessionIdsByParticipant.get(participantId);
+        Set<String> sessionIds = byDate != null ? byDate.get(date) : null;
+        return sessionIds != null ? List.copyOf(sessionIds) : List.of();
+    }
+
+    /**
+     * The date and participants a session was indexed under, captured at indexing time.
+     */
+    private static final class IndexedKeys {
+        private final LocalDate date;
+        private final Set<String> participantIds;
+
+        private IndexedKeys(Session session) {
+            this.date = session.getDate();
+            List<String> participants = new ArrayList<>(session.getPresenterIds());
+            participants.addAll(session.getEvaluatorIds());
+            this.participantIds = new LinkedHashSet<>(participants);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.fci.seminar.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies ordered schema migrations at startup so existing databases can
+ * evolve without re-running schema.sql (which drops every table).
+ * Applied versions are recorded in a schema_version table. Each migration is
+ * idempotent: an index is only created if no existing index already covers
+ * its columns, so migrations are safe on databases built from schema.sql.
+ * A unique index whose columns may already hold duplicates first removes them,
+ * so the index can always be created and later migrations are not held up.
+ * MySQL commits DDL implicitly, so a migration that fails part-way is simply
+ * retried on the next start.
+ */
+public class SchemaMigrator {
+
+    // Deletes every evaluation that has a later submission (or, at the same time, a higher ID) for its pair
+    private static final String DUPLICATE_EVALUATIONS = """
+        DELETE older FROM evaluations older
+        JOIN evaluations newer ON newer.evaluator_id = older.evaluator_id
+            AND newer.presenter_id = older.presenter_id
+            AND (COALESCE(newer.submitted_at, TIMESTAMP '1970-01-01 00:00:01'), newer.evaluation_id)
+                > (COALESCE(older.submitted_at, TIMESTAMP '1970-01-01 00:00:01'), older.evaluation_id)
+        """;
+
+    private static final List<Migration> MIGRATIONS = List.of(
+        new Migration(1, "Indexes for assignment reverse lookups",
+            new Index("session_presenters", "idx_session_presenters_presenter", false, "presenter_id"),
+            new Index("session_evaluators", "idx_session_evaluators_evaluator", false, "evaluator_id"),
+            new Index("users", "idx_users_presenter_id", false, "presenter_id"),
+            new Index("users", "idx_users_evaluator_id", false, "evaluator_id"),
+            new Index("poster_boards", "idx_poster_boards_session", false, "session_id"),
+            new Index("evaluations", "idx_evaluations_session", false, "session_id")),
+        new Migration(2, "One evaluation per evaluator and presenter",
+            new Index("evaluations", "uq_evaluations_evaluator_presenter", true, "evaluator_id", "presenter_id")
+                .afterRemoving(DUPLICATE_EVALUATIONS,
+                    "duplicate evaluation(s), keeping the latest submission per evaluator and presenter")),
+        new Migration(3, "Indexes for change polling watermarks",
+            new Index("users", "idx_users_updated_at", false, "updated_at"),
+            new Index("sessions", "idx_sessions_updated_at", false, "updated_at"),
+            new Index("evaluations", "idx_evaluations_submitted_at", false, "submitted_at"),
+            new Index("poster_boards", "idx_poster_boards_assigned_at", false, "assigned_at"))
+    );
+
+    private final DatabaseManager databaseManager;
+
+    public SchemaMigrator(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+    }
+
+    /**
+     * Applies every migration newer than the database's recorded version, in order.
+     * Stops at the first failing migration so later ones never run out of order.
+     * @return the schema version after migrating
+     * @throws SQLException if the version table cannot be read or a migration fails
+     */
+    public int migrate() throws SQLException {
+        try (Connection conn = databaseManager.getConnection()) {
+            ensureVersionTable(conn);
+            int current = getCurrentVersion(conn);
+            for (Migration migration : MIGRATIONS) {
+                if (migration.version <= current) {
+                    continue;
+                }
+                int created = apply(conn, migration);
+                recordVersion(conn, migration);
+                current = migration.version;
+                System.out.println("Applied schema migration " + migration.version + " ("
+                    + migration.description + "): " + created + " index(es) created.");
+            }
+            return current;
+        }
+    }
+
+    private void ensureVersionTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS schema_version (
+                    version INT PRIMARY KEY,
+                    description VARCHAR(200) NOT NULL,
+                    applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+        }
+    }
+
+    private int getCurrentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private int apply(Connection conn, Migration migration) throws SQLException {
+        int created = 0;
+        for (Index index : migration.indexes) {
+            if (!isCovered(conn, index)) {
+                try (Statement stmt = conn.createStatement()) {
+                    if (index.cleanupSql != null) {
+                        int removed = stmt.executeUpdate(index.cleanupSql);
+                        if (removed > 0) {
+                            System.out.println("Schema migration " + migration.version + " removed " + removed
+                                + " " + index.cleanupDescription + ".");
+                        }
+                    }
+                    stmt.execute(index.toCreateSql());
+                }
+                created++;
+            }
+        }
+        return created;
+    }
+
+    private void recordVersion(Connection conn, Migration migration) throws SQLException {
+        String sql = "INSERT INTO schema_version (version, description) VALUES (?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, migration.version);
+            stmt.setString(2, migration.description);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Checks if an existing index already serves the wanted one: its leading columns
+     * match, and for a unique index it is unique on exactly those columns.
+     */
+    private boolean isCovered(Connection conn, Index index) throws SQLException {
+        String sql = """
+            SELECT INDEX_NAME, NON_UNIQUE, COLUMN_NAME FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+            ORDER BY INDEX_NAME, SEQ_IN_INDEX
+            """;
+        Map<String, List<String>> columnsByIndex = new LinkedHashMap<>();
+        Map<String, Boolean> uniqueByIndex = new LinkedHashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, index.table);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String name = rs.getString("INDEX_NAME");
+                    columnsByIndex.computeIfAbsent(name, k -> new ArrayList<>())
+                        .add(rs.getString("COLUMN_NAME").toLowerCase());
+                    uniqueByIndex.put(name, rs.getInt("NON_UNIQUE") == 0);
+                }
+            }
+        }
+        for (Map.Entry<String, List<String>> existing : columnsByIndex.entrySet()) {
+            List<String> columns = existing.getValue();
+            if (index.unique) {
+                if (uniqueByIndex.get(existing.getKey()) && columns.equals(index.columns)) {
+                    return true;
+                }
+            } else if (columns.size() >= index.columns.size()
+                    && columns.subList(0, index.columns.size()).equals(index.columns)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Migration {
+        private final int version;
+        private final String description;
+        private final List<Index> indexes;
+
+        private Migration(int version, String description, Index... indexes) {
+            this.version = version;
+            this.description = description;
+            this.indexes = List.of(indexes);
+        }
+    }
+
+    private static final class Index {
+        private final String table;
+        private final String name;
+        private final boolean unique;
+        private final List<String> columns;
+        // Run before creating the index, e.g. to remove rows a unique index would reject
+        private final String cleanupSql;
+        private final String cleanupDescription;
+
+        private Index(String table, String name, boolean unique, String... columns) {
+            this(table, name, unique, Arrays.asList(columns), null, null);
+        }
+
+        private Index(String table, String name, boolean unique, List<String> columns,
+                      String cleanupSql, String cleanupDescription) {
+            this.table = table;
+            this.name = name;
+            this.unique = unique;
+            this.columns = columns;
+            this.cleanupSql = cleanupSql;
+            this.cleanupDescription = cleanupDescription;
+        }
+
+        /**
+         * Gets a copy of this index that runs a cleanup statement before it is created.
+         * @param description what the statement removes, for the log
+         */
+        private Index afterRemoving(String sql, String description) {
+            return new Index(table, name, unique, columns, sql, description);
+        }
+
+        private String toCreateSql() {
+            return "CREATE " + (unique ? "UNIQUE " : "") + "INDEX " + name
+                + " ON " + table + " (" + String.join(", ", columns) + ")";
+        }
+    }
+}
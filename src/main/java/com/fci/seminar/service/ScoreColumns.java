@@ -0,0 +1,254 @@
+package com.fci.seminar.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.RubricScores;
+
+/**
+ * Column-oriented copy of every scored evaluation, kept alongside the evaluation map
+ * for analytics. Each rubric criterion is a primitive byte array (scores are 1-10),
+ * and presenter, evaluator and session IDs are dictionary-encoded as int ordinals, so
+ * aggregates, histograms and group-bys are tight loops over arrays instead of walks
+ * over Evaluation objects. Rows are appended into growable arrays and deleted by
+ * moving the last row into the gap, so row order is not stable.
+ * <p>
+ * Read it through {@link DataStore#queryScores(java.util.function.Function)}, which
+ * holds the evaluation read lock while the query runs; the columns must not be kept
+ * after the query returns.
+ */
+public final class ScoreColumns {
+
+    /** The ID columns that scores can be grouped by. */
+    public enum Dimension {
+        PRESENTER, EVALUATOR, SESSION
+    }
+
+    /** Highest total score: four criteria of at most 10. */
+    public static final int MAX_TOTAL_SCORE = 40;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size;
+    private String[] evaluationIds = new String[INITIAL_CAPACITY];
+    private byte[] problemClarity = new byte[INITIAL_CAPACITY];
+    private byte[] methodology = new byte[INITIAL_CAPACITY];
+    private byte[] results = new byte[INITIAL_CAPACITY];
+    private byte[] presentation = new byte[INITIAL_CAPACITY];
+    private int[] presenterOrdinals = new int[INITIAL_CAPACITY];
+    private int[] evaluatorOrdinals = new int[INITIAL_CAPACITY];
+    private int[] sessionOrdinals = new int[INITIAL_CAPACITY];
+    private final Map<String, Integer> rowsByEvaluationId = new HashMap<>();
+    private final Dictionary presenters = new Dictionary();
+    private final Dictionary evaluators = new Dictionary();
+    private final Dictionary sessions = new Dictionary();
+
+    /**
+     * Appends or replaces the row for an evaluation. Evaluations without scores are dropped.
+     */
+    void put(Evaluation evaluation) {
+        remove(evaluation.getEvaluationId());
+        RubricScores scores = evaluation.getScores();
+        if (scores == null) {
+            return;
+        }
+        if (size == evaluationIds.length) {
+            grow();
+        }
+        int row = size++;
+        evaluationIds[row] = evaluation.getEvaluationId();
+        problemClarity[row] = (byte) scores.getProblemClarity();
+        methodology[row] = (byte) scores.getMethodology();
+        results[row] = (byte) scores.getResults();
+        presentation[row] = (byte) scores.getPresentation();
+        presenterOrdinals[row] = presenters.ordinal(evaluation.getPresenterId());
+        evaluatorOrdinals[row] = evaluators.ordinal(evaluation.getEvaluatorId());
+        sessionOrdinals[row] = sessions.ordinal(evaluation.getSessionId());
+        rowsByEvaluationId.put(evaluation.getEvaluationId(), row);
+    }
+
+    /**
+     * Deletes an evaluation's row by moving the last row into its place.
+     */
+    void remove(String evaluationId) {
+        Integer row = rowsByEvaluationId.remove(evaluationId);
+        if (row == null) {
+            return;
+        }
+        int last = --size;
+        if (row != last) {
+            evaluationIds[row] = evaluationIds[last];
+            problemClarity[row] = problemClarity[last];
+            methodology[row] = methodology[last];
+            results[row] = results[last];
+            presentation[row] = presentation[last];
+            presenterOrdinals[row] = presenterOrdinals[last];
+            evaluatorOrdinals[row] = evaluatorOrdinals[last];
+            sessionOrdinals[row] = sessionOrdinals[last];
+            rowsByEvaluationId.put(evaluationIds[row], row);
+        }
+        evaluationIds[last] = null;
+    }
+
+    /**
+     * Drops every row and dictionary entry.
+     */
+    void clear() {
+        Arrays.fill(evaluationIds, 0, size, null);
+        size = 0;
+        rowsByEvaluationId.clear();
+        presenters.clear();
+        evaluators.clear();
+        sessions.clear();
+    }
+
+    private void grow() {
+        int capacity = evaluationIds.length * 2;
+        evaluationIds = Arrays.copyOf(evaluationIds, capacity);
+        problemClarity = Arrays.copyOf(problemClarity, capacity);
+        methodology = Arrays.copyOf(methodology, capacity);
+        results = Arrays.copyOf(results, capacity);
+        presentation = Arrays.copyOf(presentation, capacity);
+        presenterOrdinals = Arrays.copyOf(presenterOrdinals, capacity);
+        evaluatorOrdinals = Arrays.copyOf(evaluatorOrdinals, capacity);
+        sessionOrdinals = Arrays.copyOf(sessionOrdinals, capacity);
+    }
+
+    /** Number of scored evaluations. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Summarizes every row in one pass.
+     */
+    public ScoreSummary summarize() {
+        long totalSum = 0;
+        long totalSumOfSquares = 0;
+        long problemClaritySum = 0;
+        long methodologySum = 0;
+        long resultsSum = 0;
+        long presentationSum = 0;
+        for (int row = 0; row < size; row++) {
+            int total = problemClarity[row] + methodology[row] + results[row] + presentation[row];
+            totalSum += total;
+            totalSumOfSquares += total * total;
+            problemClaritySum += problemClarity[row];
+            methodologySum += methodology[row];
+            resultsSum += results[row];
+            presentationSum += presentation[row];
+        }
+        return ScoreSummary.of(size, totalSum, totalSumOfSquares,
+            problemClaritySum, methodologySum, resultsSum, presentationSum);
+    }
+
+    /**
+     * Summarizes the rows per presenter, evaluator or session in one pass.
+     * @param dimension the ID column to group by
+     * @return a summary per ID that has at least one scored evaluation
+     */
+    public Map<String, ScoreSummary> summarizeBy(Dimension dimension) {
+        int[] ordinals = ordinals(dimension);
+        Dictionary dictionary = dictionary(dimension);
+        int groups = dictionary.size();
+        int[] counts = new int[groups];
+        long[] totalSums = new long[groups];
+        long[] totalSumsOfSquares = new long[groups];
+        long[] problemClaritySums = new long[groups];
+        long[] methodologySums = new long[groups];
+        long[] resultsSums = new long[groups];
+        long[] presentationSums = new long[groups];
+        for (int row = 0; row < size; row++) {
+            int group = ordinals[row];
+            int total = problemClarity[row] + methodology[row] + results[row] + presentation[row];
+            counts[group]++;
+            totalSums[group] += total;
+            totalSumsOfSquares[group] += total * total;
+            problemClaritySums[group] += problemClarity[row];
+            methodologySums[group] += methodology[row];
+            resultsSums[group] += results[row];
+            presentationSums[group] += presentation[row];
+        }
+        Map<String, ScoreSummary> summaries = new LinkedHashMap<>();
+        for (int group = 0; group < groups; group++) {
+            if (counts[group] > 0) {
+                summaries.put(dictionary.value(group), ScoreSummary.of(counts[group], totalSums[group],
+                    totalSumsOfSquares[group], problemClaritySums[group], methodologySums[group],
+                    resultsSums[group], presentationSums[group]));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Counts how many evaluations reached each total score.
+     * @return counts indexed by total score, from 0 to {@link #MAX_TOTAL_SCORE}
+     */
+    public int[] totalScoreHistogram() {
+        int[] histogram = new int[MAX_TOTAL_SCORE + 1];
+        for (int row = 0; row < size; row++) {
+            int total = problemClarity[row] + methodology[row] + results[row] + presentation[row];
+            histogram[Math.min(Math.max(total, 0), MAX_TOTAL_SCORE)]++;
+        }
+        return histogram;
+    }
+
+    private int[] ordinals(Dimension dimension) {
+        switch (dimension) {
+            case PRESENTER:
+                return presenterOrdinals;
+            case EVALUATOR:
+                return evaluatorOrdinals;
+            default:
+                return sessionOrdinals;
+        }
+    }
+
+    private Dictionary dictionary(Dimension dimension) {
+        switch (dimension) {
+            case PRESENTER:
+                return presenters;
+            case EVALUATOR:
+                return evaluators;
+            default:
+                return sessions;
+        }
+    }
+
+    /**
+     * Maps IDs to dense ordinals. Entries are only dropped by clear(), so the
+     * dictionary can hold IDs that no row uses any more until the next rebuild.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        private int ordinal(String value) {
+            Integer ordinal = ordinals.get(value);
+            if (ordinal == null) {
+                ordinal = values.size();
+                values.add(value);
+                ordinals.put(value, ordinal);
+            }
+            return ordinal;
+        }
+
+        private String value(int ordinal) {
+            return values.get(ordinal);
+        }
+
+        private int size() {
+            return values.size();
+        }
+
+        private void clear() {
+            ordinals.clear();
+            values.clear();
+        }
+    }
+}
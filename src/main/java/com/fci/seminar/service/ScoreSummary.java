@@ -0,0 +1,118 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.RubricScores;
+
+/**
+ * Running score totals for one presenter's evaluations: count, sum and sum of
+ * squares of the total score, and the sum of each rubric criterion. Averages,
+ * variance and per-criterion means are derived in constant time. Instances are
+ * immutable; DataStore replaces a presenter's summary whenever one of their
+ * evaluations is submitted, overwritten or deleted, and {@link ScoreColumns}
+ * produces them for whole-table and grouped analytics.
+ */
+public final class ScoreSummary {
+
+    /** Summary of a presenter with no scored evaluations. */
+    public static final ScoreSummary EMPTY = new ScoreSummary(0, 0, 0, 0, 0, 0, 0);
+
+    private final int count;
+    private final long totalSum;
+    private final long totalSumOfSquares;
+    private final long problemClaritySum;
+    private final long methodologySum;
+    private final long resultsSum;
+    private final long presentationSum;
+
+    private ScoreSummary(int count, long totalSum, long totalSumOfSquares, long problemClaritySum,
+                         long methodologySum, long resultsSum, long presentationSum) {
+        this.count = count;
+        this.totalSum = totalSum;
+        this.totalSumOfSquares = totalSumOfSquares;
+        this.problemClaritySum = problemClaritySum;
+        this.methodologySum = methodologySum;
+        this.resultsSum = resultsSum;
+        this.presentationSum = presentationSum;
+    }
+
+    /**
+     * Creates a summary from totals computed elsewhere, such as a {@link ScoreColumns} scan.
+     */
+    static ScoreSummary of(int count, long totalSum, long totalSumOfSquares, long problemClaritySum,
+                           long methodologySum, long resultsSum, long presentationSum) {
+        return count == 0 ? EMPTY : new ScoreSummary(count, totalSum, totalSumOfSquares,
+            problemClaritySum, methodologySum, resultsSum, presentationSum);
+    }
+
+    /**
+     * Returns the summary with one more evaluation's scores added.
+     */
+    ScoreSummary plus(RubricScores scores) {
+        return combine(scores, 1);
+    }
+
+    /**
+     * Returns the summary with one evaluation's scores taken out again.
+     */
+    ScoreSummary minus(RubricScores scores) {
+        return combine(scores, -1);
+    }
+
+    private ScoreSummary combine(RubricScores scores, int sign) {
+        long total = scores.getTotalScore();
+        return new ScoreSummary(count + sign, totalSum + sign * total, totalSumOfSquares + sign * total * total,
+            problemClaritySum + sign * scores.getProblemClarity(), methodologySum + sign * scores.getMethodology(),
+            resultsSum + sign * scores.getResults(), presentationSum + sign * scores.getPresentation());
+    }
+
+    /** Number of scored evaluations. */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean total score.
+     * @return the average, or 0.0 if there are no evaluations
+     */
+    public double getAverageScore() {
+        return mean(totalSum);
+    }
+
+    /**
+     * Gets the population variance of the total score.
+     * @return the variance, or 0.0 if there are no evaluations
+     */
+    public double getScoreVariance() {
+        if (count == 0) {
+            return 0.0;
+        }
+        double average = getAverageScore();
+        // Clamp tiny negative results from floating-point rounding
+        return Math.max(0.0, (double) totalSumOfSquares / count - average * average);
+    }
+
+    public double getProblemClarityMean() {
+        return mean(problemClaritySum);
+    }
+
+    public double getMethodologyMean() {
+        return mean(methodologySum);
+    }
+
+    public double getResultsMean() {
+        return mean(resultsSum);
+    }
+
+    public double getPresentationMean() {
+        return mean(presentationSum);
+    }
+
+    private double mean(long sum) {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    @Override
+    public String toString() {
+        return "ScoreSummary{count=" + count + ", average=" + getAverageScore()
+            + ", variance=" + getScoreVariance() + "}";
+    }
+}
@@ -2,13 +2,17 @@ package com.fci.seminar.service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.fci.seminar.model.Evaluator;
 import com.fci.seminar.model.PresentationType;
 import com.fci.seminar.model.Session;
 import com.fci.seminar.model.User;
 import com.fci.seminar.util.IdGenerator;
+import com.fci.seminar.util.IdGenerator.IdType;
 
 /**
  * Service class for session management operations.
@@ -33,7 +37,7 @@ public class SessionService {
     public Session createSession(LocalDate date, String venue, PresentationType type) {
         validateSessionData(date, venue, type);
         
-        String sessionId = IdGenerator.generateSessionId();
+        String sessionId = IdGenerator.generate(IdType.SESSION, id -> dataStore.getSession(id) != null);
         Session session = new Session(sessionId, date, venue, type);
         dataStore.addSession(session);
         
@@ -100,17 +104,19 @@ public class SessionService {
             throw new IllegalArgumentException("Session does not exist");
         }
         
-        // Remove evaluator assignments
-        for (String evaluatorId : session.getEvaluatorIds()) {
-            Evaluator evaluator = findEvaluatorByEvaluatorId(evaluatorId);
-            if (evaluator != null) {
-                evaluator.removeAssignedSession(sessionId);
-                dataStore.updateUser(evaluator);
+        dataStore.inTransaction(() -> {
+            // Remove evaluator assignments
+            for (String evaluatorId : session.getEvaluatorIds()) {
+                Evaluator evaluator = findEvaluatorByEvaluatorId(evaluatorId);
+                if (evaluator != null) {
+                    evaluator.removeAssignedSession(sessionId);
+                    dataStore.updateUser(evaluator);
+                }
             }
-        }
-        
-        // Remove the session
-        dataStore.removeSession(sessionId);
+            
+            // Remove the session
+            dataStore.removeSession(sessionId);
+        });
     }
 
     /**
@@ -157,13 +163,16 @@ public class SessionService {
             throw new IllegalArgumentException("Evaluator already assigned to another session on this date");
         }
         
-        session.addEvaluator(evaluatorId);
-        
-        // Update evaluator's assigned sessions
-        evaluator.addAssignedSession(sessionId);
-        dataStore.updateUser(evaluator); // Save evaluator to database
-        
-        dataStore.updateSession(session); // Save session to database
+        // Evaluator and session are saved together or not at all
+        dataStore.inTransaction(() -> {
+            session.addEvaluator(evaluatorId);
+            
+            // Update evaluator's assigned sessions
+            evaluator.addAssignedSession(sessionId);
+            dataStore.updateUser(evaluator); // Save evaluator to database
+            
+            dataStore.updateSession(session); // Save session to database
+        });
     }
     
     /**
@@ -172,15 +181,7 @@ public class SessionService {
      * @return the evaluator if found, null otherwise
      */
     private Evaluator findEvaluatorByEvaluatorId(String evaluatorId) {
-        for (User user : dataStore.getUsers().values()) {
-            if (user instanceof Evaluator) {
-                Evaluator evaluator = (Evaluator) user;
-                if (evaluatorId.equals(evaluator.getEvaluatorId())) {
-                    return evaluator;
-                }
-            }
-        }
-        return null;
+        return dataStore.findEvaluatorByEvaluatorId(evaluatorId);
     }
 
 
@@ -195,19 +196,45 @@ public class SessionService {
             return false;
         }
         
-        for (Session session : dataStore.getSessions().values()) {
-            if (session.getDate().equals(date)) {
-                // Check if user is already a presenter in this session
-                if (session.getPresenterIds().contains(userId)) {
-                    return true;
+        // Sessions are indexed by participant and date, so this is a lookup rather than a scan
+        return !dataStore.findSessionsFor(userId, date).isEmpty();
+    }
+
+    /**
+     * Checks a batch of planned assignments for scheduling conflicts in one pass.
+     * An assignment conflicts if the participant already has a session on that date,
+     * or if an earlier assignment in the same batch puts them in another session that day.
+     * A participant already in the target session, or listed twice for it, is not a conflict.
+     * @param participantIdsBySession presenter or evaluator IDs to assign, keyed by session ID
+     * @return every conflict found, empty if the whole batch can be assigned
+     * @throws IllegalArgumentException if a session doesn't exist
+     */
+    public List<AssignmentConflict> findConflicts(Map<String, ? extends Collection<String>> participantIdsBySession) {
+        List<AssignmentConflict> conflicts = new ArrayList<>();
+        // Sessions planned so far in this batch, per participant and date
+        Map<String, Map<LocalDate, String>> planned = new HashMap<>();
+        for (Map.Entry<String, ? extends Collection<String>> entry : participantIdsBySession.entrySet()) {
+            Session session = dataStore.getSession(entry.getKey());
+            if (session == null) {
+                throw new IllegalArgumentException("Session does not exist: " + entry.getKey());
+            }
+            LocalDate date = session.getDate();
+            for (String participantId : entry.getValue()) {
+                for (Session existing : dataStore.findSessionsFor(participantId, date)) {
+                    // Already being in the target session is not a clash
+                    if (!existing.getSessionId().equals(session.getSessionId())) {
+                        conflicts.add(new AssignmentConflict(participantId, session.getSessionId(),
+                            existing.getSessionId(), date));
+                    }
                 }
-                // Check if user is already an evaluator in this session
-                if (session.getEvaluatorIds().contains(userId)) {
-                    return true;
+                String earlier = planned.computeIfAbsent(participantId, k -> new HashMap<>())
+                    .putIfAbsent(date, session.getSessionId());
+                if (earlier != null && !earlier.equals(session.getSessionId())) {
+                    conflicts.add(new AssignmentConflict(participantId, session.getSessionId(), earlier, date));
                 }
             }
         }
-        return false;
+        return conflicts;
     }
 
     /**
@@ -248,16 +275,18 @@ public class SessionService {
     public void removeEvaluator(String sessionId, String evaluatorId) {
         Session session = dataStore.getSession(sessionId);
         if (session != null) {
-            session.removeEvaluator(evaluatorId);
-            
-            // Find evaluator by evaluator ID and update their assigned sessions
-            Evaluator evaluator = findEvaluatorByEvaluatorId(evaluatorId);
-            if (evaluator != null) {
-                evaluator.removeAssignedSession(sessionId);
-                dataStore.updateUser(evaluator); // Save evaluator to database
-            }
-            
-            dataStore.updateSession(session); // Save session to database
+            dataStore.inTransaction(() -> {
+                session.removeEvaluator(evaluatorId);
+                
+                // Find evaluator by evaluator ID and update their assigned sessions
+                Evaluator evaluator = findEvaluatorByEvaluatorId(evaluatorId);
+                if (evaluator != null) {
+                    evaluator.removeAssignedSession(sessionId);
+                    dataStore.updateUser(evaluator); // Save evaluator to database
+                }
+                
+                dataStore.updateSession(session); // Save session to database
+            });
         }
     }
 }
@@ -0,0 +1,197 @@
+package com.fci.seminar.service;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.fci.seminar.model.Award;
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.PosterBoard;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.User;
+
+/**
+ * Persistent storage behind the {@link DataStore}. Implemented by {@link DatabaseManager}
+ * for MySQL and by {@link LogStorageBackend} for single-machine installs that keep
+ * their data in a local append-only log.
+ * <p>
+ * Entities returned by a backend are fresh copies owned by the caller. Evaluator
+ * session assignments are derived from the sessions' evaluator lists, so saving a
+ * session updates the assignments of the evaluators it names.
+ */
+public interface StorageBackend {
+
+    /** Table names accepted by {@link #getLiveIds(String)} and used as ChangeSet row-count keys. */
+    String USERS = "users";
+    String SESSIONS = "sessions";
+    String EVALUATIONS = "evaluations";
+    String POSTER_BOARDS = "poster_boards";
+
+    /**
+     * Checks if the backend can currently be read and written.
+     */
+    boolean isConnected();
+
+    /**
+     * Identifies the stored data set, e.g. a JDBC URL or a log directory. Snapshots
+     * record it so they are never restored over a different data set.
+     */
+    String getLocation();
+
+    /**
+     * Runs a single write outside any transaction, reporting whether the backend could
+     * be reached. Other failures are handled by the write itself as usual.
+     * @return false if nothing was written because the backend was unreachable, so
+     *         the write can be queued and replayed once it is back
+     */
+    default boolean tryWrite(Runnable write) {
+        write.run();
+        return true;
+    }
+
+    /**
+     * Registers a callback run on a background thread when the backend becomes
+     * reachable again after an outage. Backends that cannot lose their connection
+     * never call it.
+     */
+    default void addReconnectListener(Runnable listener) {
+    }
+
+    /**
+     * Releases files, connections and threads. Called once when the application exits.
+     */
+    void close();
+
+    /**
+     * Runs a group of writes as one atomic unit. Nested calls join the outer unit.
+     * @param work the writes to perform
+     * @throws SQLException if the writes could not be committed; none of them took effect
+     */
+    void runInTransaction(Runnable work) throws SQLException;
+
+    // Users
+
+    /**
+     * Inserts or updates a user. A user without an ID is assigned one.
+     */
+    void saveUser(User user);
+
+    User getUser(String id);
+
+    /**
+     * Finds a user by a unique column, ignoring case.
+     * @param column one of username, student_id, presenter_id or evaluator_id
+     * @return the first matching user, or null if none matches
+     */
+    User findUser(String column, String value);
+
+    Map<String, User> getAllUsers();
+
+    /**
+     * Streams every user to a callback.
+     * @return true if every user was read, false if the read failed part-way
+     */
+    boolean streamUsers(Consumer<User> rowHandler);
+
+    void deleteUser(String id);
+
+    // Sessions
+
+    void saveSession(Session session);
+
+    Session getSession(String sessionId);
+
+    Map<String, Session> getAllSessions();
+
+    boolean streamSessions(Consumer<Session> rowHandler);
+
+    void deleteSession(String sessionId);
+
+    // Evaluations
+
+    void saveEvaluation(Evaluation evaluation);
+
+    void updateEvaluation(Evaluation evaluation);
+
+    Evaluation getEvaluation(String evaluationId);
+
+    /**
+     * Gets the evaluations submitted for or by one participant.
+     * @param column presenter_id or evaluator_id
+     */
+    List<Evaluation> getEvaluationsBy(String column, String value);
+
+    Map<String, Evaluation> getAllEvaluations();
+
+    boolean streamEvaluations(Consumer<Evaluation> rowHandler);
+
+    void deleteEvaluation(String evaluationId);
+
+    // Poster boards
+
+    void savePosterBoard(PosterBoard board);
+
+    PosterBoard getPosterBoard(String boardId);
+
+    boolean streamPosterBoards(Consumer<PosterBoard> rowHandler);
+
+    void clearPosterBoard(String boardId);
+
+    // Awards, votes and venues
+
+    void saveAward(Award award);
+
+    List<Award> getAllAwards();
+
+    boolean streamAwards(Consumer<Award> rowHandler);
+
+    void clearAwards();
+
+    /**
+     * Records a student's vote.
+     * @throws SQLException if the vote could not be stored
+     */
+    void saveVote(String voterStudentId, String votedForPresenterId) throws SQLException;
+
+    /**
+     * Gets the known venue names in alphabetical order.
+     */
+    List<String> getAllVenues();
+
+    /**
+     * Checks if the sample data has been loaded.
+     */
+    boolean hasSampleData();
+
+    // Change tracking
+
+    /**
+     * Reads every row changed since a watermark, plus current row counts.
+     * @param since watermark from {@link #getServerTime()} or a previous ChangeSet
+     * @return the changes, or null if they could not be read
+     */
+    ChangeSet getChangesSince(Timestamp since);
+
+    /**
+     * Gets the backend's current time, the watermark for the next change read.
+     */
+    Timestamp getServerTime();
+
+    /**
+     * Gets every ID stored in a table.
+     * @param table one of {@link #USERS}, {@link #SESSIONS}, {@link #EVALUATIONS} or {@link #POSTER_BOARDS}
+     * @return the IDs, or null if they could not be read
+     */
+    Set<String> getLiveIds(String table);
+
+    /**
+     * Lets deserialized entities fetch text columns they were stored without.
+     * Does nothing for backends that always store entities whole.
+     */
+    default void reattachTextLoaders(Collection<User> users, Collection<Evaluation> evaluations) {
+    }
+}
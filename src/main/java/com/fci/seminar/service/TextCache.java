@@ -0,0 +1,63 @@
+package com.fci.seminar.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded least-recently-used cache for the heavy text columns that are loaded
+ * on first access (student abstracts, evaluation comments). Keys name the column
+ * and row, e.g. "abstract:42"; a cached empty Optional records a NULL column so
+ * it is not queried again. Thread-safe; loads happen outside the lock.
+ */
+final class TextCache {
+
+    private final Map<String, Optional<String>> entries;
+    private long hits;
+    private long misses;
+
+    TextCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<String>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets a cached value.
+     * @return the value (empty for a NULL column), or null if the key is not cached
+     */
+    synchronized Optional<String> get(String key) {
+        Optional<String> value = entries.get(key);
+        if (value != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return value;
+    }
+
+    synchronized void put(String key, String value) {
+        entries.put(key, Optional.ofNullable(value));
+    }
+
+    synchronized void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long getHitCount() {
+        return hits;
+    }
+
+    synchronized long getMissCount() {
+        return misses;
+    }
+}
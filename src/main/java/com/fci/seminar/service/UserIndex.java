@@ -0,0 +1,135 @@
+package com.fci.seminar.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fci.seminar.model.Evaluator;
+import com.fci.seminar.model.Student;
+import com.fci.seminar.model.User;
+
+/**
+ * Hash indexes over the DataStore's users for the lookups services make by
+ * something other than the user ID. The keys each user was indexed under are
+ * remembered, so re-indexing a user after its fields were changed in place
+ * removes the stale entries. Not thread-safe; DataStore guards it with its user
+ * lock.
+ */
+final class UserIndex {
+
+    private final Map<String, User> byUsername = new HashMap<>();
+    private final Map<String, User> byUsernameIgnoreCase = new HashMap<>();
+    private final Map<String, Student> byStudentId = new HashMap<>();
+    private final Map<String, Student> byPresenterId = new HashMap<>();
+    private final Map<String, Evaluator> byEvaluatorId = new HashMap<>();
+    private final Map<String, IndexedKeys> keysByUserId = new HashMap<>();
+
+    /**
+     * Indexes a user, replacing whatever was indexed for the same user ID.
+     */
+    void put(User user) {
+        remove(user.getId());
+        IndexedKeys keys = new IndexedKeys(user);
+        putKey(byUsername, keys.username, user);
+        putKey(byUsernameIgnoreCase, keys.usernameIgnoreCase, user);
+        if (user instanceof Student student) {
+            putKey(byStudentId, keys.studentId, student);
+            putKey(byPresenterId, keys.presenterId, student);
+        }
+        if (user instanceof Evaluator evaluator) {
+            putKey(byEvaluatorId, keys.evaluatorId, evaluator);
+        }
+        keysByUserId.put(user.getId(), keys);
+    }
+
+    /**
+     * Removes the entries indexed for a user ID.
+     */
+    void remove(String userId) {
+        IndexedKeys keys = keysByUserId.remove(userId);
+        if (keys == null) {
+            return;
+        }
+        removeKey(byUsername, keys.username, keys.user);
+        removeKey(byUsernameIgnoreCase, keys.usernameIgnoreCase, keys.user);
+        removeKey(byStudentId, keys.studentId, keys.user);
+        removeKey(byPresenterId, keys.presenterId, keys.user);
+        removeKey(byEvaluatorId, keys.evaluatorId, keys.user);
+    }
+
+    /**
+     * Rebuilds every index from scratch.
+     */
+    void rebuild(Collection<User> users) {
+        byUsername.clear();
+        byUsernameIgnoreCase.clear();
+        byStudentId.clear();
+        byPresenterId.clear();
+        byEvaluatorId.clear();
+        keysByUserId.clear();
+        for (User user : users) {
+            put(user);
+        }
+    }
+
+    User getByUsername(String username) {
+        return byUsername.get(username);
+    }
+
+    User getByUsernameIgnoreCase(String username) {
+        return byUsernameIgnoreCase.get(foldCase(username));
+    }
+
+    /** Student IDs are matched case-insensitively, as at login. */
+    Student getByStudentId(String studentId) {
+        return byStudentId.get(foldCase(studentId));
+    }
+
+    Student getByPresenterId(String presenterId) {
+        return byPresenterId.get(presenterId);
+    }
+
+    Evaluator getByEvaluatorId(String evaluatorId) {
+        return byEvaluatorId.get(evaluatorId);
+    }
+
+    private static String foldCase(String value) {
+        return value != null ? value.toUpperCase(Locale.ROOT) : null;
+    }
+
+    private static <T extends User> void putKey(Map<String, T> index, String key, T user) {
+        if (key != null) {
+            index.put(key, user);
+        }
+    }
+
+    private static void removeKey(Map<String, ? extends User> index, String key, User user) {
+        if (key != null) {
+            // Only drop the entry if another user has not taken the key since
+            index.remove(key, user);
+        }
+    }
+
+    /**
+     * The keys a user was indexed under, captured at indexing time.
+     */
+    private static final class IndexedKeys {
+        private final User user;
+        private final String username;
+        private final String usernameIgnoreCase;
+        private final String studentId;
+        private final String presenterId;
+        private final String evaluatorId;
+
+        private IndexedKeys(User user) {
+            this.user = user;
+            this.username = user.getUsername();
+            this.usernameIgnoreCase = foldCase(user.getUsername());
+            Student student = user instanceof Student s ? s : null;
+            this.studentId = student != null ? foldCase(student.getStudentId()) : null;
+            this.presenterId = student != null ? student.getPresenterId() : null;
+            this.evaluatorId = user instanceof Evaluator evaluator ? evaluator.getEvaluatorId() : null;
+        }
+    }
+}
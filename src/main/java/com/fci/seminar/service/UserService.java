@@ -8,6 +8,7 @@ import com.fci.seminar.model.Student;
 import com.fci.seminar.model.User;
 import com.fci.seminar.model.UserRole;
 import com.fci.seminar.util.IdGenerator;
+import com.fci.seminar.util.IdGenerator.IdType;
 
 /**
  * Service class for user management operations.
@@ -33,12 +34,9 @@ public class UserService {
             return null;
         }
         
-        for (User user : dataStore.getUsers().values()) {
-            if (user.getUsername().equals(username) 
-                    && user.getPassword().equals(password)
-                    && user.getRole() == role) {
-                return user;
-            }
+        User user = dataStore.findUserByUsername(username);
+        if (user != null && user.getPassword().equals(password) && user.getRole() == role) {
+            return user;
         }
         return null;
     }
@@ -56,22 +54,16 @@ public class UserService {
             return null;
         }
         
-        for (User user : dataStore.getUsers().values()) {
-            // Check username match
-            if (user.getUsername().equals(usernameOrStudentId) 
-                    && user.getPassword().equals(password)) {
-                return user;
-            }
-            
-            // For students, also check student ID match (case-insensitive)
-            if (user instanceof Student) {
-                Student student = (Student) user;
-                if (student.getStudentId() != null 
-                        && student.getStudentId().equalsIgnoreCase(usernameOrStudentId)
-                        && student.getPassword().equals(password)) {
-                    return student;
-                }
-            }
+        // Check username match
+        User user = dataStore.findUserByUsername(usernameOrStudentId);
+        if (user != null && user.getPassword().equals(password)) {
+            return user;
+        }
+        
+        // For students, also check student ID match (case-insensitive)
+        Student student = dataStore.findStudentByStudentId(usernameOrStudentId);
+        if (student != null && student.getPassword().equals(password)) {
+            return student;
         }
         return null;
     }
@@ -86,12 +78,12 @@ public class UserService {
         
         // Generate presenter ID if not set
         if (student.getPresenterId() == null || student.getPresenterId().isEmpty()) {
-            student.setPresenterId(IdGenerator.generatePresenterId());
+            student.setPresenterId(generatePresenterId());
         }
         
         // Generate user ID if not set
         if (student.getId() == null || student.getId().isEmpty()) {
-            student.setId(IdGenerator.generateUserId());
+            student.setId(IdGenerator.generate(IdType.USER, id -> dataStore.getUser(id) != null));
         }
         
         dataStore.addUser(student);
@@ -168,12 +160,14 @@ public class UserService {
     }
 
     private boolean isUsernameTaken(String username) {
-        for (User user : dataStore.getUsers().values()) {
-            if (user.getUsername().equals(username)) {
-                return true;
-            }
-        }
-        return false;
+        return dataStore.findUserByUsername(username) != null;
+    }
+
+    /**
+     * Generates a presenter ID not used by any student.
+     */
+    private String generatePresenterId() {
+        return IdGenerator.generate(IdType.PRESENTER, id -> dataStore.findStudentByPresenterId(id) != null);
     }
 
     /**
@@ -226,14 +220,7 @@ public class UserService {
         if (presenterId == null) {
             return null;
         }
-        for (User user : dataStore.getUsers().values()) {
-            if (user instanceof Student student) {
-                if (presenterId.equals(student.getPresenterId())) {
-                    return student;
-                }
-            }
-        }
-        return null;
+        return dataStore.findStudentByPresenterId(presenterId);
     }
     
     /**
@@ -253,7 +240,7 @@ public class UserService {
         
         // Generate presenter ID if not set (needed for seminar registration)
         if (student.getPresenterId() == null || student.getPresenterId().isEmpty()) {
-            student.setPresenterId(IdGenerator.generatePresenterId());
+            student.setPresenterId(generatePresenterId());
         }
         
         // Validate research details if provided
@@ -278,12 +265,7 @@ public class UserService {
         if (username == null || username.trim().isEmpty()) {
             return false;
         }
-        for (User user : dataStore.getUsers().values()) {
-            if (user.getUsername().equalsIgnoreCase(username.trim())) {
-                return true;
-            }
-        }
-        return false;
+        return dataStore.findUserByUsernameIgnoreCase(username.trim()) != null;
     }
     
     /**
@@ -296,17 +278,7 @@ public class UserService {
         if (studentId == null || studentId.trim().isEmpty()) {
             return false;
         }
-        String normalizedId = studentId.trim().toUpperCase();
-        for (User user : dataStore.getUsers().values()) {
-            if (user instanceof Student) {
-                Student student = (Student) user;
-                if (student.getStudentId() != null 
-                        && student.getStudentId().toUpperCase().equals(normalizedId)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return dataStore.findStudentByStudentId(studentId.trim()) != null;
     }
     
     /**
@@ -375,7 +347,8 @@ public class UserService {
             password
         );
         evaluator.setRole(UserRole.PANEL_MEMBER);
-        evaluator.setEvaluatorId(IdGenerator.generateEvaluatorId());
+        evaluator.setEvaluatorId(
+            IdGenerator.generate(IdType.EVALUATOR, id -> dataStore.findEvaluatorByEvaluatorId(id) != null));
         
         dataStore.addUser(evaluator);
     }
@@ -0,0 +1,122 @@
+package com.fci.seminar.service;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A hash map that hands out immutable snapshots instead of copies. Every write
+ * bumps a version stamp; {@link #snapshot()} copies the entries only on the first
+ * call after a write and returns the same read-only map until the next one, so
+ * read-heavy callers stop allocating a full copy per call. A snapshot never
+ * changes after it is returned. Iterating the map itself gives a read-only view
+ * of the live entries; writes go through put, remove, clear and reset.
+ * <p>
+ * Entries live in a ConcurrentHashMap, so get, containsKey and iteration are safe
+ * from any thread. Writes and {@link #snapshot()} are not atomic with each other;
+ * DataStore calls them while holding the entity type's lock.
+ */
+final class VersionedMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private long version;
+    // Snapshot and the version it was taken at, published together
+    private volatile Snapshot<K, V> snapshot;
+
+    VersionedMap() {
+    }
+
+    VersionedMap(Map<? extends K, ? extends V> initial) {
+        entries.putAll(initial);
+    }
+
+    /**
+     * Gets an immutable view of the current entries, reused until the map next changes.
+     */
+    Map<K, V> snapshot() {
+        Snapshot<K, V> current = snapshot;
+        if (current == null || current.version != version) {
+            current = new Snapshot<>(version, Collections.unmodifiableMap(new HashMap<>(entries)));
+            snapshot = current;
+        }
+        return current.entries;
+    }
+
+    /**
+     * Gets the cached snapshot if no write happened since it was taken, without copying.
+     * Used for optimistic reads, so the caller must validate its lock stamp afterwards.
+     * @return the snapshot, or null if it has to be rebuilt
+     */
+    Map<K, V> cachedSnapshot() {
+        Snapshot<K, V> current = snapshot;
+        return current != null && current.version == version ? current.entries : null;
+    }
+
+    /** Number of writes made to the map so far. */
+    long version() {
+        return version;
+    }
+
+    /**
+     * Replaces every entry with the given ones as a single write.
+     */
+    void reset(Map<? extends K, ? extends V> replacement) {
+        version++;
+        entries.clear();
+        entries.putAll(replacement);
+    }
+
+    @Override
+    public V get(Object key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        version++;
+        return entries.put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!entries.containsKey(key)) {
+            return null;
+        }
+        version++;
+        return entries.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        version++;
+        entries.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(entries).entrySet();
+    }
+
+    private static final class Snapshot<K, V> {
+        private final long version;
+        private final Map<K, V> entries;
+
+        private Snapshot(long version, Map<K, V> entries) {
+            this.version = version;
+            this.entries = entries;
+        }
+    }
+}
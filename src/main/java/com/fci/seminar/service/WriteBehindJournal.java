@@ -0,0 +1,373 @@
+package com.fci.seminar.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Bounded write-behind queue for database mutations.
+ * Writes are keyed by entity; a newer write for a key that is still pending
+ * replaces the older one in place, so repeated updates to the same entity
+ * reach the database once. Removals are the exception: a removal never absorbs,
+ * or is absorbed by, another pending write for its key, and always joins the tail
+ * of the queue, so it cannot overtake writes of other entities that still refer to
+ * the removed one. A single background thread drains the queue in batches, in
+ * submission order.
+ * <p>
+ * The journal doubles as an offline queue: while {@link #pause() paused} it keeps
+ * accepting writes but drains nothing, and a batch whose writer throws after the
+ * journal was paused is put back at the head of the queue instead of being
+ * dropped, to be written again once the journal is {@link #resume() resumed}.
+ */
+public class WriteBehindJournal {
+
+    private static final String UNIQUE_KEY_PREFIX = "#";
+
+    private final int capacity;
+    private final int batchSize;
+    private final Consumer<List<Runnable>> batchWriter;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition progress = lock.newCondition();
+
+    // Guarded by lock
+    private final LinkedHashMap<String, Entry> pending = new LinkedHashMap<>();
+    private final List<Entry> inFlight = new ArrayList<>();
+    private long nextSeq = 1;
+    private long uniqueKeys;
+    private boolean closed;
+    private boolean paused;
+    private long submitted;
+    private long coalesced;
+    private long flushedWrites;
+    private long flushedBatches;
+    private long totalFlushNanos;
+    private long maxFlushNanos;
+
+    private final Thread writer;
+
+    /**
+     * Creates and starts a journal.
+     * @param capacity maximum number of distinct pending writes before submitters block
+     * @param batchSize maximum number of writes handed to the batch writer at once
+     * @param batchWriter executes one batch of writes; throws only after pausing the
+     *                    journal, to have the whole batch retried on resume
+     */
+    public WriteBehindJournal(int capacity, int batchSize, Consumer<List<Runnable>> batchWriter) {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive");
+        }
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.batchWriter = batchWriter;
+        this.writer = new Thread(this::drainLoop, "write-behind-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Creates a journal that runs each write of a batch in turn.
+     */
+    public WriteBehindJournal(int capacity, int batchSize) {
+        this(capacity, batchSize, WriteBehindJournal::runEach);
+    }
+
+    private static void runEach(List<Runnable> writes) {
+        for (Runnable write : writes) {
+            try {
+                write.run();
+            } catch (RuntimeException e) {
+                System.err.println("Write-behind write failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Queues a write. Blocks while the journal is full.
+     * @param key entity key used for coalescing, or null for a write that must never be merged
+     * @param write the database write to perform
+     * @throws IllegalStateException if the journal has been closed
+     */
+    public void submit(String key, Runnable write) {
+        enqueue(key, write, false);
+    }
+
+    /**
+     * Queues the removal of an entity at the tail of the queue. A pending write for the
+     * same key keeps its place, and a later write for the key is queued after the removal.
+     * Blocks while the journal is full.
+     * @param key entity key of the removed entity
+     * @param write the database delete to perform
+     * @throws IllegalStateException if the journal has been closed
+     */
+    public void submitRemoval(String key, Runnable write) {
+        enqueue(key, write, true);
+    }
+
+    private void enqueue(String key, Runnable write, boolean removal) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Write-behind journal is closed");
+            }
+            String entryKey = key != null ? key : uniqueKey();
+            submitted++;
+            Entry existing = pending.get(entryKey);
+            if (existing != null) {
+                if (!removal && !existing.removal) {
+                    existing.write = write;
+                    existing.seq = nextSeq++;
+                    coalesced++;
+                    return;
+                }
+                detach(existing);
+            }
+            while (pending.size() >= capacity && !closed) {
+                notFull.awaitUninterruptibly();
+            }
+            pending.put(entryKey, new Entry(entryKey, write, nextSeq++, removal));
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String uniqueKey() {
+        return UNIQUE_KEY_PREFIX + (uniqueKeys++);
+    }
+
+    /**
+     * Moves a pending entry to a key of its own without changing its place in the queue,
+     * so no later write is merged into it. Caller holds lock.
+     */
+    private void detach(Entry entry) {
+        String entityKey = entry.key;
+        entry.key = uniqueKey();
+        LinkedHashMap<String, Entry> rekeyed = new LinkedHashMap<>();
+        for (Map.Entry<String, Entry> e : pending.entrySet()) {
+            rekeyed.put(e.getKey().equals(entityKey) ? entry.key : e.getKey(), e.getValue());
+        }
+        pending.clear();
+        pending.putAll(rekeyed);
+    }
+
+    /**
+     * Stops draining; writes keep queueing until {@link #resume()}.
+     */
+    public void pause() {
+        lock.lock();
+        try {
+            paused = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts draining again after {@link #pause()}.
+     */
+    public void resume() {
+        lock.lock();
+        try {
+            paused = false;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isPaused() {
+        lock.lock();
+        try {
+            return paused;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if any write is queued or being written.
+     */
+    public boolean hasPending() {
+        lock.lock();
+        try {
+            return !pending.isEmpty() || !inFlight.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flush barrier: waits until every write submitted before this call has been executed.
+     * @param timeout maximum time to wait
+     * @param unit unit of the timeout
+     * @return true if all earlier writes completed, false on timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            long target = nextSeq - 1;
+            while (lowestOutstandingSeq() <= target) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = progress.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting writes, drains everything queued and stops the writer thread.
+     * A paused journal still attempts its queued writes before it stops.
+     * @param timeout maximum time to wait for the drain
+     * @param unit unit of the timeout
+     * @return true if the journal drained completely
+     */
+    public boolean close(long timeout, TimeUnit unit) {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join(unit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !writer.isAlive();
+    }
+
+    /**
+     * Gets a snapshot of queue depth, coalescing and flush latency.
+     * @return the current journal metrics
+     */
+    public WriteBehindMetrics getMetrics() {
+        lock.lock();
+        try {
+            double avgMillis = flushedBatches == 0 ? 0.0
+                : (double) totalFlushNanos / flushedBatches / TimeUnit.MILLISECONDS.toNanos(1);
+            double maxMillis = (double) maxFlushNanos / TimeUnit.MILLISECONDS.toNanos(1);
+            return new WriteBehindMetrics(pending.size() + inFlight.size(), submitted, coalesced,
+                flushedWrites, flushedBatches, avgMillis, maxMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drainLoop() {
+        while (true) {
+            List<Runnable> batch = new ArrayList<>();
+            lock.lock();
+            try {
+                while ((pending.isEmpty() || paused) && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (pending.isEmpty()) {
+                    return; // closed and drained
+                }
+                Iterator<Map.Entry<String, Entry>> it = pending.entrySet().iterator();
+                while (it.hasNext() && batch.size() < batchSize) {
+                    Entry entry = it.next().getValue();
+                    it.remove();
+                    inFlight.add(entry);
+                    batch.add(entry.write);
+                }
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            long start = System.nanoTime();
+            boolean failed = false;
+            try {
+                batchWriter.accept(batch);
+            } catch (RuntimeException e) {
+                failed = true;
+                System.err.println("Write-behind batch failed: " + e.getMessage());
+            }
+            long elapsed = System.nanoTime() - start;
+
+            lock.lock();
+            try {
+                if (failed && paused && !closed) {
+                    requeueInFlight();
+                    continue;
+                }
+                inFlight.clear();
+                flushedWrites += batch.size();
+                flushedBatches++;
+                totalFlushNanos += elapsed;
+                maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Puts the failed in-flight batch back at the head of the queue, except for entities
+     * written again since, whose newer write supersedes it. A pending removal supersedes
+     * nothing: the earlier write goes back under a key of its own. Caller holds lock.
+     */
+    private void requeueInFlight() {
+        LinkedHashMap<String, Entry> requeued = new LinkedHashMap<>();
+        for (Entry entry : inFlight) {
+            Entry newer = pending.get(entry.key);
+            if (newer == null) {
+                requeued.put(entry.key, entry);
+            } else if (newer.removal) {
+                entry.key = uniqueKey();
+                requeued.put(entry.key, entry);
+            }
+        }
+        inFlight.clear();
+        requeued.putAll(pending);
+        pending.clear();
+        pending.putAll(requeued);
+    }
+
+    /**
+     * Lowest sequence number not yet written, or Long.MAX_VALUE when idle. Caller holds lock.
+     */
+    private long lowestOutstandingSeq() {
+        long lowest = Long.MAX_VALUE;
+        for (Entry entry : pending.values()) {
+            lowest = Math.min(lowest, entry.seq);
+        }
+        for (Entry entry : inFlight) {
+            lowest = Math.min(lowest, entry.seq);
+        }
+        return lowest;
+    }
+
+    private static final class Entry {
+        private final boolean removal;
+        private String key;
+        private Runnable write;
+        private long seq;
+
+        private Entry(String key, Runnable write, long seq, boolean removal) {
+            this.key = key;
+            this.write = write;
+            this.seq = seq;
+            this.removal = removal;
+        }
+    }
+}
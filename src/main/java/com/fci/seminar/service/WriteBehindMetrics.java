@@ -0,0 +1,66 @@
+package com.fci.seminar.service;
+
+/**
+ * Point-in-time view of the write-behind journal.
+ */
+public final class WriteBehindMetrics {
+
+    private final int queueDepth;
+    private final long submittedWrites;
+    private final long coalescedWrites;
+    private final long flushedWrites;
+    private final long flushedBatches;
+    private final double averageFlushMillis;
+    private final double maxFlushMillis;
+
+    public WriteBehindMetrics(int queueDepth, long submittedWrites, long coalescedWrites,
+                              long flushedWrites, long flushedBatches,
+                              double averageFlushMillis, double maxFlushMillis) {
+        this.queueDepth = queueDepth;
+        this.submittedWrites = submittedWrites;
+        this.coalescedWrites = coalescedWrites;
+        this.flushedWrites = flushedWrites;
+        this.flushedBatches = flushedBatches;
+        this.averageFlushMillis = averageFlushMillis;
+        this.maxFlushMillis = maxFlushMillis;
+    }
+
+    /** Writes queued or currently being written. */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getSubmittedWrites() {
+        return submittedWrites;
+    }
+
+    /** Writes that replaced a still-pending write for the same entity. */
+    public long getCoalescedWrites() {
+        return coalescedWrites;
+    }
+
+    public long getFlushedWrites() {
+        return flushedWrites;
+    }
+
+    public long getFlushedBatches() {
+        return flushedBatches;
+    }
+
+    /** Average time to write one batch. */
+    public double getAverageFlushMillis() {
+        return averageFlushMillis;
+    }
+
+    public double getMaxFlushMillis() {
+        return maxFlushMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "depth=%d, submitted=%d, coalesced=%d, flushed=%d, batches=%d, avgFlush=%.2fms, maxFlush=%.2fms",
+            queueDepth, submittedWrites, coalescedWrites, flushedWrites, flushedBatches,
+            averageFlushMillis, maxFlushMillis);
+    }
+}
@@ -741,10 +741,11 @@ public class EvaluationFormPanel extends JPanel {
      * @param evaluation the existing evaluation
      */
     private void loadEvaluationData(Evaluation evaluation) {
-        problemClaritySpinner.setValue(evaluation.getScores().getProblemClarity());
-        methodologySpinner.setValue(evaluation.getScores().getMethodology());
-        resultsSpinner.setValue(evaluation.getScores().getResults());
-        presentationSpinner.setValue(evaluation.getScores().getPresentation());
+        RubricScores scores = evaluation.getScores();
+        problemClaritySpinner.setValue(scores.getProblemClarity());
+        methodologySpinner.setValue(scores.getMethodology());
+        resultsSpinner.setValue(scores.getResults());
+        presentationSpinner.setValue(scores.getPresentation());
         commentsArea.setText(evaluation.getComments() != null ? evaluation.getComments() : "");
         updateTotalScore();
     }
@@ -5,6 +5,11 @@ import java.awt.CardLayout;
 import java.awt.Insets;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.swing.JFrame;
 import javax.swing.JMenu;
@@ -15,6 +20,9 @@ import javax.swing.SwingUtilities;
 
 import com.fci.seminar.model.User;
 import com.fci.seminar.service.AwardService;
+import com.fci.seminar.service.ChangeEvent;
+import com.fci.seminar.service.ChangeEvent.EntityType;
+import com.fci.seminar.service.ChangePoller;
 import com.fci.seminar.service.DataStore;
 import com.fci.seminar.service.EvaluationService;
 import com.fci.seminar.service.PosterBoardService;
@@ -50,10 +58,33 @@ public class SeminarApp extends JFrame {
     public static final String EVALUATOR_DASHBOARD = "evaluatorDashboard";
     public static final String EVALUATION_FORM = "evaluationForm";
     
+    // Read-only views that are refreshed in place when another client changes data;
+    // form panels are left alone so a poll never discards what the user is typing
+    private static final Set<String> LIVE_REFRESH_PANELS = Set.of(
+        STUDENT_DASHBOARD, MY_SESSION, EVALUATOR_DASHBOARD, ASSIGNMENT_PANEL,
+        POSTER_MANAGEMENT, USER_MANAGEMENT, AWARD_PANEL);
+    
+    // Entity types each refreshable panel shows; a change to one marks the panel stale so it is
+    // rebuilt the next time it is shown, and not before. Session and user management keep their
+    // tables current from the change events themselves, so they only load on first show.
+    private static final Map<String, Set<EntityType>> PANEL_DEPENDENCIES = Map.of(
+        STUDENT_DASHBOARD, EnumSet.of(EntityType.USER),
+        MY_SESSION, EnumSet.of(EntityType.USER, EntityType.SESSION),
+        VOTING_PANEL, EnumSet.of(EntityType.USER),
+        EVALUATOR_DASHBOARD, EnumSet.of(EntityType.USER, EntityType.SESSION),
+        ASSIGNMENT_PANEL, EnumSet.of(EntityType.USER, EntityType.SESSION),
+        POSTER_MANAGEMENT, EnumSet.of(EntityType.USER, EntityType.SESSION, EntityType.POSTER_BOARD),
+        AWARD_PANEL, EnumSet.of(EntityType.USER, EntityType.EVALUATION, EntityType.AWARD),
+        SESSION_MANAGEMENT, EnumSet.noneOf(EntityType.class),
+        USER_MANAGEMENT, EnumSet.noneOf(EntityType.class));
+    
     private CardLayout cardLayout;
     private JPanel mainPanel;
     private DataStore dataStore;
+    private ChangePoller changePoller;
     private User currentUser;
+    private String currentPanelName;
+    private final Set<String> stalePanels = new HashSet<>(PANEL_DEPENDENCIES.keySet());
     private JMenuBar menuBar;
     private UserService userService;
     private SessionService sessionService;
@@ -83,7 +114,9 @@ public class SeminarApp extends JFrame {
         initializeServices();
         initializeUI();
         initializePanels();
+        subscribeToChanges();
         setupWindowListener();
+        startChangePolling();
         
         // Sample data is now loaded via schema.sql
         // Users should run schema.sql manually in phpMyAdmin/MySQL
@@ -94,6 +127,68 @@ public class SeminarApp extends JFrame {
      */
     private void initializeDataStore() {
         dataStore = DataStore.load(DATA_FILE);
+        // Changes are delivered in one batch per event-dispatch tick
+        dataStore.getChangeEvents().setDispatchExecutor(SwingUtilities::invokeLater);
+    }
+    
+    /**
+     * Subscribes the frame and the incrementally updated panels to the store's change events.
+     */
+    private void subscribeToChanges() {
+        dataStore.getChangeEvents().subscribe(EnumSet.allOf(EntityType.class), this::onDataChanged);
+        dataStore.getChangeEvents().subscribe(EnumSet.of(EntityType.USER), userManagementPanel::applyChanges);
+        dataStore.getChangeEvents().subscribe(EnumSet.of(EntityType.SESSION), sessionManagementPanel::applyChanges);
+    }
+    
+    /**
+     * Starts polling the database for changes made by other clients.
+     * The interval comes from -Dseminar.store.pollIntervalMs; 0 disables polling.
+     */
+    private void startChangePolling() {
+        long intervalMillis = Long.getLong("seminar.store.pollIntervalMs", 5_000L);
+        if (intervalMillis <= 0 || !dataStore.isDatabaseConnected()) {
+            return;
+        }
+        changePoller = new ChangePoller(dataStore, intervalMillis, SwingUtilities::invokeLater);
+        changePoller.start();
+    }
+    
+    /**
+     * Marks the panels showing changed entity types as stale. If another client made
+     * the change, also swaps in the current user's fresh record and refreshes the
+     * visible panel when it is a read-only view. Runs on the event dispatch thread.
+     * @param events the coalesced changes since the last dispatch
+     */
+    private void onDataChanged(List<ChangeEvent> events) {
+        boolean external = false;
+        for (ChangeEvent event : events) {
+            external |= event.isExternal();
+            if (currentUser != null && event.getEntityType() == EntityType.USER
+                    && currentUser.getId().equals(event.getId())) {
+                User fresh = dataStore.getUser(currentUser.getId());
+                if (fresh != null) {
+                    currentUser = fresh;
+                }
+            }
+            PANEL_DEPENDENCIES.forEach((panelName, entityTypes) -> {
+                if (entityTypes.contains(event.getEntityType())) {
+                    stalePanels.add(panelName);
+                }
+            });
+        }
+        if (external && currentPanelName != null && LIVE_REFRESH_PANELS.contains(currentPanelName)
+                && stalePanels.remove(currentPanelName)) {
+            refreshPanel(currentPanelName);
+        }
+    }
+    
+    /**
+     * Stops background polling before the data is saved on exit.
+     */
+    private void stopChangePolling() {
+        if (changePoller != null) {
+            changePoller.stop();
+        }
     }
     
     /**
@@ -231,18 +326,32 @@ public class SeminarApp extends JFrame {
         addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosing(WindowEvent e) {
+                stopChangePolling();
                 saveData();
+                dataStore.shutdown();
             }
         });
     }
     
     /**
      * Shows a panel by name using CardLayout.
-     * Calls refresh() on panels that need to update their data.
+     * Calls refresh() on panels whose data changed since they were last shown;
+     * the registration form is always reset from the current user.
      * @param panelName the name of the panel to show
      */
     public void showPanel(String panelName) {
-        // Refresh panels that need current user data
+        if (STUDENT_REGISTRATION.equals(panelName) || stalePanels.remove(panelName)) {
+            refreshPanel(panelName);
+        }
+        currentPanelName = panelName;
+        cardLayout.show(mainPanel, panelName);
+    }
+    
+    /**
+     * Rebuilds a panel from the current data.
+     * @param panelName the name of the panel to refresh
+     */
+    private void refreshPanel(String panelName) {
         if (STUDENT_REGISTRATION.equals(panelName) && studentRegistrationPanel != null) {
             studentRegistrationPanel.refresh();
         } else if (STUDENT_DASHBOARD.equals(panelName) && studentDashboard != null) {
@@ -264,7 +373,6 @@ public class SeminarApp extends JFrame {
         } else if (AWARD_PANEL.equals(panelName) && awardPanel != null) {
             awardPanel.refresh();
         }
-        cardLayout.show(mainPanel, panelName);
     }
     
     /**
@@ -282,6 +390,8 @@ public class SeminarApp extends JFrame {
      */
     public void setCurrentUser(User user) {
         this.currentUser = user;
+        // Most views are built around the logged-in user
+        stalePanels.addAll(PANEL_DEPENDENCIES.keySet());
         updateMenuVisibility();
         if (user != null) {
             setTitle(DEFAULT_TITLE + " - " + user.getUsername() + " (" + user.getRole() + ")");
@@ -422,10 +532,11 @@ public class SeminarApp extends JFrame {
     /**
      * Triggers auto-save when data changes occur.
      * This method can be called by panels after modifying data.
+     * The warm-start snapshot is only written on exit, so this just waits for pending writes.
      */
     public void autoSave() {
         try {
-            dataStore.save(DATA_FILE);
+            dataStore.save(null);
         } catch (Exception e) {
             // Silent auto-save failure - don't interrupt user workflow
             System.err.println("Auto-save failed: " + e.getMessage());
@@ -434,9 +545,12 @@ public class SeminarApp extends JFrame {
     
     /**
      * Exits the application after saving data.
+     * Drains any pending write-behind mutations before the JVM stops.
      */
     private void exitApplication() {
+        stopChangePolling();
         saveData();
+        dataStore.shutdown();
         dispose();
         System.exit(0);
     }
@@ -27,8 +27,10 @@ import javax.swing.table.DefaultTableModel;
 
 import com.fci.seminar.model.PresentationType;
 import com.fci.seminar.model.Session;
+import com.fci.seminar.service.ChangeEvent;
 import com.fci.seminar.service.SessionService;
 import com.fci.seminar.util.ErrorHandler;
+import com.fci.seminar.util.IdGenerator;
 import com.toedter.calendar.JDateChooser;
 
 /**
@@ -327,8 +329,8 @@ public class SessionManagementPanel extends JPanel {
         venueCombo.removeAllItems();
         
         // Get venues from database
-        if (app.getDataStore().getDatabaseManager() != null) {
-            List<String> venues = app.getDataStore().getDatabaseManager().getAllVenues();
+        if (app.getDataStore().getBackend() != null) {
+            List<String> venues = app.getDataStore().getBackend().getAllVenues();
             for (String venue : venues) {
                 venueCombo.addItem(venue);
             }
@@ -461,7 +463,8 @@ public class SessionManagementPanel extends JPanel {
             }
             
             Session session = new Session();
-            session.setSessionId(java.util.UUID.randomUUID().toString().substring(0, 8));
+            session.setSessionId(IdGenerator.generate(IdGenerator.IdType.SESSION,
+                id -> sessionService.getSessionById(id) != null));
             session.setDate(date);
             session.setVenue(venue);
             session.setMeetingLink(meetingLink);
@@ -627,28 +630,65 @@ public class SessionManagementPanel extends JPanel {
         
         List<Session> sessions = sessionService.getAllSessions();
         for (Session session : sessions) {
-            // Format presenter IDs as comma-separated string or "-" if empty
-            String presenterIds = session.getPresenterIds().isEmpty() 
-                ? "-" 
-                : String.join(", ", session.getPresenterIds());
-            
-            // Format evaluator IDs as comma-separated string or "-" if empty
-            String evaluatorIds = session.getEvaluatorIds().isEmpty() 
-                ? "-" 
-                : String.join(", ", session.getEvaluatorIds());
-            
-            Object[] row = {
-                session.getSessionId(),
-                session.getDate().format(DATE_FORMAT),
-                session.getVenue(),
-                session.getSessionType(),
-                presenterIds,
-                evaluatorIds
-            };
-            tableModel.addRow(row);
+            tableModel.addRow(toRow(session));
+        }
+    }
+    
+    /**
+     * Applies session changes to the table row by row instead of reloading every session.
+     * Called with the batches published by the DataStore's change bus.
+     * @param events changes to sessions
+     */
+    public void applyChanges(List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            int row = findRow(event.getId());
+            Session session = event.getKind() != ChangeEvent.Kind.REMOVED
+                ? sessionService.getSessionById(event.getId()) : null;
+            if (session == null) {
+                if (row >= 0) {
+                    tableModel.removeRow(row);
+                }
+            } else if (row >= 0) {
+                Object[] values = toRow(session);
+                for (int column = 0; column < values.length; column++) {
+                    tableModel.setValueAt(values[column], row, column);
+                }
+            } else {
+                tableModel.addRow(toRow(session));
+            }
         }
     }
     
+    private int findRow(String sessionId) {
+        for (int row = 0; row < tableModel.getRowCount(); row++) {
+            if (tableModel.getValueAt(row, 0).equals(sessionId)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+    
+    private Object[] toRow(Session session) {
+        // Format presenter IDs as comma-separated string or "-" if empty
+        String presenterIds = session.getPresenterIds().isEmpty() 
+            ? "-" 
+            : String.join(", ", session.getPresenterIds());
+        
+        // Format evaluator IDs as comma-separated string or "-" if empty
+        String evaluatorIds = session.getEvaluatorIds().isEmpty() 
+            ? "-" 
+            : String.join(", ", session.getEvaluatorIds());
+        
+        return new Object[] {
+            session.getSessionId(),
+            session.getDate().format(DATE_FORMAT),
+            session.getVenue(),
+            session.getSessionType(),
+            presenterIds,
+            evaluatorIds
+        };
+    }
+    
     /**
      * Navigates back to the coordinator dashboard.
      */
@@ -25,6 +25,7 @@ import com.fci.seminar.model.Evaluator;
 import com.fci.seminar.model.PresentationType;
 import com.fci.seminar.model.Student;
 import com.fci.seminar.model.User;
+import com.fci.seminar.service.ChangeEvent;
 import com.fci.seminar.service.UserService;
 import com.fci.seminar.util.ErrorHandler;
 
@@ -178,42 +179,86 @@ public class UserManagementPanel extends JPanel {
     private void loadUsers() {
         tableModel.setRowCount(0);
         
-        String filterType = (String) userTypeFilter.getSelectedItem();
         List<User> users = new ArrayList<>(app.getDataStore().getUsers().values());
         
         for (User user : users) {
-            // Skip coordinator
-            if (user.getRole().name().equals("COORDINATOR")) {
-                continue;
-            }
-            
-            // Apply filter
-            if (filterType.equals("Presenters") && !(user instanceof Student)) {
-                continue;
+            Object[] row = toRow(user);
+            if (row != null) {
+                tableModel.addRow(row);
             }
-            if (filterType.equals("Panel Members") && !(user instanceof Evaluator)) {
-                continue;
+        }
+    }
+    
+    /**
+     * Applies user changes to the table row by row instead of reloading every user.
+     * Called with the batches published by the DataStore's change bus.
+     * @param events changes to users
+     */
+    public void applyChanges(List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            int row = findRow(event.getId());
+            User user = event.getKind() != ChangeEvent.Kind.REMOVED
+                ? app.getDataStore().getUser(event.getId()) : null;
+            Object[] values = user != null ? toRow(user) : null;
+            if (values == null) {
+                if (row >= 0) {
+                    tableModel.removeRow(row);
+                }
+            } else if (row >= 0) {
+                for (int column = 0; column < values.length; column++) {
+                    tableModel.setValueAt(values[column], row, column);
+                }
+            } else {
+                tableModel.addRow(values);
             }
-            
-            Object[] row = new Object[6];
-            row[0] = user.getId();
-            row[1] = user.getUsername();
-            row[2] = user.getRole().name();
-            
-            if (user instanceof Student) {
-                Student student = (Student) user;
-                row[3] = student.getStudentId() != null ? student.getStudentId() : "";
-                row[4] = student.getPresenterId() != null ? student.getPresenterId() : "";
-                row[5] = "";
-            } else if (user instanceof Evaluator) {
-                Evaluator evaluator = (Evaluator) user;
-                row[3] = "";
-                row[4] = "";
-                row[5] = evaluator.getEvaluatorId() != null ? evaluator.getEvaluatorId() : "";
+        }
+    }
+    
+    private int findRow(String userId) {
+        for (int row = 0; row < tableModel.getRowCount(); row++) {
+            if (tableModel.getValueAt(row, 0).equals(userId)) {
+                return row;
             }
-            
-            tableModel.addRow(row);
         }
+        return -1;
+    }
+    
+    /**
+     * Builds a table row for a user.
+     * @return the row, or null if the user is hidden by the current filter
+     */
+    private Object[] toRow(User user) {
+        // Skip coordinator
+        if (user.getRole().name().equals("COORDINATOR")) {
+            return null;
+        }
+        
+        // Apply filter
+        String filterType = (String) userTypeFilter.getSelectedItem();
+        if (filterType.equals("Presenters") && !(user instanceof Student)) {
+            return null;
+        }
+        if (filterType.equals("Panel Members") && !(user instanceof Evaluator)) {
+            return null;
+        }
+        
+        Object[] row = new Object[6];
+        row[0] = user.getId();
+        row[1] = user.getUsername();
+        row[2] = user.getRole().name();
+        
+        if (user instanceof Student) {
+            Student student = (Student) user;
+            row[3] = student.getStudentId() != null ? student.getStudentId() : "";
+            row[4] = student.getPresenterId() != null ? student.getPresenterId() : "";
+            row[5] = "";
+        } else if (user instanceof Evaluator) {
+            Evaluator evaluator = (Evaluator) user;
+            row[3] = "";
+            row[4] = "";
+            row[5] = evaluator.getEvaluatorId() != null ? evaluator.getEvaluatorId() : "";
+        }
+        return row;
     }
     
     private void updateSelectedUser() {
@@ -327,16 +327,19 @@ public class VotingPanel extends JPanel {
         
         // Submit vote
         try {
-            // Record vote in database
-            recordVote(currentStudent.getStudentId(), votedForPresenterId);
-            
-            // Update vote count for voted student
-            votedForStudent.setVoteCount(votedForStudent.getVoteCount() + 1);
-            userService.updateStudent(votedForStudent);
-            
-            // Mark current student as voted
-            currentStudent.setHasVoted(true);
-            userService.updateStudent(currentStudent);
+            // Vote row and both students are committed together
+            app.getDataStore().inTransaction(() -> {
+                // Record vote in database
+                recordVote(currentStudent.getStudentId(), votedForPresenterId);
+                
+                // Update vote count for voted student
+                votedForStudent.setVoteCount(votedForStudent.getVoteCount() + 1);
+                userService.updateStudent(votedForStudent);
+                
+                // Mark current student as voted
+                currentStudent.setHasVoted(true);
+                userService.updateStudent(currentStudent);
+            });
             
             // Update current user in app
             app.setCurrentUser(currentStudent);
@@ -353,6 +356,11 @@ public class VotingPanel extends JPanel {
             refresh();
             
         } catch (Exception e) {
+            // The store reloaded both students; pick up the restored record
+            User restored = app.getDataStore().getUser(currentStudent.getId());
+            if (restored != null) {
+                app.setCurrentUser(restored);
+            }
             ErrorHandler.showError(this, "Failed to submit vote: " + e.getMessage());
         }
     }
@@ -387,13 +395,8 @@ public class VotingPanel extends JPanel {
      * @param votedForPresenterId the presenter ID being voted for
      */
     private void recordVote(String voterStudentId, String votedForPresenterId) {
-        String sql = "INSERT INTO votes (voter_student_id, voted_for_presenter_id) VALUES (?, ?)";
-        
-        try (java.sql.PreparedStatement stmt = app.getDataStore().getDatabaseManager()
-                .getConnection().prepareStatement(sql)) {
-            stmt.setString(1, voterStudentId);
-            stmt.setString(2, votedForPresenterId);
-            stmt.executeUpdate();
+        try {
+            app.getDataStore().getBackend().saveVote(voterStudentId, votedForPresenterId);
         } catch (java.sql.SQLException e) {
             throw new RuntimeException("Failed to record vote: " + e.getMessage(), e);
         }
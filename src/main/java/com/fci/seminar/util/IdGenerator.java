@@ -1,68 +1,156 @@
 package com.fci.seminar.util;
 
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
 
 /**
  * Utility class for generating unique IDs for various entities.
- * Uses shortened UUID-based approach for uniqueness with readability.
+ * <p>
+ * An ID is a type prefix followed by 20 hex characters: 12 for the current time in
+ * milliseconds and 8 drawn from the calling thread's {@link ThreadLocalRandom}, e.g.
+ * {@code E-019237ab4c1f5e83a0d2}. IDs therefore sort by creation time, carry 32 random
+ * bits per millisecond instead of 32 bits in total, and never contend on a shared
+ * SecureRandom. Callers that can see existing IDs pass an {@code isTaken} check (such
+ * as a DataStore lookup) so a collision is retried instead of overwriting a row, and
+ * bulk imports can {@link #reserve(IdType, int, Predicate) reserve} a block at once.
  */
 public final class IdGenerator {
-    
+
+    /**
+     * Kinds of generated IDs and their prefixes.
+     */
+    public enum IdType {
+        PRESENTER("P-"),
+        EVALUATOR("EV-"),
+        SESSION("S-"),
+        EVALUATION("E-"),
+        USER("U-");
+
+        private final String prefix;
+
+        IdType(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+    }
+
+    private static final int MAX_ATTEMPTS = 100;
+
     private IdGenerator() {
         // Prevent instantiation
     }
-    
+
     /**
-     * Generates a short unique ID (8 characters from UUID).
-     * @return a short unique ID string
+     * Builds the 20-character ID body from a timestamp and a 32-bit sequence value.
      */
-    private static String shortId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+    private static String body(long timestamp, int sequence) {
+        return String.format("%012x%08x", timestamp & 0xFFFF_FFFF_FFFFL, sequence);
+    }
+
+    /**
+     * Generates an ID of the given type without checking for collisions.
+     * @param type the kind of ID
+     * @return a new ID
+     */
+    public static String generate(IdType type) {
+        return type.prefix + body(System.currentTimeMillis(), ThreadLocalRandom.current().nextInt());
+    }
+
+    /**
+     * Generates an ID of the given type that is not already taken.
+     * @param type the kind of ID
+     * @param isTaken returns true for IDs already in use
+     * @return a new, unused ID
+     * @throws IllegalStateException if no free ID was found after repeated attempts
+     */
+    public static String generate(IdType type, Predicate<String> isTaken) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String id = generate(type);
+            if (!isTaken.test(id)) {
+                return id;
+            }
+        }
+        throw new IllegalStateException("Could not generate a free " + type + " ID");
+    }
+
+    /**
+     * Pre-allocates a block of IDs for a bulk import. The clock and random source are
+     * read once; the block then counts up from a random start, so its IDs are distinct,
+     * in order, and each is still checked against existing ones.
+     * @param type the kind of ID
+     * @param count number of IDs to reserve
+     * @param isTaken returns true for IDs already in use
+     * @return count new, unused IDs in ascending order
+     * @throws IllegalArgumentException if count is negative
+     */
+    public static List<String> reserve(IdType type, int count, Predicate<String> isTaken) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        List<String> ids = new ArrayList<>(count);
+        long timestamp = System.currentTimeMillis();
+        // Unsigned start low enough that the block never wraps within this timestamp
+        long sequence = ThreadLocalRandom.current().nextLong(0x1_0000_0000L - 2L * count - MAX_ATTEMPTS);
+        int skipped = 0;
+        while (ids.size() < count) {
+            String id = type.prefix + body(timestamp, (int) sequence++);
+            if (!isTaken.test(id)) {
+                ids.add(id);
+            } else if (++skipped > count + MAX_ATTEMPTS) {
+                throw new IllegalStateException("Could not reserve " + count + " free " + type + " IDs");
+            }
+        }
+        return ids;
     }
 
     /**
      * Generates a unique presenter ID.
-     * Format: P-{8chars}
+     * Format: P-{20 hex chars}
      * @return a unique presenter ID
      */
     public static String generatePresenterId() {
-        return "P-" + shortId();
+        return generate(IdType.PRESENTER);
     }
-    
+
     /**
      * Generates a unique evaluator ID.
-     * Format: EV-{8chars}
+     * Format: EV-{20 hex chars}
      * @return a unique evaluator ID
      */
     public static String generateEvaluatorId() {
-        return "EV-" + shortId();
+        return generate(IdType.EVALUATOR);
     }
 
     /**
      * Generates a unique session ID.
-     * Format: S-{8chars}
+     * Format: S-{20 hex chars}
      * @return a unique session ID
      */
     public static String generateSessionId() {
-        return "S-" + shortId();
+        return generate(IdType.SESSION);
     }
 
     /**
      * Generates a unique evaluation ID.
-     * Format: E-{8chars}
+     * Format: E-{20 hex chars}
      * @return a unique evaluation ID
      */
     public static String generateEvaluationId() {
-        return "E-" + shortId();
+        return generate(IdType.EVALUATION);
     }
 
     /**
      * Generates a unique user ID.
-     * Format: U-{8chars}
+     * Format: U-{20 hex chars}
      * @return a unique user ID
      */
     public static String generateUserId() {
-        return "U-" + shortId();
+        return generate(IdType.USER);
     }
 
     /**
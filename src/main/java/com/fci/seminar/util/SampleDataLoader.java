@@ -1,5 +1,7 @@
 package com.fci.seminar.util;
 
+import java.util.Iterator;
+
 import com.fci.seminar.model.Coordinator;
 import com.fci.seminar.model.Evaluator;
 import com.fci.seminar.model.Student;
@@ -8,10 +10,12 @@ import com.fci.seminar.service.DataStore;
 import com.fci.seminar.service.EvaluationService;
 import com.fci.seminar.service.SessionService;
 import com.fci.seminar.service.UserService;
+import com.fci.seminar.util.IdGenerator.IdType;
 
 /**
  * Utility class to load sample data for testing the Seminar Management System.
  * Creates sample users (students, evaluators, coordinator) with basic credentials only.
+ * Their IDs are reserved as one block up front, checked against existing users.
  */
 public class SampleDataLoader {
     
@@ -25,13 +29,18 @@ public class SampleDataLoader {
      */
     public static void loadSampleData(DataStore dataStore, UserService userService, 
                                      SessionService sessionService, EvaluationService evaluationService) {
+        String[] studentNames = {"student1", "student2", "student3", "student4"};
+        Iterator<String> userIds = IdGenerator.reserve(IdType.USER, 3 + studentNames.length,
+            id -> dataStore.getUser(id) != null).iterator();
+        Iterator<String> evaluatorIds = IdGenerator.reserve(IdType.EVALUATOR, 2,
+            id -> dataStore.findEvaluatorByEvaluatorId(id) != null).iterator();
         
         // Create sample coordinator
         Coordinator coordinator = new Coordinator();
         coordinator.setUsername("admin");
         coordinator.setPassword("admin123");
         coordinator.setRole(UserRole.COORDINATOR);
-        coordinator.setId(IdGenerator.generateUserId());
+        coordinator.setId(userIds.next());
         dataStore.addUser(coordinator);
         
         // Create sample evaluators
@@ -39,37 +48,37 @@ public class SampleDataLoader {
         evaluator1.setUsername("eval1");
         evaluator1.setPassword("eval123");
         evaluator1.setRole(UserRole.PANEL_MEMBER);
-        evaluator1.setId(IdGenerator.generateUserId());
-        evaluator1.setEvaluatorId(IdGenerator.generateEvaluatorId());
+        evaluator1.setId(userIds.next());
+        evaluator1.setEvaluatorId(evaluatorIds.next());
         dataStore.addUser(evaluator1);
         
         Evaluator evaluator2 = new Evaluator();
         evaluator2.setUsername("eval2");
         evaluator2.setPassword("eval123");
         evaluator2.setRole(UserRole.PANEL_MEMBER);
-        evaluator2.setId(IdGenerator.generateUserId());
-        evaluator2.setEvaluatorId(IdGenerator.generateEvaluatorId());
+        evaluator2.setId(userIds.next());
+        evaluator2.setEvaluatorId(evaluatorIds.next());
         dataStore.addUser(evaluator2);
         
         // Create sample students (username/password only, no research data)
-        createBasicStudent(dataStore, "student1", "stud123");
-        createBasicStudent(dataStore, "student2", "stud123");
-        createBasicStudent(dataStore, "student3", "stud123");
-        createBasicStudent(dataStore, "student4", "stud123");
+        for (String username : studentNames) {
+            createBasicStudent(dataStore, userIds.next(), username, "stud123");
+        }
     }
     
     /**
      * Creates a basic student with only username and password.
      * @param dataStore the DataStore to add the student to
+     * @param id the student's user ID
      * @param username the student username
      * @param password the student password
      */
-    private static void createBasicStudent(DataStore dataStore, String username, String password) {
+    private static void createBasicStudent(DataStore dataStore, String id, String username, String password) {
         Student student = new Student();
         student.setUsername(username);
         student.setPassword(password);
         student.setRole(UserRole.PRESENTER);
-        student.setId(IdGenerator.generateUserId());
+        student.setId(id);
         dataStore.addUser(student);
     }
     
@@ -80,8 +89,8 @@ public class SampleDataLoader {
      */
     public static boolean hasSampleData(DataStore dataStore) {
         // Check database for existing admin user
-        if (dataStore.getDatabaseManager() != null && dataStore.getDatabaseManager().isConnected()) {
-            return dataStore.getDatabaseManager().hasSampleData();
+        if (dataStore.getBackend() != null && dataStore.getBackend().isConnected()) {
+            return dataStore.getBackend().hasSampleData();
         }
         
         // Check in-memory data as fallback
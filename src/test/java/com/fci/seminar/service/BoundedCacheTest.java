@@ -0,0 +1,67 @@
+package com.fci.seminar.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for BoundedCache sizing, frequency-based admission and metrics.
+ */
+class BoundedCacheTest {
+
+    @Test
+    void testSizeStaysWithinMaximum() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(100);
+        for (int i = 0; i < 150; i++) {
+            cache.put("k" + i, i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals(50, cache.getMetrics().getEvictions());
+        assertEquals(Integer.valueOf(149), cache.peek("k149"));
+    }
+
+    @Test
+    void testFrequentlyUsedEntriesSurviveAScan() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(100);
+        for (int i = 0; i < 99; i++) {
+            cache.put("hot" + i, i);
+        }
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 99; i++) {
+                assertNotNull(cache.getIfPresent("hot" + i));
+            }
+        }
+        // One-off reads of many other keys, as a report over every row would make
+        for (int i = 0; i < 1000; i++) {
+            cache.get("cold" + i, key -> 0);
+        }
+        int survivors = 0;
+        for (int i = 0; i < 99; i++) {
+            if (cache.peek("hot" + i) != null) {
+                survivors++;
+            }
+        }
+        // Plain LRU would keep none; the sketch's hash collisions may let a few cold keys in
+        assertTrue(survivors >= 90, "only " + survivors + " hot entries survived");
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    void testMetricsCountHitsAndMisses() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+        assertEquals("a", cache.get("a", key -> "a"));
+        assertEquals("a", cache.get("a", key -> "unused"));
+        assertNull(cache.get("missing", key -> null));
+        cache.invalidate("a");
+        assertNull(cache.getIfPresent("a"));
+
+        CacheMetrics metrics = cache.getMetrics();
+        assertEquals(1, metrics.getHits());
+        assertEquals(3, metrics.getMisses());
+        assertEquals(0, metrics.getSize());
+        assertEquals(0.25, metrics.getHitRate(), 1e-9);
+        assertTrue(metrics.toString().contains("hits=1"));
+    }
+}
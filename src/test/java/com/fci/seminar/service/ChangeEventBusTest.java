@@ -0,0 +1,113 @@
+package com.fci.seminar.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fci.seminar.model.Award;
+import com.fci.seminar.model.AwardType;
+import com.fci.seminar.model.PresentationType;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.Student;
+import com.fci.seminar.service.ChangeEvent.EntityType;
+import com.fci.seminar.service.ChangeEvent.Kind;
+
+/**
+ * Unit tests for ChangeEventBus coalescing and the events DataStore publishes.
+ * Dispatches are queued and run by hand, standing in for event-dispatch ticks.
+ */
+class ChangeEventBusTest {
+
+    private final Queue<Runnable> ticks = new ArrayDeque<>();
+    private final List<List<ChangeEvent>> batches = new ArrayList<>();
+    private DataStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new DataStore((DatabaseManager) null);
+        store.getChangeEvents().setDispatchExecutor(ticks::add);
+        store.getChangeEvents().subscribe(EnumSet.allOf(EntityType.class), batches::add);
+    }
+
+    @Test
+    void testEventsWithinTickAreDeliveredAsOneBatch() {
+        store.addSession(new Session("S1", null, "Hall", PresentationType.ORAL));
+        store.addSession(new Session("S2", null, "Hall", PresentationType.ORAL));
+        store.addAward(new Award(AwardType.BEST_ORAL, "P1", 30));
+        store.clearAwards();
+
+        assertEquals(1, ticks.size());
+        runTicks();
+        assertEquals(1, batches.size());
+        assertEquals(List.of("ADDED SESSION S1", "ADDED SESSION S2", "UPDATED AWARD"), describe(batches.get(0)));
+        assertEquals(4, store.getChangeEvents().getPublishedCount());
+    }
+
+    @Test
+    void testRepeatedChangesToOneEntityCollapse() {
+        Student student = new Student("U1", "alice", "pw");
+        store.addUser(student);
+        store.updateUser(student);
+        store.addSession(new Session("S1", null, "Hall", PresentationType.ORAL));
+        store.removeSession("S1");
+        runTicks();
+        assertEquals(List.of("ADDED USER U1"), describe(batches.get(0)));
+
+        store.removeUser("U1");
+        store.addUser(student);
+        store.removeUser("missing");
+        runTicks();
+        assertEquals(List.of("UPDATED USER U1"), describe(batches.get(1)));
+        assertEquals(2, store.getChangeEvents().getDispatchCount());
+    }
+
+    @Test
+    void testListenersOnlyReceiveTheirEntityTypes() {
+        List<List<ChangeEvent>> sessionBatches = new ArrayList<>();
+        store.getChangeEvents().subscribe(EnumSet.of(EntityType.SESSION), sessionBatches::add);
+
+        store.addUser(new Student("U1", "alice", "pw"));
+        runTicks();
+        assertTrue(sessionBatches.isEmpty());
+
+        store.addUser(new Student("U2", "bob", "pw"));
+        store.addSession(new Session("S1", null, "Hall", PresentationType.POSTER));
+        runTicks();
+        assertEquals(List.of(List.of("ADDED SESSION S1")), sessionBatches.stream().map(this::describe).toList());
+        assertEquals(Kind.ADDED, batches.get(1).get(0).getKind());
+        assertEquals(2, batches.get(1).size());
+    }
+
+    @Test
+    void testClosedSubscriptionStopsReceivingEvents() {
+        List<List<ChangeEvent>> sessionBatches = new ArrayList<>();
+        ChangeEventBus.Subscription subscription =
+            store.getChangeEvents().subscribe(EnumSet.of(EntityType.SESSION), sessionBatches::add);
+
+        store.addSession(new Session("S1", null, "Hall", PresentationType.ORAL));
+        runTicks();
+        subscription.close();
+        store.addSession(new Session("S2", null, "Hall", PresentationType.ORAL));
+        runTicks();
+
+        assertEquals(1, sessionBatches.size());
+        assertEquals(2, batches.size());
+    }
+
+    private void runTicks() {
+        while (!ticks.isEmpty()) {
+            ticks.poll().run();
+        }
+    }
+
+    private List<String> describe(List<ChangeEvent> events) {
+        return events.stream().map(ChangeEvent::toString).toList();
+    }
+}
@@ -0,0 +1,118 @@
+package com.fci.seminar.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for delta sync: DatabaseManager.getChangesSince, DataStore's fetch and
+ * apply steps and ChangePoller, run against FakeJdbc.
+ */
+class ChangePollerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private FakeJdbc jdbc;
+    private DataStore store;
+    private ChangePoller poller;
+    // Queries issued while the apply executor ran the merge
+    private int queriesDuringApply;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new FakeJdbc();
+        jdbc.setServerTime(at(0));
+        jdbc.addRow("users", "id", 1, "username", "admin", "password", "pw", "role", "COORDINATOR",
+            "updated_at", at(-60));
+        jdbc.addRow("users", "id", 2, "username", "student", "password", "pw", "role", "PRESENTER",
+            "updated_at", at(-60));
+        addSession("S-1", at(-60));
+        addSession("S-2", at(-60));
+        jdbc.addRow("awards", "award_type", "BEST_ORAL", "winner_id", "P-1", "score", 4.0,
+            "created_at", at(-60));
+        store = new DataStore(new DatabaseManager(jdbc.dataSource()));
+        Executor measuringExecutor = task -> {
+            int before = jdbc.queryCount();
+            task.run();
+            queriesDuringApply += jdbc.queryCount() - before;
+        };
+        poller = new ChangePoller(store, 1_000, measuringExecutor);
+    }
+
+    private static Timestamp at(int minutes) {
+        return Timestamp.valueOf(START.plusMinutes(minutes));
+    }
+
+    private void addSession(String sessionId, Timestamp updatedAt) {
+        jdbc.addRow("sessions", "session_id", sessionId, "session_date", Date.valueOf(LocalDate.of(2025, 3, 10)),
+            "venue", "Hall", "session_type", "ORAL", "updated_at", updatedAt);
+    }
+
+    @Test
+    void testPoll_MergesChangesAndDropsDeletedRowsWithoutIoOnApply() throws Exception {
+        jdbc.addRow("users", "id", 3, "username", "newcomer", "password", "pw", "role", "PRESENTER",
+            "updated_at", at(1));
+        jdbc.deleteRows("sessions", "session_id", "S-2");
+        jdbc.setServerTime(at(2));
+        jdbc.reset();
+
+        assertTrue(poller.pollNow());
+
+        assertEquals("newcomer", store.getUser("3").getUsername());
+        assertNotNull(store.getSession("S-1"));
+        assertNull(store.getSession("S-2"));
+        assertEquals(0, queriesDuringApply, "Applying a delta must not query the database");
+        // Only the table whose row count fell short is reconciled
+        assertTrue(jdbc.queries().contains("SELECT session_id FROM sessions"));
+        assertFalse(jdbc.queries().contains("SELECT id FROM users"));
+    }
+
+    @Test
+    void testPoll_AdvancesWatermark() throws Exception {
+        jdbc.addRow("users", "id", 3, "username", "newcomer", "password", "pw", "role", "PRESENTER",
+            "updated_at", at(1));
+        jdbc.setServerTime(at(2));
+        assertTrue(poller.pollNow());
+
+        jdbc.setServerTime(at(3));
+        assertFalse(poller.pollNow(), "Rows older than the last watermark must not be merged again");
+
+        addSession("S-3", at(4));
+        jdbc.setServerTime(at(5));
+        assertTrue(poller.pollNow());
+        assertNotNull(store.getSession("S-3"));
+    }
+
+    @Test
+    void testPoll_ReadsAwardsOnlyWhenTheyChanged() throws Exception {
+        jdbc.setServerTime(at(1));
+        jdbc.reset();
+        assertFalse(poller.pollNow());
+        assertTrue(jdbc.queries().stream().noneMatch(sql -> sql.startsWith("SELECT * FROM awards")),
+            "Unchanged awards must not be re-read: " + jdbc.queries());
+
+        jdbc.addRow("awards", "award_type", "BEST_POSTER", "winner_id", "P-2", "score", 3.5,
+            "created_at", at(2));
+        jdbc.setServerTime(at(3));
+        assertTrue(poller.pollNow());
+        assertEquals(2, store.getAwards().size());
+
+        // Cleared without new winners: only the row count shows it
+        jdbc.deleteRows("awards", "winner_id", "P-1");
+        jdbc.deleteRows("awards", "winner_id", "P-2");
+        jdbc.setServerTime(at(4));
+        assertTrue(poller.pollNow());
+        assertTrue(store.getAwards().isEmpty());
+        assertEquals(0, queriesDuringApply);
+    }
+}
@@ -0,0 +1,112 @@
+package com.fci.seminar.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fci.seminar.model.PresentationType;
+import com.fci.seminar.model.Session;
+
+/**
+ * Unit tests for the circuit breaker, DatabaseManager's fail-fast and reconnect
+ * behaviour, and DataStore's offline write queue, run against FakeJdbc.
+ */
+class ConnectionHealthTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private FakeJdbc jdbc;
+    private CircuitBreaker breaker;
+    private DatabaseManager databaseManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new FakeJdbc();
+        breaker = new CircuitBreaker(1, 1_000, 4_000, clock::get);
+        databaseManager = new DatabaseManager(jdbc.dataSource(), null, breaker);
+    }
+
+    private void advanceMillis(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void testBreakerProbesAfterDelayAndBacksOff() {
+        CircuitBreaker threeStrikes = new CircuitBreaker(3, 1_000, 4_000, clock::get);
+        assertFalse(threeStrikes.recordFailure());
+        assertFalse(threeStrikes.recordFailure());
+        assertTrue(threeStrikes.recordFailure());
+        assertFalse(threeStrikes.allowRequest());
+
+        assertFalse(threeStrikes.tryProbe());
+        advanceMillis(1_000);
+        assertTrue(threeStrikes.tryProbe());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, threeStrikes.getState());
+        assertFalse(threeStrikes.tryProbe(), "Only one probe may run at a time");
+
+        // A failed probe doubles the wait
+        threeStrikes.recordFailure();
+        advanceMillis(1_000);
+        assertFalse(threeStrikes.tryProbe());
+        advanceMillis(1_000);
+        assertTrue(threeStrikes.tryProbe());
+        assertTrue(threeStrikes.recordSuccess());
+        assertTrue(threeStrikes.allowRequest());
+        assertEquals(2, threeStrikes.getOpenCount());
+    }
+
+    @Test
+    void testOpenBreakerFailsFastUntilAProbeSucceeds() throws Exception {
+        CountDownLatch reconnected = new CountDownLatch(1);
+        databaseManager.addReconnectListener(reconnected::countDown);
+        jdbc.setUnavailable(true);
+
+        assertFalse(databaseManager.tryWrite(() -> databaseManager.deleteSession("S-1")));
+        assertFalse(databaseManager.isConnected());
+        assertEquals(CircuitBreaker.State.OPEN, databaseManager.getCircuitState());
+
+        // The server is back, but callers are not let through until a probe confirms it
+        jdbc.setUnavailable(false);
+        assertNull(databaseManager.getSession("S-1"));
+        assertEquals(0, jdbc.connectionCount());
+
+        advanceMillis(1_000);
+        databaseManager.probe();
+        assertTrue(reconnected.await(5, TimeUnit.SECONDS));
+        assertTrue(databaseManager.isConnected());
+        assertTrue(databaseManager.tryWrite(() -> databaseManager.deleteSession("S-1")));
+        databaseManager.close();
+    }
+
+    @Test
+    void testWritesMadeOfflineAreReplayedOnReconnect() {
+        DataStore store = new DataStore(databaseManager);
+        jdbc.setUnavailable(true);
+
+        store.addSession(new Session("S-1", LocalDate.of(2025, 3, 10), "Hall A", PresentationType.ORAL));
+        store.removeSession("S-2");
+
+        assertNotNull(store.getSession("S-1"));
+        assertFalse(store.isDatabaseConnected());
+        assertTrue(jdbc.updates().isEmpty());
+        assertFalse(store.flushWrites(50), "Queued writes must wait for the connection");
+
+        jdbc.setUnavailable(false);
+        advanceMillis(1_000);
+        databaseManager.probe();
+
+        assertTrue(store.flushWrites(5_000));
+        assertTrue(jdbc.updates().stream().anyMatch(sql -> sql.startsWith("INSERT INTO sessions")));
+        assertTrue(jdbc.updates().stream().anyMatch(sql -> sql.startsWith("DELETE FROM sessions")));
+        assertTrue(store.isDatabaseConnected());
+        store.shutdown();
+    }
+}
@@ -0,0 +1,73 @@
+package com.fci.seminar.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariConfig;
+
+/**
+ * Unit tests for the connection pool settings and borrow metrics.
+ */
+class ConnectionPoolTest {
+
+    @Test
+    void testPoolConfig_AppliesConfiguredSettings() {
+        DatabaseConfig config = DatabaseConfig.builder()
+            .user("seminar")
+            .password("secret")
+            .maxPoolSize(20)
+            .minIdle(4)
+            .connectionTimeoutMs(2_500L)
+            .idleTimeoutMs(300_000L)
+            .maxLifetimeMs(900_000L)
+            .rewriteBatchedStatements(false)
+            .connectTimeoutMs(1_000L)
+            .socketTimeoutMs(15_000L)
+            .build();
+
+        HikariConfig pool = DatabaseManager.createPoolConfig(config, "seminar-db", "jdbc:mysql://db:3306/seminar_db");
+
+        assertEquals("seminar-db", pool.getPoolName());
+        assertEquals("jdbc:mysql://db:3306/seminar_db", pool.getJdbcUrl());
+        assertEquals("seminar", pool.getUsername());
+        assertEquals("secret", pool.getPassword());
+        assertEquals(20, pool.getMaximumPoolSize());
+        assertEquals(4, pool.getMinimumIdle());
+        assertEquals(2_500L, pool.getConnectionTimeout());
+        assertEquals(300_000L, pool.getIdleTimeout());
+        assertEquals(900_000L, pool.getMaxLifetime());
+        assertEquals("true", pool.getDataSourceProperties().getProperty("cachePrepStmts"));
+        assertEquals("false", pool.getDataSourceProperties().getProperty("rewriteBatchedStatements"));
+        assertEquals("1000", pool.getDataSourceProperties().getProperty("connectTimeout"));
+        assertEquals("15000", pool.getDataSourceProperties().getProperty("socketTimeout"));
+    }
+
+    @Test
+    void testBuilder_KeepsDefaultsForUnsetValues() {
+        DatabaseConfig config = DatabaseConfig.builder().maxPoolSize(3).build();
+
+        assertEquals(3, config.getMaxPoolSize());
+        assertEquals("jdbc:mysql://localhost:3306/seminar_db", config.getUrl());
+        assertEquals(2, config.getMinIdle());
+        assertEquals(500, config.getTextCacheSize());
+        assertNull(config.getReplicaUrl());
+    }
+
+    @Test
+    void testPoolMetrics_CountsBorrows() {
+        FakeJdbc jdbc = new FakeJdbc();
+        DatabaseManager databaseManager = new DatabaseManager(jdbc.dataSource());
+
+        databaseManager.deleteSession("S-1");
+        databaseManager.deleteSession("S-2");
+        databaseManager.getSession("S-1");
+
+        PoolMetrics metrics = databaseManager.getPoolMetrics();
+        assertEquals(3, metrics.getBorrowCount());
+        assertTrue(metrics.getMaxBorrowMillis() >= metrics.getAverageBorrowMillis());
+        // Only a running HikariCP pool reports connection counts
+        assertEquals(0, metrics.getTotalConnections());
+    }
+}
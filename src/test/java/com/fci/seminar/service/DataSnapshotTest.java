@@ -0,0 +1,65 @@
+package com.fci.seminar.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fci.seminar.model.Award;
+import com.fci.seminar.model.AwardType;
+import com.fci.seminar.model.Evaluator;
+import com.fci.seminar.model.PresentationType;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.Student;
+import com.fci.seminar.model.User;
+
+/**
+ * Unit tests for DataSnapshot file round trips and format checks.
+ */
+class DataSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSnapshotRoundTrip() throws Exception {
+        Evaluator evaluator = new Evaluator("2", "eva", "pw");
+        evaluator.setEvaluatorId("E2");
+        evaluator.setAssignedSessionIds(List.of("S1"));
+        Session session = new Session("S1", LocalDate.of(2025, 3, 14), "Hall A", PresentationType.ORAL);
+        session.setEvaluatorIds(List.of("E2"));
+        Timestamp watermark = Timestamp.valueOf("2025-03-14 09:30:00");
+        Path file = tempDir.resolve("seminar_data.ser");
+
+        new DataSnapshot("jdbc:mysql://db/seminar", watermark,
+            Map.<String, User>of("1", new Student("1", "stu", "pw"), "2", evaluator),
+            Map.of("S1", session), Map.of(), Map.of(),
+            List.of(new Award(AwardType.BEST_ORAL, "1", 9.5))).write(file);
+        DataSnapshot restored = DataSnapshot.read(file);
+
+        assertNotNull(restored);
+        assertEquals("jdbc:mysql://db/seminar", restored.getDatabaseUrl());
+        assertEquals(watermark, restored.getWatermark());
+        assertEquals(2, restored.getUsers().size());
+        assertEquals(List.of("S1"), ((Evaluator) restored.getUsers().get("2")).getAssignedSessionIds());
+        assertEquals("Hall A", restored.getSessions().get("S1").getVenue());
+        assertEquals(1, restored.getAwards().size());
+    }
+
+    @Test
+    void testMissingOrForeignFileIsIgnored() throws Exception {
+        Path file = tempDir.resolve("seminar_data.ser");
+        assertNull(DataSnapshot.read(file));
+
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertNull(DataSnapshot.read(file));
+    }
+}
@@ -0,0 +1,165 @@
+package com.fci.seminar.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.PresentationType;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.Student;
+import com.fci.seminar.model.User;
+
+/**
+ * Multi-threaded stress tests for DataStore, run against a store without a database.
+ * Writers and readers of every entity type run at once; the tests fail on any
+ * exception thrown by a reader or writer and check that the lookup indexes agree
+ * with the maps once all threads are done.
+ */
+class DataStoreConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 2_000;
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 14);
+
+    @Test
+    @Timeout(60)
+    void testConcurrentWritesKeepIndexesConsistent() throws Exception {
+        DataStore store = new DataStore((DatabaseManager) null);
+        runConcurrently(THREADS, worker -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < OPERATIONS; i++) {
+                String id = worker + "-" + random.nextInt(50);
+                switch (random.nextInt(6)) {
+                    case 0 -> {
+                        Student student = new Student("U" + id, "user" + id, "pw");
+                        student.setPresenterId("P" + id);
+                        store.addUser(student);
+                    }
+                    case 1 -> store.removeUser("U" + id);
+                    case 2 -> {
+                        Session session = new Session("S" + id, DAY.plusDays(random.nextInt(3)), "Hall",
+                            PresentationType.ORAL);
+                        session.addPresenter("P" + id);
+                        store.addSession(session);
+                    }
+                    case 3 -> store.removeSession("S" + id);
+                    case 4 -> {
+                        Evaluation evaluation = new Evaluation();
+                        evaluation.setEvaluationId("V" + id);
+                        evaluation.setPresenterId("P" + id);
+                        evaluation.setEvaluatorId("E" + worker);
+                        store.addEvaluation(evaluation);
+                    }
+                    default -> {
+                        // Readers iterate snapshots and hit every index while others write
+                        for (User user : store.getUsers().values()) {
+                            assertNotNull(user.getId());
+                        }
+                        store.findStudentByPresenterId("P" + id);
+                        store.findSessionsFor("P" + id, DAY);
+                        store.getEvaluationsForPresenter("P" + id);
+                        store.getSessions().values().forEach(Session::getDate);
+                    }
+                }
+            }
+        });
+
+        for (User user : store.getUsers().values()) {
+            Student student = (Student) user;
+            assertEquals(student, store.findStudentByPresenterId(student.getPresenterId()));
+            assertEquals(student, store.findUserByUsername(student.getUsername()));
+        }
+        for (Session session : store.getSessions().values()) {
+            for (String presenterId : session.getPresenterIds()) {
+                assertEquals(List.of(session), store.findSessionsFor(presenterId, session.getDate()));
+            }
+        }
+        int indexed = 0;
+        for (int worker = 0; worker < THREADS; worker++) {
+            indexed += store.getEvaluationsByEvaluator("E" + worker).size();
+        }
+        assertEquals(store.getEvaluations().size(), indexed);
+    }
+
+    @Test
+    @Timeout(60)
+    void testSnapshotsStayStableWhileWritersRun() throws Exception {
+        DataStore store = new DataStore((DatabaseManager) null);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        Future<?> writes = writer.submit(() -> {
+            for (int i = 0; writing.get(); i++) {
+                Session session = new Session("S" + (i % 100), DAY, "Hall", PresentationType.POSTER);
+                store.addSession(session);
+                if (i % 3 == 0) {
+                    store.removeSession("S" + ((i + 50) % 100));
+                }
+            }
+        });
+        try {
+            runConcurrently(THREADS, worker -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    Map<String, Session> snapshot = store.getSessions();
+                    int size = snapshot.size();
+                    int counted = 0;
+                    for (Session session : snapshot.values()) {
+                        assertNotNull(session);
+                        counted++;
+                    }
+                    assertEquals(size, counted);
+                    assertEquals(size, snapshot.size());
+                }
+            });
+        } finally {
+            writing.set(false);
+            writes.get(10, TimeUnit.SECONDS);
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Starts every worker at once and rethrows the first failure.
+     */
+    private static void runConcurrently(int threads, Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int index = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    worker.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(50, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+        void run(int index) throws Exception;
+    }
+}
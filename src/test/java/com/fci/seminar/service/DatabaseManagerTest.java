@@ -0,0 +1,338 @@
+package com.fci.seminar.service;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.Evaluator;
+import com.fci.seminar.model.PresentationType;
+import com.fci.seminar.model.RubricScores;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.Student;
+import com.fci.seminar.model.User;
+
+/**
+ * Unit tests for DatabaseManager bulk loading, run against FakeJdbc.
+ */
+class DatabaseManagerTest {
+
+    private FakeJdbc jdbc;
+    private DatabaseManager databaseManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new FakeJdbc();
+        databaseManager = new DatabaseManager(jdbc.dataSource());
+    }
+
+    @Test
+    void testGetAllSessions_UsesFixedQueryCount() {
+        for (int i = 0; i < 50; i++) {
+            String sessionId = "S-" + i;
+            jdbc.addRow("sessions",
+                "session_id", sessionId,
+                "session_date", Date.valueOf(LocalDate.of(2025, 1, 1).plusDays(i % 5)),
+                "venue", "Auditorium A",
+                "meeting_link", null,
+                "session_type", i % 2 == 0 ? "ORAL" : "POSTER");
+            jdbc.addRow("session_presenters", "session_id", sessionId, "presenter_id", "P-" + i);
+            jdbc.addRow("session_presenters", "session_id", sessionId, "presenter_id", "P-x" + i);
+            jdbc.addRow("session_evaluators", "session_id", sessionId, "evaluator_id", "EV-" + i);
+        }
+
+        Map<String, Session> sessions = databaseManager.getAllSessions();
+
+        assertEquals(50, sessions.size());
+        assertEquals(3, jdbc.queryCount(), "Session loading must not issue per-row queries: " + jdbc.queries());
+    }
+
+    @Test
+    void testGetAllSessions_StitchesAssignments() {
+        jdbc.addRow("sessions",
+            "session_id", "S-1",
+            "session_date", Date.valueOf(LocalDate.of(2025, 3, 10)),
+            "venue", "Lecture Hall 1",
+            "meeting_link", "https://meet.example/abc",
+            "session_type", "ORAL");
+        jdbc.addRow("sessions",
+            "session_id", "S-2",
+            "session_date", Date.valueOf(LocalDate.of(2025, 3, 11)),
+            "venue", "Lecture Hall 2",
+            "meeting_link", null,
+            "session_type", "POSTER");
+        jdbc.addRow("session_presenters", "session_id", "S-1", "presenter_id", "P-a");
+        jdbc.addRow("session_presenters", "session_id", "S-1", "presenter_id", "P-b");
+        jdbc.addRow("session_evaluators", "session_id", "S-1", "evaluator_id", "EV-a");
+
+        Map<String, Session> sessions = databaseManager.getAllSessions();
+
+        Session first = sessions.get("S-1");
+        assertEquals(List.of("P-a", "P-b"), first.getPresenterIds());
+        assertEquals(List.of("EV-a"), first.getEvaluatorIds());
+        assertEquals(LocalDate.of(2025, 3, 10), first.getDate());
+
+        Session second = sessions.get("S-2");
+        assertEquals(List.of(), second.getPresenterIds());
+        assertEquals(List.of(), second.getEvaluatorIds());
+    }
+
+    @Test
+    void testGetAllUsers_PrefetchesEvaluatorSessions() {
+        jdbc.addRow("users", "id", 1, "username", "admin", "password", "admin123", "role", "COORDINATOR");
+        for (int i = 0; i < 40; i++) {
+            jdbc.addRow("users", "id", 100 + i, "username", "eval" + i, "password", "pw",
+                "role", "PANEL_MEMBER", "evaluator_id", "EV-" + i);
+            jdbc.addRow("session_evaluators", "session_id", "S-" + i, "evaluator_id", "EV-" + i);
+        }
+        jdbc.addRow("users", "id", 500, "username", "student", "password", "pw",
+            "role", "PRESENTER", "student_id", "1211100000", "presenter_id", "P-1",
+            "vote_count", 3, "has_voted", true);
+
+        Map<String, User> users = databaseManager.getAllUsers();
+
+        assertEquals(42, users.size());
+        assertEquals(2, jdbc.queryCount(), "User loading must not issue per-evaluator queries: " + jdbc.queries());
+        assertEquals(List.of("S-7"), ((Evaluator) users.get("107")).getAssignedSessionIds());
+        Student student = (Student) users.get("500");
+        assertEquals("P-1", student.getPresenterId());
+        assertEquals(3, student.getVoteCount());
+    }
+
+    @Test
+    void testGetAllUsers_FetchesAbstractOnFirstAccess() {
+        jdbc.addRow("users", "id", 500, "username", "student", "password", "pw", "role", "PRESENTER",
+            "presenter_id", "P-1", "abstract_text", "A long abstract");
+        jdbc.addRow("users", "id", 501, "username", "other", "password", "pw", "role", "PRESENTER");
+
+        Map<String, User> users = databaseManager.getAllUsers();
+        Student student = (Student) users.get("500");
+
+        assertTrue(jdbc.queries().stream().noneMatch(sql -> sql.contains("*") || sql.contains("abstract_text")),
+            "Bulk loads must leave the abstract out: " + jdbc.queries());
+        assertFalse(student.isAbstractTextLoaded());
+        jdbc.reset();
+        assertEquals("A long abstract", student.getAbstractText());
+        assertEquals("A long abstract", student.getAbstractText());
+        assertNull(((Student) users.get("501")).getAbstractText());
+        assertNull(((Student) users.get("501")).getAbstractText());
+        assertEquals(2, jdbc.queryCount(), "Abstracts must be cached after the first fetch: " + jdbc.queries());
+    }
+
+    @Test
+    void testSaveUser_DoesNotFetchUnloadedAbstract() {
+        jdbc.addRow("users", "id", 500, "username", "student", "password", "pw", "role", "PRESENTER",
+            "abstract_text", "A long abstract");
+        Student student = (Student) databaseManager.getAllUsers().get("500");
+        student.setVoteCount(4);
+        jdbc.reset();
+
+        databaseManager.saveUser(student);
+
+        assertEquals(0, jdbc.queryCount());
+        assertEquals(List.of("UPDATE users SET vote_count = ? WHERE id = ?"), jdbc.updates());
+
+        student.setAbstractText("Rewritten");
+        assertTrue(student.isAbstractTextLoaded());
+        assertEquals("Rewritten", student.getAbstractText());
+    }
+
+    @Test
+    void testSaveUser_UnchangedUserIsNotWritten() {
+        jdbc.addRow("users", "id", 500, "username", "student", "password", "pw", "role", "PRESENTER");
+        Student student = (Student) databaseManager.getAllUsers().get("500");
+        jdbc.reset();
+
+        databaseManager.saveUser(student);
+
+        assertEquals(0, jdbc.connectionCount(), "An unchanged user must not borrow a connection");
+    }
+
+    @Test
+    void testSaveEvaluation_ScoresChangeOnlyThroughSetter() {
+        jdbc.addRow("evaluations", "evaluation_id", "E-1", "presenter_id", "P-1", "evaluator_id", "EV-1",
+            "session_id", "S-1", "problem_clarity", 5, "methodology", 5, "results", 5, "presentation", 5,
+            "submitted_at", Timestamp.valueOf("2025-03-10 10:00:00"));
+        Evaluation evaluation = databaseManager.getEvaluation("E-1");
+        jdbc.reset();
+
+        // The getter hands out a copy, so editing it cannot bypass change tracking
+        evaluation.getScores().setResults(1);
+        databaseManager.saveEvaluation(evaluation);
+        assertEquals(0, jdbc.connectionCount());
+
+        RubricScores scores = evaluation.getScores();
+        scores.setResults(1);
+        evaluation.setScores(scores);
+        databaseManager.saveEvaluation(evaluation);
+        assertEquals(List.of("UPDATE evaluations SET problem_clarity = ?, methodology = ?, results = ?, "
+            + "presentation = ?, submitted_at = CURRENT_TIMESTAMP WHERE evaluation_id = ?"), jdbc.updates());
+    }
+
+    @Test
+    void testStreamPosterBoards_UsesStreamingCursor() {
+        for (int i = 0; i < 25; i++) {
+            jdbc.addRow("poster_boards", "board_id", "B-" + i, "presenter_id", "P-" + i, "session_id", "S-1");
+        }
+        List<String> boardIds = new ArrayList<>();
+
+        boolean complete = databaseManager.streamPosterBoards(board -> boardIds.add(board.getBoardId()));
+
+        assertTrue(complete);
+        assertEquals(25, boardIds.size());
+        assertEquals("B-0", boardIds.get(0));
+        assertEquals(List.of(Integer.MIN_VALUE), jdbc.fetchSizes(),
+            "Full-table loads must ask Connector/J to stream rows");
+    }
+
+    @Test
+    void testSaveSession_WritesOnlyAssignmentChanges() {
+        Session session = new Session("S-1", LocalDate.of(2025, 3, 10), "Auditorium A", PresentationType.ORAL);
+        for (int i = 0; i < 60; i++) {
+            jdbc.addRow("session_presenters", "session_id", "S-1", "presenter_id", "P-" + i);
+            session.addPresenter("P-" + i);
+        }
+        jdbc.addRow("session_evaluators", "session_id", "S-1", "evaluator_id", "EV-old");
+        session.addPresenter("P-new");
+        session.addEvaluator("EV-new");
+
+        databaseManager.saveSession(session);
+
+        List<String> updates = jdbc.updates();
+        assertEquals(1, updates.stream().filter(sql -> sql.startsWith("INSERT INTO session_presenters")).count());
+        assertEquals(0, updates.stream().filter(sql -> sql.startsWith("DELETE FROM session_presenters")).count());
+        assertEquals(1, updates.stream().filter(sql -> sql.startsWith("DELETE FROM session_evaluators")).count());
+        assertEquals(1, updates.stream().filter(sql -> sql.startsWith("INSERT INTO session_evaluators")).count());
+        assertTrue(updates.stream().noneMatch(sql -> sql.matches("(?s)DELETE FROM \\w+ WHERE session_id = \\?\\s*")),
+            "Assignments must not be cleared and rewritten: " + updates);
+    }
+
+    @Test
+    void testSaveSession_LoadedSessionWritesOnlyWhatChanged() {
+        jdbc.addRow("sessions", "session_id", "S-1", "session_date", Date.valueOf(LocalDate.of(2025, 3, 10)),
+            "venue", "Hall", "session_type", "ORAL");
+        jdbc.addRow("session_presenters", "session_id", "S-1", "presenter_id", "P-1");
+        Session session = databaseManager.getSession("S-1");
+        jdbc.reset();
+
+        databaseManager.saveSession(session);
+        assertEquals(0, jdbc.connectionCount(), "An unchanged session must not be written");
+
+        session.addPresenter("P-2");
+        databaseManager.saveSession(session);
+
+        assertEquals(List.of("UPDATE sessions SET updated_at = CURRENT_TIMESTAMP WHERE session_id = ?",
+            "INSERT INTO session_presenters (session_id, presenter_id) VALUES (?, ?)"), jdbc.updates());
+        assertFalse(session.getDirtyFields().isDirty("presenterIds"));
+    }
+
+    @Test
+    void testRunInTransaction_RollbackKeepsChangesDirty() {
+        jdbc.addRow("users", "id", 500, "username", "student", "password", "pw", "role", "PRESENTER");
+        Student student = (Student) databaseManager.getAllUsers().get("500");
+        student.setVoteCount(4);
+        jdbc.failUpdatesStartingWith("DELETE FROM poster_boards");
+
+        assertThrows(SQLException.class, () -> databaseManager.runInTransaction(() -> {
+            databaseManager.saveUser(student);
+            databaseManager.clearPosterBoard("B-1");
+        }));
+
+        assertTrue(student.getDirtyFields().isDirty("voteCount"));
+        jdbc.reset();
+        databaseManager.saveUser(student);
+        assertEquals(List.of("UPDATE users SET vote_count = ? WHERE id = ?"), jdbc.updates());
+    }
+
+    @Test
+    void testRunInTransaction_CommitsOnceOnOneConnection() throws Exception {
+        databaseManager.runInTransaction(() -> {
+            databaseManager.deleteEvaluation("E-1");
+            databaseManager.clearPosterBoard("B-1");
+            databaseManager.deleteSession("S-1");
+        });
+
+        assertEquals(1, jdbc.connectionCount());
+        assertEquals(1, jdbc.commitCount());
+        assertEquals(0, jdbc.rollbackCount());
+        assertEquals(3, jdbc.updates().size());
+    }
+
+    @Test
+    void testRunInTransaction_RollsBackWhenAStatementFails() {
+        jdbc.failUpdatesStartingWith("DELETE FROM poster_boards");
+
+        // clearPosterBoard logs and swallows its error, but the transaction must still roll back
+        SQLException error = assertThrows(SQLException.class, () -> databaseManager.runInTransaction(() -> {
+            databaseManager.deleteEvaluation("E-1");
+            databaseManager.clearPosterBoard("B-1");
+        }));
+
+        assertTrue(error.getMessage().contains("Simulated failure"));
+        assertEquals(0, jdbc.commitCount());
+        assertEquals(1, jdbc.rollbackCount());
+        assertFalse(databaseManager.isInTransaction());
+    }
+
+    @Test
+    void testReplica_ServesReadsUntilAWrite() {
+        FakeJdbc replica = new FakeJdbc();
+        replica.addRow("sessions", "session_id", "S-1", "session_date", Date.valueOf(LocalDate.of(2025, 3, 10)),
+            "venue", "Hall", "session_type", "ORAL");
+        DatabaseManager routed = new DatabaseManager(jdbc.dataSource(), replica.dataSource());
+
+        assertEquals("Hall", routed.getSession("S-1").getVenue());
+        assertEquals(0, jdbc.connectionCount());
+        assertEquals(1, routed.getReplicaReadCount());
+
+        // Right after a write the replica may not have the change yet
+        routed.deleteSession("S-2");
+        routed.getSession("S-1");
+        assertEquals(2, jdbc.connectionCount());
+        assertEquals(1, replica.connectionCount());
+    }
+
+    @Test
+    void testReplica_FallsBackToPrimaryWhenUnavailable() {
+        FakeJdbc replica = new FakeJdbc();
+        replica.setUnavailable(true);
+        jdbc.addRow("sessions", "session_id", "S-1", "session_date", Date.valueOf(LocalDate.of(2025, 3, 10)),
+            "venue", "Hall", "session_type", "ORAL");
+        DatabaseManager routed = new DatabaseManager(jdbc.dataSource(), replica.dataSource());
+
+        assertEquals("Hall", routed.getSession("S-1").getVenue());
+        assertEquals(1, routed.getReplicaFailureCount());
+        assertFalse(routed.isReplicaAvailable());
+
+        // Until the retry delay passes the replica is not asked again
+        replica.setUnavailable(false);
+        routed.getSession("S-1");
+        assertEquals(1, routed.getReplicaFailureCount());
+        assertEquals(0, replica.connectionCount());
+        assertEquals(2, jdbc.connectionCount());
+    }
+
+    @Test
+    void testReplica_ChangeTrackingStaysOnPrimary() {
+        FakeJdbc replica = new FakeJdbc();
+        DatabaseManager routed = new DatabaseManager(jdbc.dataSource(), replica.dataSource());
+
+        routed.getLiveIds("sessions");
+        routed.getLiveIds("users");
+
+        assertEquals(0, replica.connectionCount());
+        assertEquals(2, jdbc.connectionCount());
+    }
+}
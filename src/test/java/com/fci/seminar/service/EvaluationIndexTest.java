@@ -0,0 +1,85 @@
+package com.fci.seminar.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.RubricScores;
+
+/**
+ * Unit tests for EvaluationIndex grouping and re-indexing.
+ */
+class EvaluationIndexTest {
+
+    @Test
+    void testGroupsByPresenterEvaluatorAndPair() {
+        Evaluation first = evaluation("V1", "P1", "E1");
+        Evaluation second = evaluation("V2", "P1", "E2");
+        Evaluation third = evaluation("V3", "P2", "E1");
+        EvaluationIndex index = new EvaluationIndex();
+        index.rebuild(List.of(first, second, third));
+
+        assertEquals(List.of(first, second), index.getByPresenter("P1"));
+        assertEquals(List.of(first, third), index.getByEvaluator("E1"));
+        assertSame(second, index.getByPair("E2", "P1"));
+        assertNull(index.getByPair("E2", "P2"));
+        assertEquals(List.of(), index.getByPresenter("P9"));
+    }
+
+    @Test
+    void testReindexAndRemoveDropStaleEntries() {
+        Evaluation evaluation = evaluation("V1", "P1", "E1");
+        EvaluationIndex index = new EvaluationIndex();
+        index.put(evaluation);
+
+        evaluation.setPresenterId("P2");
+        index.put(evaluation);
+        assertEquals(List.of(), index.getByPresenter("P1"));
+        assertNull(index.getByPair("E1", "P1"));
+        assertSame(evaluation, index.getByPair("E1", "P2"));
+
+        index.remove("V1");
+        assertEquals(List.of(), index.getByEvaluator("E1"));
+        assertNull(index.getByPair("E1", "P2"));
+    }
+
+    @Test
+    void testScoreSummaryFollowsSubmitOverwriteAndDelete() {
+        Evaluation first = evaluation("V1", "P1", "E1");
+        first.setScores(new RubricScores(5, 5, 5, 5));
+        Evaluation second = evaluation("V2", "P1", "E2");
+        second.setScores(new RubricScores(10, 10, 10, 10));
+        EvaluationIndex index = new EvaluationIndex();
+        index.rebuild(List.of(first, second));
+
+        ScoreSummary summary = index.getScoreSummary("P1");
+        assertEquals(2, summary.getCount());
+        assertEquals(30.0, summary.getAverageScore(), 1e-9);
+        assertEquals(100.0, summary.getScoreVariance(), 1e-9);
+        assertEquals(7.5, summary.getMethodologyMean(), 1e-9);
+
+        // Overwrite subtracts the scores as first indexed, even after the entity changed
+        first.setScores(new RubricScores(5, 5, 1, 5));
+        Evaluation overwrite = evaluation("V1", "P1", "E1");
+        overwrite.setScores(new RubricScores(9, 9, 9, 9));
+        index.put(overwrite);
+        assertEquals(38.0, index.getScoreSummary("P1").getAverageScore(), 1e-9);
+
+        index.remove("V1");
+        index.remove("V2");
+        assertSame(ScoreSummary.EMPTY, index.getScoreSummary("P1"));
+        assertEquals(0.0, index.getScoreSummary("P1").getAverageScore());
+    }
+
+    private static Evaluation evaluation(String evaluationId, String presenterId, String evaluatorId) {
+        Evaluation evaluation = new Evaluation();
+        evaluation.setEvaluationId(evaluationId);
+        evaluation.setPresenterId(presenterId);
+        evaluation.setEvaluatorId(evaluatorId);
+        return evaluation;
+    }
+}
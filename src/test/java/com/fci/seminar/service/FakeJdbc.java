@@ -0,0 +1,299 @@
+package com.fci.seminar.service;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+/**
+ * Minimal in-memory JDBC stand-in for DatabaseManager tests.
+ * Answers simple "SELECT ... FROM table [WHERE column = ? | column >= ?]" queries
+ * and "(SELECT COUNT(*) FROM table) AS alias" lists from canned rows, and records
+ * every statement sent, so tests can assert on round-trip counts without a MySQL
+ * server. A range filter keeps rows without the column, since joins are not modelled.
+ */
+final class FakeJdbc {
+
+    private static final Pattern FROM = Pattern.compile("FROM\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHERE = Pattern.compile(
+        "WHERE\\s+(?:\\w+\\.)?(\\w+)\\s*(>?=)\\s*\\?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern COUNT = Pattern.compile(
+        "\\(SELECT COUNT\\(\\*\\) FROM (\\w+)(?: WHERE (\\w+) >= \\?)?\\) AS (\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SELECT_LIST = Pattern.compile(
+        "^\\s*SELECT\\s+(.+?)(?:\\s+FROM\\b.*)?$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final Map<String, List<Map<String, Object>>> tables = new HashMap<>();
+    private final List<String> queries = new ArrayList<>();
+    private final List<String> updates = new ArrayList<>();
+    private final List<Integer> fetchSizes = new ArrayList<>();
+    private int connections;
+    private int commits;
+    private int rollbacks;
+    private String failingUpdatePrefix;
+    private boolean unavailable;
+    private Timestamp serverTime;
+
+    /**
+     * Adds a row to a table.
+     * @param table the table name
+     * @param columnsAndValues alternating column names and values
+     */
+    void addRow(String table, Object... columnsAndValues) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < columnsAndValues.length; i += 2) {
+            row.put((String) columnsAndValues[i], columnsAndValues[i + 1]);
+        }
+        tables.computeIfAbsent(table, k -> new ArrayList<>()).add(row);
+    }
+
+    /** Number of queries executed since the last reset. */
+    int queryCount() {
+        return queries.size();
+    }
+
+    /** SQL of every query executed since the last reset. */
+    List<String> queries() {
+        return queries;
+    }
+
+    /** SQL of every update (including each batched entry) since the last reset. */
+    List<String> updates() {
+        return updates;
+    }
+
+    /** Fetch size requested on each statement that set one, since the last reset. */
+    List<Integer> fetchSizes() {
+        return fetchSizes;
+    }
+
+    /** Connections handed out since the last reset. */
+    int connectionCount() {
+        return connections;
+    }
+
+    int commitCount() {
+        return commits;
+    }
+
+    int rollbackCount() {
+        return rollbacks;
+    }
+
+    /** Makes every update whose SQL starts with the prefix fail with an SQLException. */
+    void failUpdatesStartingWith(String sqlPrefix) {
+        failingUpdatePrefix = sqlPrefix;
+    }
+
+    /** Removes every row of a table whose column holds the value. */
+    void deleteRows(String table, String column, Object value) {
+        tables.getOrDefault(table, new ArrayList<>()).removeIf(row -> value.equals(row.get(column)));
+    }
+
+    /** Sets the time answered to SELECT CURRENT_TIMESTAMP; unset, the query returns no row. */
+    void setServerTime(Timestamp serverTime) {
+        this.serverTime = serverTime;
+    }
+
+    void setUnavailable(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    void reset() {
+        queries.clear();
+        updates.clear();
+        fetchSizes.clear();
+        connections = 0;
+        commits = 0;
+        rollbacks = 0;
+    }
+
+    DataSource dataSource() {
+        return proxy(DataSource.class, (p, method, args) -> switch (method.getName()) {
+            case "getConnection" -> connection();
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    private Connection connection() throws SQLException {
+        if (unavailable) {
+            throw new SQLException("Simulated connection failure", "08S01");
+        }
+        connections++;
+        return proxy(Connection.class, (p, method, args) -> switch (method.getName()) {
+            case "prepareStatement" -> statement(PreparedStatement.class, (String) args[0]);
+            case "createStatement" -> statement(Statement.class, null);
+            case "getAutoCommit" -> true;
+            case "isValid" -> true;
+            case "commit" -> {
+                commits++;
+                yield null;
+            }
+            case "rollback" -> {
+                rollbacks++;
+                yield null;
+            }
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    private <T extends Statement> T statement(Class<T> type, String preparedSql) {
+        Map<Integer, Object> params = new HashMap<>();
+        return proxy(type, (p, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length == 2 && args[0] instanceof Integer index) {
+                params.put(index, args[1]);
+                return null;
+            }
+            return switch (name) {
+                case "executeQuery" -> {
+                    String sql = args != null && args.length > 0 ? (String) args[0] : preparedSql;
+                    queries.add(sql);
+                    yield resultSet(select(sql, params.get(1)), selectedColumns(sql));
+                }
+                case "executeUpdate" -> {
+                    String sql = args != null && args.length > 0 ? (String) args[0] : preparedSql;
+                    if (failingUpdatePrefix != null && sql.startsWith(failingUpdatePrefix)) {
+                        throw new SQLException("Simulated failure: " + sql);
+                    }
+                    updates.add(sql);
+                    yield 1;
+                }
+                case "execute" -> {
+                    updates.add((String) args[0]);
+                    yield false;
+                }
+                case "addBatch" -> {
+                    updates.add(args != null && args.length > 0 ? (String) args[0] : preparedSql);
+                    yield null;
+                }
+                case "executeBatch" -> new int[0];
+                case "setFetchSize" -> {
+                    fetchSizes.add((Integer) args[0]);
+                    yield null;
+                }
+                case "getGeneratedKeys" -> resultSet(List.of(), List.of());
+                default -> defaultValue(method.getReturnType());
+            };
+        });
+    }
+
+    private List<Map<String, Object>> select(String sql, Object param) {
+        Matcher count = COUNT.matcher(sql);
+        if (count.find()) {
+            Map<String, Object> counts = new HashMap<>();
+            do {
+                String column = count.group(2);
+                counts.put(count.group(3), tables.getOrDefault(count.group(1), List.of()).stream()
+                    .filter(row -> column == null || matches(row, column, ">=", param)).count());
+            } while (count.find());
+            return List.of(counts);
+        }
+        Matcher from = FROM.matcher(sql);
+        if (!from.find()) {
+            return sql.contains("CURRENT_TIMESTAMP") && serverTime != null
+                ? List.of(Map.of("CURRENT_TIMESTAMP", serverTime)) : List.of();
+        }
+        List<Map<String, Object>> rows = tables.getOrDefault(from.group(1), List.of());
+        Matcher where = WHERE.matcher(sql);
+        if (!where.find()) {
+            return rows;
+        }
+        List<Map<String, Object>> filtered = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            if (matches(row, where.group(1), where.group(2), param)) {
+                filtered.add(row);
+            }
+        }
+        return filtered;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean matches(Map<String, Object> row, String column, String operator, Object param) {
+        Object value = row.get(column);
+        if (operator.equals("=")) {
+            return String.valueOf(value).equals(String.valueOf(param));
+        }
+        return value == null || ((Comparable) value).compareTo(param) >= 0;
+    }
+
+    /** Column names of a plain SELECT list, so getters by index can be answered. */
+    private static List<String> selectedColumns(String sql) {
+        Matcher select = SELECT_LIST.matcher(sql);
+        if (!select.matches()) {
+            return List.of();
+        }
+        List<String> columns = new ArrayList<>();
+        for (String column : select.group(1).split(",")) {
+            String[] words = column.trim().split("[\\s.]+");
+            columns.add(words[words.length - 1]);
+        }
+        return columns;
+    }
+
+    private ResultSet resultSet(List<Map<String, Object>> rows, List<String> columns) {
+        int[] cursor = {-1};
+        return proxy(ResultSet.class, (p, method, args) -> {
+            switch (method.getName()) {
+                case "next":
+                    cursor[0]++;
+                    return cursor[0] < rows.size();
+                case "close":
+                    return null;
+                default:
+                    break;
+            }
+            if (args == null || args.length != 1 || !method.getName().startsWith("get")
+                    || cursor[0] < 0 || cursor[0] >= rows.size()) {
+                return defaultValue(method.getReturnType());
+            }
+            Object column = args[0] instanceof Integer index && index >= 1 && index <= columns.size()
+                ? columns.get(index - 1) : args[0];
+            Object value = rows.get(cursor[0]).get(String.valueOf(column));
+            Class<?> returnType = method.getReturnType();
+            if (value == null) {
+                return defaultValue(returnType);
+            }
+            if (returnType == String.class) {
+                return String.valueOf(value);
+            }
+            if (returnType == int.class && value instanceof Number number) {
+                return number.intValue();
+            }
+            return value;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(FakeJdbc.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.fci.seminar.service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fci.seminar.model.Award;
+import com.fci.seminar.model.AwardType;
+import com.fci.seminar.model.Evaluator;
+import com.fci.seminar.model.PresentationType;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.Student;
+import com.fci.seminar.model.User;
+
+/**
+ * Unit tests for LogStorageBackend replay, crash recovery and compaction.
+ */
+class LogStorageBackendTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testDataSurvivesReopen() throws Exception {
+        LogStorageBackend backend = LogStorageBackend.open(tempDir);
+        Student student = new Student(null, "alice", "pw");
+        backend.saveUser(student);
+        Evaluator evaluator = new Evaluator("EVAL", "eva", "pw");
+        evaluator.setEvaluatorId("EV-1");
+        backend.saveUser(evaluator);
+        Session session = new Session("S1", LocalDate.of(2025, 3, 14), "Hall A", PresentationType.ORAL);
+        session.setEvaluatorIds(List.of("EV-1"));
+        backend.saveSession(session);
+        backend.saveAward(new Award(AwardType.BEST_ORAL, "P1", 30));
+        backend.close();
+
+        backend = LogStorageBackend.open(tempDir);
+        try {
+            assertEquals("1", student.getId());
+            assertEquals("alice", backend.getUser("1").getUsername());
+            assertEquals(List.of("S1"), ((Evaluator) backend.findUser("evaluator_id", "ev-1")).getAssignedSessionIds());
+            assertEquals(List.of("Hall A"), backend.getAllVenues());
+            assertEquals(1, backend.getAllAwards().size());
+            // The next generated ID continues after the replayed ones
+            User next = new Student(null, "bob", "pw");
+            backend.saveUser(next);
+            assertEquals("2", next.getId());
+        } finally {
+            backend.close();
+        }
+    }
+
+    @Test
+    void testTornTailAndPartialTransactionAreDiscarded() throws Exception {
+        LogStorageBackend backend = LogStorageBackend.open(tempDir);
+        backend.saveSession(new Session("S1", null, "Hall", PresentationType.ORAL));
+        long committed = backend.getLogSize();
+        backend.runInTransaction(() -> {
+            backend.saveSession(new Session("S2", null, "Hall", PresentationType.ORAL));
+            backend.saveSession(new Session("S3", null, "Hall", PresentationType.ORAL));
+        });
+        long afterTransaction = backend.getLogSize();
+        backend.close();
+
+        // Simulate a crash part-way through writing the transaction
+        try (FileChannel log = FileChannel.open(tempDir.resolve("seminar.log"), StandardOpenOption.WRITE)) {
+            log.truncate(afterTransaction - 5);
+        }
+        LogStorageBackend reopened = LogStorageBackend.open(tempDir);
+        try {
+            assertNotNull(reopened.getSession("S1"));
+            assertNull(reopened.getSession("S2"));
+            assertNull(reopened.getSession("S3"));
+            assertEquals(committed, reopened.getLogSize());
+            assertEquals(committed, Files.size(tempDir.resolve("seminar.log")));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void testCompactionKeepsOnlyLiveRecords() throws Exception {
+        LogStorageBackend backend = LogStorageBackend.open(tempDir);
+        Student student = new Student("1", "alice", "pw");
+        for (int i = 0; i < 2_000; i++) {
+            student.setAbstractText("Draft " + i + " " + "x".repeat(1_000));
+            backend.saveUser(student);
+        }
+        assertTrue(backend.getCompactionCount() > 0);
+        assertTrue(backend.getLogSize() < 1 << 20);
+        backend.close();
+
+        backend = LogStorageBackend.open(tempDir);
+        try {
+            assertTrue(((Student) backend.getUser("1")).getAbstractText().startsWith("Draft 1999 "));
+            assertEquals(1, backend.getLiveIds("users").size());
+        } finally {
+            backend.close();
+        }
+    }
+
+    @Test
+    void testSecondProcessCannotOpenTheSameLog() throws Exception {
+        LogStorageBackend backend = LogStorageBackend.open(tempDir);
+        try {
+            assertThrows(IOException.class, () -> LogStorageBackend.open(tempDir));
+        } finally {
+            backend.close();
+        }
+    }
+
+    @Test
+    void testDataStoreRunsOnTheLog() throws Exception {
+        LogStorageBackend backend = LogStorageBackend.open(tempDir);
+        DataStore store = new DataStore(backend);
+        store.addUser(new Student(null, "alice", "pw"));
+        store.addSession(new Session("S1", null, "Hall", PresentationType.POSTER));
+        backend.close();
+
+        backend = LogStorageBackend.open(tempDir);
+        try {
+            DataStore reloaded = new DataStore(backend);
+            assertNotNull(reloaded.findUserByUsername("alice"));
+            assertNotNull(reloaded.getSession("S1"));
+        } finally {
+            backend.close();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.fci.seminar.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.fci.seminar.model.PresentationType;
+import com.fci.seminar.model.Session;
+
+/**
+ * Unit tests for ScheduleIndex participant and date lookups.
+ */
+class ScheduleIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 14);
+
+    @Test
+    void testIndexesPresentersAndEvaluatorsByDate() {
+        Session morning = new Session("S1", DAY, "Hall A", PresentationType.ORAL);
+        morning.addPresenter("P1");
+        morning.addEvaluator("EV-1");
+        Session nextDay = new Session("S2", DAY.plusDays(1), "Hall B", PresentationType.POSTER);
+        nextDay.addPresenter("P1");
+        ScheduleIndex index = new ScheduleIndex();
+        index.rebuild(List.of(morning, nextDay));
+
+        assertEquals(List.of("S1"), index.getSessionIds("P1", DAY));
+        assertEquals(List.of("S2"), index.getSessionIds("P1", DAY.plusDays(1)));
+        assertEquals(List.of("S1"), index.getSessionIds("EV-1", DAY));
+        assertEquals(List.of(), index.getSessionIds("EV-1", DAY.plusDays(1)));
+    }
+
+    @Test
+    void testReindexFollowsRemovalsAndDateChanges() {
+        Session session = new Session("S1", DAY, "Hall A", PresentationType.ORAL);
+        session.addPresenter("P1");
+        session.addPresenter("P2");
+        ScheduleIndex index = new ScheduleIndex();
+        index.put(session);
+
+        session.removePresenter("P1");
+        session.setDate(DAY.plusDays(2));
+        index.put(session);
+        assertEquals(List.of(), index.getSessionIds("P1", DAY));
+        assertEquals(List.of(), index.getSessionIds("P2", DAY));
+        assertEquals(List.of("S1"), index.getSessionIds("P2", DAY.plusDays(2)));
+
+        index.remove("S1");
+        assertEquals(List.of(), index.getSessionIds("P2", DAY.plusDays(2)));
+    }
+}
@@ -0,0 +1,65 @@
+package com.fci.seminar.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SchemaMigrator version tracking, run against FakeJdbc.
+ */
+class SchemaMigratorTest {
+
+    private FakeJdbc jdbc;
+    private SchemaMigrator migrator;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new FakeJdbc();
+        migrator = new SchemaMigrator(new DatabaseManager(jdbc.dataSource()));
+    }
+
+    @Test
+    void testFreshDatabase_AppliesAllMigrationsInOrder() throws Exception {
+        int version = migrator.migrate();
+
+        List<String> updates = jdbc.updates();
+        assertEquals(3, version);
+        assertTrue(updates.get(0).contains("CREATE TABLE IF NOT EXISTS schema_version"));
+        assertEquals(11, updates.stream().filter(sql -> sql.contains(" INDEX ")).count());
+        assertTrue(updates.contains(
+            "CREATE UNIQUE INDEX uq_evaluations_evaluator_presenter ON evaluations (evaluator_id, presenter_id)"));
+        assertEquals(3, updates.stream().filter(sql -> sql.startsWith("INSERT INTO schema_version")).count());
+    }
+
+    @Test
+    void testUniqueIndex_RemovesDuplicatesFirst() throws Exception {
+        migrator.migrate();
+
+        List<String> updates = jdbc.updates();
+        int cleanup = -1;
+        for (int i = 0; i < updates.size(); i++) {
+            if (updates.get(i).startsWith("DELETE older FROM evaluations")) {
+                cleanup = i;
+            }
+        }
+        assertTrue(cleanup >= 0, "Duplicate evaluations must be removed: " + updates);
+        assertEquals(
+            "CREATE UNIQUE INDEX uq_evaluations_evaluator_presenter ON evaluations (evaluator_id, presenter_id)",
+            updates.get(cleanup + 1));
+    }
+
+    @Test
+    void testExistingIndexes_AreNotCreatedTwice() throws Exception {
+        // Stands in for information_schema.STATISTICS; the fake does not filter by table
+        jdbc.addRow("information_schema", "INDEX_NAME", "idx_existing", "NON_UNIQUE", 1,
+            "COLUMN_NAME", "session_id");
+
+        migrator.migrate();
+
+        assertTrue(jdbc.updates().stream().noneMatch(sql -> sql.contains("(session_id)")),
+            "Indexes already covered by an existing index must be skipped: " + jdbc.updates());
+    }
+}
@@ -0,0 +1,63 @@
+package com.fci.seminar.service;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.RubricScores;
+
+/**
+ * Unit tests for ScoreColumns appends, deletes and scans.
+ */
+class ScoreColumnsTest {
+
+    @Test
+    void testGrowsAndSummarizesAllRows() {
+        ScoreColumns columns = new ScoreColumns();
+        for (int i = 0; i < 200; i++) {
+            columns.put(evaluation("V" + i, "P" + (i % 4), "E1", new RubricScores(1 + i % 10, 5, 5, 5)));
+        }
+
+        assertEquals(200, columns.size());
+        ScoreSummary summary = columns.summarize();
+        assertEquals(200, summary.getCount());
+        assertEquals(5.5, summary.getProblemClarityMean(), 1e-9);
+        assertEquals(20.5, summary.getAverageScore(), 1e-9);
+        assertEquals(4, columns.summarizeBy(ScoreColumns.Dimension.PRESENTER).size());
+    }
+
+    @Test
+    void testRemoveMovesLastRowAndKeepsGroupsRight() {
+        ScoreColumns columns = new ScoreColumns();
+        columns.put(evaluation("V1", "P1", "E1", new RubricScores(10, 10, 10, 10)));
+        columns.put(evaluation("V2", "P2", "E1", new RubricScores(1, 1, 1, 1)));
+        columns.put(evaluation("V3", "P2", "E2", new RubricScores(3, 3, 3, 3)));
+
+        columns.remove("V1");
+        // V3 now sits in the freed row; replacing it must not disturb V2
+        columns.put(evaluation("V3", "P2", "E2", new RubricScores(5, 5, 5, 5)));
+
+        Map<String, ScoreSummary> byPresenter = columns.summarizeBy(ScoreColumns.Dimension.PRESENTER);
+        assertEquals(1, byPresenter.size());
+        assertEquals(2, byPresenter.get("P2").getCount());
+        assertEquals(12.0, byPresenter.get("P2").getAverageScore(), 1e-9);
+        assertEquals(1, columns.summarizeBy(ScoreColumns.Dimension.EVALUATOR).get("E2").getCount());
+
+        int[] histogram = columns.totalScoreHistogram();
+        assertEquals(1, histogram[4]);
+        assertEquals(1, histogram[20]);
+        assertEquals(0, histogram[40]);
+    }
+
+    private static Evaluation evaluation(String evaluationId, String presenterId, String evaluatorId,
+                                         RubricScores scores) {
+        Evaluation evaluation = new Evaluation();
+        evaluation.setEvaluationId(evaluationId);
+        evaluation.setPresenterId(presenterId);
+        evaluation.setEvaluatorId(evaluatorId);
+        evaluation.setScores(scores);
+        return evaluation;
+    }
+}
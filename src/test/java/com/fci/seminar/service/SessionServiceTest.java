@@ -0,0 +1,81 @@
+package com.fci.seminar.service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fci.seminar.model.PresentationType;
+import com.fci.seminar.model.Session;
+
+/**
+ * Unit tests for SessionService bulk conflict checks, run on an in-memory DataStore.
+ */
+class SessionServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 14);
+
+    private DataStore store;
+    private SessionService sessionService;
+
+    @BeforeEach
+    void setUp() {
+        store = new DataStore((DatabaseManager) null);
+        sessionService = new SessionService(store);
+        Session morning = new Session("S1", DAY, "Hall A", PresentationType.ORAL);
+        morning.addPresenter("P1");
+        morning.addEvaluator("EV-1");
+        store.addSession(morning);
+        store.addSession(new Session("S2", DAY, "Hall B", PresentationType.ORAL));
+        store.addSession(new Session("S3", DAY, "Hall C", PresentationType.POSTER));
+        store.addSession(new Session("S4", DAY.plusDays(1), "Hall A", PresentationType.ORAL));
+    }
+
+    private static String describe(AssignmentConflict conflict) {
+        return conflict.getParticipantId() + " " + conflict.getSessionId() + "->"
+            + conflict.getConflictingSessionId();
+    }
+
+    @Test
+    void testFindConflicts_CleanBatch() {
+        Map<String, List<String>> batch = new LinkedHashMap<>();
+        batch.put("S2", List.of("P2", "EV-2"));
+        batch.put("S4", List.of("P1", "EV-1"));
+
+        assertTrue(sessionService.findConflicts(batch).isEmpty());
+    }
+
+    @Test
+    void testFindConflicts_WithExistingSession() {
+        List<AssignmentConflict> conflicts = sessionService.findConflicts(Map.of("S2", List.of("P1", "EV-1")));
+
+        assertEquals(List.of("P1 S2->S1", "EV-1 S2->S1"),
+            conflicts.stream().map(SessionServiceTest::describe).toList());
+        assertEquals(DAY, conflicts.get(0).getDate());
+    }
+
+    @Test
+    void testFindConflicts_BetweenSessionsInTheSameBatch() {
+        Map<String, List<String>> batch = new LinkedHashMap<>();
+        batch.put("S2", List.of("P2"));
+        batch.put("S3", List.of("P2"));
+
+        assertEquals(List.of("P2 S3->S2"),
+            sessionService.findConflicts(batch).stream().map(SessionServiceTest::describe).toList());
+    }
+
+    @Test
+    void testFindConflicts_CurrentRosterIsNotAConflict() {
+        assertTrue(sessionService.findConflicts(Map.of("S1", List.of("P1", "EV-1"))).isEmpty());
+    }
+
+    @Test
+    void testFindConflicts_DuplicateInOneSessionIsNotAConflict() {
+        assertTrue(sessionService.findConflicts(Map.of("S2", List.of("P2", "P2"))).isEmpty());
+    }
+}
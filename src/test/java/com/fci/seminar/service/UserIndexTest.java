@@ -0,0 +1,54 @@
+package com.fci.seminar.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import com.fci.seminar.model.Evaluator;
+import com.fci.seminar.model.Student;
+
+/**
+ * Unit tests for UserIndex lookups and re-indexing.
+ */
+class UserIndexTest {
+
+    @Test
+    void testLookupsByEveryKey() {
+        Student student = new Student("1", "Alice", "pw");
+        student.setStudentId("s1001");
+        student.setPresenterId("P1");
+        Evaluator evaluator = new Evaluator("2", "bob", "pw");
+        evaluator.setEvaluatorId("E2");
+        UserIndex index = new UserIndex();
+        index.rebuild(List.of(student, evaluator));
+
+        assertSame(student, index.getByUsername("Alice"));
+        assertNull(index.getByUsername("alice"));
+        assertSame(student, index.getByUsernameIgnoreCase("ALICE"));
+        assertSame(student, index.getByStudentId("S1001"));
+        assertSame(student, index.getByPresenterId("P1"));
+        assertSame(evaluator, index.getByEvaluatorId("E2"));
+    }
+
+    @Test
+    void testReindexAfterInPlaceChangeDropsStaleKeys() {
+        Student student = new Student("1", "alice", "pw");
+        student.setPresenterId("P1");
+        UserIndex index = new UserIndex();
+        index.put(student);
+
+        student.setUsername("alice2");
+        student.setPresenterId("P9");
+        index.put(student);
+
+        assertNull(index.getByUsername("alice"));
+        assertNull(index.getByPresenterId("P1"));
+        assertSame(student, index.getByUsername("alice2"));
+        assertSame(student, index.getByPresenterId("P9"));
+
+        index.remove("1");
+        assertNull(index.getByUsername("alice2"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.fci.seminar.service;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for VersionedMap snapshots.
+ */
+class VersionedMapTest {
+
+    @Test
+    void testSnapshotIsReusedUntilNextWrite() {
+        VersionedMap<String, String> map = new VersionedMap<>(Map.of("a", "1"));
+        Map<String, String> first = map.snapshot();
+        assertSame(first, map.snapshot());
+
+        map.remove("missing");
+        assertSame(first, map.snapshot());
+
+        map.put("b", "2");
+        Map<String, String> second = map.snapshot();
+        assertNotSame(first, second);
+        assertEquals(Map.of("a", "1"), first);
+        assertEquals(Map.of("a", "1", "b", "2"), second);
+    }
+
+    @Test
+    void testSnapshotIsReadOnly() {
+        VersionedMap<String, String> map = new VersionedMap<>();
+        map.put("a", "1");
+        assertThrows(UnsupportedOperationException.class, () -> map.snapshot().put("b", "2"));
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().removeIf(key -> true));
+        assertEquals(1, map.size());
+    }
+}
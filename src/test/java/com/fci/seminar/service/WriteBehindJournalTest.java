@@ -0,0 +1,158 @@
+package com.fci.seminar.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for WriteBehindJournal coalescing, ordering, draining and pausing.
+ */
+class WriteBehindJournalTest {
+
+    @Test
+    void testRepeatedWritesToSameKeyAreCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<String> written = new CopyOnWriteArrayList<>();
+        WriteBehindJournal journal = new WriteBehindJournal(100, 10);
+
+        // Hold the writer so the following writes queue up behind it
+        journal.submit("blocker", () -> {
+            started.countDown();
+            awaitQuietly(gate);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            int version = i;
+            journal.submit("user:1", () -> written.add("user:1 v" + version));
+        }
+        journal.submit("user:2", () -> written.add("user:2"));
+        gate.countDown();
+
+        assertTrue(journal.flush(5, TimeUnit.SECONDS));
+        assertEquals(List.of("user:1 v4", "user:2"), written);
+        assertEquals(4, journal.getMetrics().getCoalescedWrites());
+        assertEquals(0, journal.getMetrics().getQueueDepth());
+        journal.close(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testUnkeyedWritesAreNeverMerged() throws Exception {
+        List<String> written = new CopyOnWriteArrayList<>();
+        WriteBehindJournal journal = new WriteBehindJournal(100, 10);
+
+        journal.submit(null, () -> written.add("clear"));
+        journal.submit(null, () -> written.add("add"));
+        journal.submit(null, () -> written.add("clear"));
+
+        assertTrue(journal.flush(5, TimeUnit.SECONDS));
+        assertEquals(List.of("clear", "add", "clear"), written);
+        journal.close(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testRemovalDoesNotOvertakeWritesThatReferToIt() throws Exception {
+        List<String> written = new CopyOnWriteArrayList<>();
+        WriteBehindJournal journal = new WriteBehindJournal(100, 10);
+        journal.pause();
+
+        journal.submit("session:S", () -> written.add("save S"));
+        journal.submit("board:B", () -> written.add("save B -> S"));
+        journal.submitRemoval("session:S", () -> written.add("delete S"));
+        journal.submit("board:B", () -> written.add("save B"));
+        // Re-adding the entity must not merge into the save queued before the removal
+        journal.submit("session:S", () -> written.add("save S again"));
+        journal.submit("session:S", () -> written.add("save S latest"));
+        journal.resume();
+
+        assertTrue(journal.flush(5, TimeUnit.SECONDS));
+        assertEquals(List.of("save S", "save B", "delete S", "save S latest"), written);
+        assertEquals(2, journal.getMetrics().getCoalescedWrites());
+        journal.close(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testFailedWriteIsRequeuedAheadOfItsRemoval() throws Exception {
+        List<String> written = new CopyOnWriteArrayList<>();
+        AtomicBoolean reachable = new AtomicBoolean(false);
+        WriteBehindJournal[] journal = new WriteBehindJournal[1];
+        journal[0] = new WriteBehindJournal(100, 10, writes -> {
+            if (!reachable.get()) {
+                journal[0].pause();
+                throw new IllegalStateException("unreachable");
+            }
+            writes.forEach(Runnable::run);
+        });
+
+        journal[0].submit("session:S", () -> written.add("save S"));
+        journal[0].submit("board:B", () -> written.add("save B -> S"));
+        assertFalse(journal[0].flush(200, TimeUnit.MILLISECONDS));
+        journal[0].submitRemoval("session:S", () -> written.add("delete S"));
+
+        reachable.set(true);
+        journal[0].resume();
+        assertTrue(journal[0].flush(5, TimeUnit.SECONDS));
+        assertEquals(List.of("save S", "save B -> S", "delete S"), written);
+        journal[0].close(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testCloseDrainsPendingWrites() {
+        List<Integer> written = new CopyOnWriteArrayList<>();
+        WriteBehindJournal journal = new WriteBehindJournal(1000, 7);
+
+        for (int i = 0; i < 250; i++) {
+            int value = i;
+            journal.submit("k" + i, () -> written.add(value));
+        }
+
+        assertTrue(journal.close(5, TimeUnit.SECONDS));
+        assertEquals(250, written.size());
+        assertEquals(249, written.get(written.size() - 1));
+        assertThrows(IllegalStateException.class, () -> journal.submit("late", () -> { }));
+    }
+
+    @Test
+    void testFailedBatchIsKeptWhilePaused() throws Exception {
+        List<String> written = new CopyOnWriteArrayList<>();
+        AtomicBoolean reachable = new AtomicBoolean(false);
+        WriteBehindJournal[] journal = new WriteBehindJournal[1];
+        journal[0] = new WriteBehindJournal(100, 10, writes -> {
+            if (!reachable.get()) {
+                journal[0].pause();
+                throw new IllegalStateException("unreachable");
+            }
+            writes.forEach(Runnable::run);
+        });
+
+        journal[0].submit("user:1", () -> written.add("user:1 v1"));
+        assertFalse(journal[0].flush(200, TimeUnit.MILLISECONDS));
+        assertTrue(journal[0].isPaused());
+        assertTrue(journal[0].hasPending());
+        // A newer write for the same entity replaces the one that failed
+        journal[0].submit("user:1", () -> written.add("user:1 v2"));
+        journal[0].submit("user:2", () -> written.add("user:2"));
+
+        reachable.set(true);
+        journal[0].resume();
+        assertTrue(journal[0].flush(5, TimeUnit.SECONDS));
+        assertEquals(List.of("user:1 v2", "user:2"), written);
+        journal[0].close(5, TimeUnit.SECONDS);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
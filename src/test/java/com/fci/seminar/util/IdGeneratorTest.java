@@ -0,0 +1,57 @@
+package com.fci.seminar.util;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fci.seminar.util.IdGenerator.IdType;
+
+/**
+ * Unit tests for IdGenerator formats, collision checks and block reservation.
+ */
+class IdGeneratorTest {
+
+    @Test
+    void testFormatIsPrefixAndTwentyHexCharacters() {
+        assertTrue(IdGenerator.generateEvaluationId().matches("E-[0-9a-f]{20}"));
+        assertTrue(IdGenerator.generateEvaluatorId().matches("EV-[0-9a-f]{20}"));
+        assertEquals("B007", IdGenerator.generateBoardId(7));
+    }
+
+    @Test
+    void testParallelGenerationIsUnique() {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(IdGenerator.generate(IdType.SESSION)));
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    void testTakenIdsAreRetried() {
+        Set<String> rejected = new HashSet<>();
+        String id = IdGenerator.generate(IdType.EVALUATION, candidate -> rejected.size() < 3 && rejected.add(candidate));
+        assertEquals(3, rejected.size());
+        assertFalse(rejected.contains(id));
+        assertThrows(IllegalStateException.class, () -> IdGenerator.generate(IdType.USER, candidate -> true));
+    }
+
+    @Test
+    void testReserveReturnsOrderedFreeBlock() {
+        Set<String> taken = new HashSet<>();
+        List<String> first = IdGenerator.reserve(IdType.PRESENTER, 5, taken::contains);
+        taken.add(first.get(2));
+
+        List<String> ids = IdGenerator.reserve(IdType.PRESENTER, 500, taken::contains);
+        assertEquals(500, ids.size());
+        assertEquals(500, new HashSet<>(ids).size());
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertFalse(ids.contains(first.get(2)));
+    }
+}